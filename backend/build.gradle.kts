@@ -7,6 +7,7 @@ plugins {
     kotlin("plugin.jpa") version "1.9.25"
     id("org.springframework.boot") version "3.5.3"
     id("io.spring.dependency-management") version "1.1.7"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com.devmatch"
@@ -23,6 +24,7 @@ kotlin {
 }
 
 extra["springAiVersion"] = "1.0.0"
+extra["resilience4jVersion"] = "2.2.0"
 
 configurations {
     compileOnly {
@@ -30,6 +32,13 @@ configurations {
     }
 }
 
+// 부하 테스트 하네스. 애플리케이션과 분리된 별도 소스셋으로 두고 ./gradlew loadTest 로 실행
+sourceSets {
+    create("loadTest")
+}
+
+val loadTestImplementation: Configuration by configurations.getting
+
 repositories {
     mavenCentral()
     maven { url = uri("https://repo.spring.io/milestone") }
@@ -37,6 +46,7 @@ repositories {
 
 dependencies {
     implementation(platform("org.springframework.ai:spring-ai-bom:${property("springAiVersion")}"))
+    implementation(platform("io.github.resilience4j:resilience4j-bom:${property("resilience4jVersion")}"))
 
     // Kotlin dependencies
     implementation("org.jetbrains.kotlin:kotlin-reflect")
@@ -54,6 +64,19 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-validation")
     implementation("org.springframework.boot:spring-boot-starter-web")
     implementation("org.springframework.ai:spring-ai-starter-model-openai")
+    implementation("com.github.ben-manes.caffeine:caffeine")
+    implementation("io.github.resilience4j:resilience4j-spring-boot3")
+    implementation("io.github.resilience4j:resilience4j-reactor")
+    implementation("io.github.resilience4j:resilience4j-micrometer")
+
+    // 지표(Prometheus)와 트레이스(OpenTelemetry, OTLP 전송). JDBC 문장도 span으로 남긴다
+    implementation("org.springframework.boot:spring-boot-starter-aop")
+    implementation("io.micrometer:micrometer-registry-prometheus")
+    implementation("io.micrometer:micrometer-tracing-bridge-otel")
+    implementation("io.opentelemetry:opentelemetry-exporter-otlp")
+    implementation("net.ttddyy.observation:datasource-micrometer-spring-boot:1.0.6")
+    // 가상 스레드 고정(pinning) 지표 (jvm.threads.virtual.pinned)
+    implementation("io.micrometer:micrometer-java21")
     compileOnly("org.projectlombok:lombok")
     developmentOnly("org.springframework.boot:spring-boot-devtools")
     runtimeOnly("com.h2database:h2")
@@ -65,6 +88,9 @@ dependencies {
     testImplementation("org.springframework.security:spring-security-test")
     testImplementation("org.jetbrains.kotlin:kotlin-test-junit5")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+
+    // Load test dependencies
+    loadTestImplementation("com.fasterxml.jackson.module:jackson-module-kotlin")
 }
 
 tasks.withType<Test> {
@@ -78,6 +104,41 @@ tasks.withType<KotlinCompile> {
     }
 }
 
+// 마이크로 벤치마크 (src/jmh). ./gradlew jmh -Pjmh.includes=JwtPayloadBenchmark 처럼 골라서 실행
+// gc 프로파일러로 호출당 할당량(gc.alloc.rate.norm)도 함께 기록하고, 결과는 build/results/jmh/results.json 에 남겨
+// 변경 전후 결과를 비교한다
+jmh {
+    warmupIterations = 2
+    iterations = 5
+    fork = 1
+    benchmarkMode = listOf("avgt")
+    timeUnit = "us"
+    profilers = (findProperty("jmh.profilers")?.toString() ?: "gc").split(",")
+    resultFormat = "JSON"
+    findProperty("jmh.includes")?.let { includes = listOf(it.toString()) }
+}
+
+tasks.register<JavaExec>("loadTest") {
+    description = "실행 중인 서버에 가상 사용자 부하를 걸고 지연 분포와 처리량을 출력합니다."
+    group = "verification"
+    classpath = sourceSets["loadTest"].runtimeClasspath
+    mainClass = "com.devmatch.backend.loadtest.AnalysisLoadTestKt"
+}
+
+tasks.register<JavaExec>("compressionBenchmark") {
+    description = "목록 조회 API의 응답 크기와 지연을 압축 없음, gzip, 304(ETag) 별로 비교합니다."
+    group = "verification"
+    classpath = sourceSets["loadTest"].runtimeClasspath
+    mainClass = "com.devmatch.backend.loadtest.CompressionBenchmarkKt"
+}
+
+tasks.register<JavaExec>("threadModelBenchmark") {
+    description = "느린 LLM 호출을 기다리는 동시 요청을 플랫폼 스레드 서버와 가상 스레드 서버에 걸어 처리량과 지연을 비교합니다."
+    group = "verification"
+    classpath = sourceSets["loadTest"].runtimeClasspath
+    mainClass = "com.devmatch.backend.loadtest.ThreadModelBenchmarkKt"
+}
+
 tasks.jar {
     enabled = false
 }
\ No newline at end of file
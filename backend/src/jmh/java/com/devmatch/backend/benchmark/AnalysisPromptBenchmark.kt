@@ -0,0 +1,41 @@
+package com.devmatch.backend.benchmark
+
+import com.devmatch.backend.domain.analysis.parser.AnalysisResponseParser
+import com.devmatch.backend.domain.analysis.prompt.AnalysisPrompts
+import com.devmatch.backend.domain.application.entity.Application
+import com.devmatch.backend.domain.project.entity.Project
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+
+// 분석 한 건마다 만드는 프롬프트. 지원자의 기술 수와 팀 규모에 따라 길이가 늘어난다
+@State(Scope.Benchmark)
+open class AnalysisPromptBenchmark {
+    @Param("4", "8")
+    var skills: Int = 0
+
+    @Param("5")
+    var teamSize: Int = 0
+
+    private lateinit var project: Project
+    private lateinit var application: Application
+    private lateinit var team: List<Application>
+    private lateinit var responseFormat: String
+
+    @Setup
+    fun setup() {
+        project = BenchmarkFixtures.project()
+        application = BenchmarkFixtures.application(10L, project, skills)
+        team = List(teamSize) { BenchmarkFixtures.application(100L + it, project, skills) }
+        responseFormat = AnalysisResponseParser(SimpleMeterRegistry()).format
+    }
+
+    @Benchmark
+    fun compatibility(): String = AnalysisPrompts.compatibility(project, application.skillScore, responseFormat)
+
+    @Benchmark
+    fun roleAssignment(): String = AnalysisPrompts.roleAssignment(project, team)
+}
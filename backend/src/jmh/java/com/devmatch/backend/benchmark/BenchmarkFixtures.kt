@@ -0,0 +1,35 @@
+package com.devmatch.backend.benchmark
+
+import com.devmatch.backend.domain.application.entity.Application
+import com.devmatch.backend.domain.application.entity.SkillScore
+import com.devmatch.backend.domain.project.entity.Project
+import com.devmatch.backend.domain.user.entity.User
+import java.time.LocalDateTime
+
+// 벤치마크용 엔티티. ID와 감사 필드는 DB가 채우는 값이라 리플렉션으로 넣는다
+object BenchmarkFixtures {
+    private val TECHS = listOf("Java", "Spring Boot", "React", "PostgreSQL", "Docker", "Kotlin", "TypeScript", "Redis")
+
+    fun project(techCount: Int = 4): Project =
+        Project(
+            title = "벤치마크 프로젝트",
+            description = "사이드 프로젝트 팀원을 모집합니다. 주 2회 온라인 회의, 코드 리뷰 필수.",
+            techStack = TECHS.take(techCount).joinToString(", "),
+            teamSize = 5,
+            creator = User(1L, "creator", "생성자"),
+            durationWeeks = 8
+        ).also { setField(it, "id", 1L) }
+
+    fun application(id: Long, project: Project, skillCount: Int = 4): Application =
+        Application(User(id + 1, "user$id", "지원자$id"), project).also { application ->
+            setField(application, "id", id)
+            setField(application, "appliedAt", LocalDateTime.of(2026, 1, 1, 12, 0))
+            TECHS.take(skillCount).forEachIndexed { index, tech ->
+                application.skillScore.add(SkillScore(application, tech, 3 + index % 8))
+            }
+        }
+
+    private fun setField(target: Any, name: String, value: Any) {
+        target.javaClass.getDeclaredField(name).apply { isAccessible = true }.set(target, value)
+    }
+}
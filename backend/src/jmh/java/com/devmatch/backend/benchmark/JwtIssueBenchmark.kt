@@ -0,0 +1,30 @@
+package com.devmatch.backend.benchmark
+
+import com.devmatch.backend.standard.util.Ut
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+import javax.crypto.SecretKey
+
+// 액세스 토큰 발급(Ut.jwt.toString) 비용. 토큰이 만료된 요청마다 인증 필터에서 다시 발급한다
+//   perCallKey : 비밀 문자열로 호출할 때마다 HMAC 키를 새로 만든다
+//   sharedKey  : 키를 한 번 만들어 재사용 (AuthTokenService 방식)
+@State(Scope.Benchmark)
+open class JwtIssueBenchmark {
+    private val secret = "benchmark-secret-key-that-is-long-enough-for-hs256-signing"
+    private val body = mapOf("id" to 1, "username" to "user1", "name" to "유저1")
+
+    private lateinit var secretKey: SecretKey
+
+    @Setup
+    fun setup() {
+        secretKey = Ut.jwt.secretKey(secret)
+    }
+
+    @Benchmark
+    fun perCallKey(): String = Ut.jwt.toString(secret, 60 * 20, body)
+
+    @Benchmark
+    fun sharedKey(): String = Ut.jwt.toString(secretKey, 60 * 20, body)
+}
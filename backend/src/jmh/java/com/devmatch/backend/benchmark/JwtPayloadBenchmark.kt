@@ -0,0 +1,40 @@
+package com.devmatch.backend.benchmark
+
+import com.devmatch.backend.domain.user.service.AuthTokenService
+import com.devmatch.backend.standard.util.Ut
+import io.jsonwebtoken.JwtParser
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+
+// 인증 필터가 요청마다 거치는 액세스 토큰 검증 경로 비교
+//   perCallKeyAndParser : 기존 방식. 요청마다 HMAC 키와 파서를 새로 만들고 서명 검증
+//   sharedParser        : 키/파서를 한 번만 만들고 서명 검증만 수행
+//   cachedVerification  : AuthTokenService의 검증 캐시 적중 (해시 + 맵 조회)
+@State(Scope.Benchmark)
+open class JwtPayloadBenchmark {
+    private val secret = "benchmark-secret-key-that-is-long-enough-for-hs256-signing"
+
+    private lateinit var token: String
+    private lateinit var parser: JwtParser
+    private lateinit var authTokenService: AuthTokenService
+
+    @Setup
+    fun setup() {
+        token = Ut.jwt.toString(secret, 60 * 20, mapOf("id" to 1, "username" to "user1", "name" to "유저1"))
+        parser = Ut.jwt.parser(Ut.jwt.secretKey(secret))
+        authTokenService = AuthTokenService(secret, 60 * 20, 10_000, SimpleMeterRegistry())
+        authTokenService.payload(token)
+    }
+
+    @Benchmark
+    fun perCallKeyAndParser(): Map<String, Any>? = Ut.jwt.payload(secret, token)
+
+    @Benchmark
+    fun sharedParser(): Map<String, Any>? = Ut.jwt.payload(parser, token)
+
+    @Benchmark
+    fun cachedVerification(): Map<String, Any>? = authTokenService.payload(token)
+}
@@ -0,0 +1,38 @@
+package com.devmatch.backend.benchmark
+
+import com.devmatch.backend.domain.recommendation.index.ProjectRecommendationIndex
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+import kotlin.random.Random
+
+// 합성 프로젝트 10만 개에 대한 추천 질의(상위 10개) 지연 시간
+// 기술 빈도는 실제처럼 한쪽으로 쏠리게(인기 기술일수록 자주 등장) 만든다
+@State(Scope.Benchmark)
+open class ProjectRecommendationBenchmark {
+    @Param("100000")
+    var projects: Int = 0
+
+    private val index = ProjectRecommendationIndex()
+
+    private lateinit var userVector: Map<String, Double>
+
+    @Setup
+    fun setup() {
+        val random = Random(42)
+        val vocabulary = List(200) { "tech$it" }
+
+        fun popularTech(): String = vocabulary[(vocabulary.size * random.nextDouble() * random.nextDouble()).toInt()]
+
+        repeat(projects) { id ->
+            index.put(id.toLong(), List(random.nextInt(2, 7)) { popularTech() })
+        }
+
+        userVector = List(6) { popularTech() }.associateWith { random.nextInt(1, 11) / 10.0 }
+    }
+
+    @Benchmark
+    fun topTen(): List<ProjectRecommendationIndex.Match> = index.topK(userVector, 10)
+}
@@ -0,0 +1,65 @@
+package com.devmatch.backend.benchmark
+
+import com.devmatch.backend.domain.application.dto.response.ApplicationDetailResponseDto
+import com.devmatch.backend.domain.application.entity.Application
+import com.devmatch.backend.domain.project.dto.ProjectDetailResponse
+import com.devmatch.backend.domain.project.dto.ProjectListRow
+import com.devmatch.backend.domain.project.entity.Project
+import com.devmatch.backend.domain.project.entity.ProjectStatus
+import com.devmatch.backend.domain.project.mapper.ProjectMapper
+import com.devmatch.backend.global.RsData
+import com.devmatch.backend.standard.util.Ut
+import com.fasterxml.jackson.databind.ObjectMapper
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.OutputTimeUnit
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder
+import java.time.LocalDateTime
+import java.util.concurrent.TimeUnit
+
+// 응답 한 건을 만들 때마다 거치는 변환과 직렬화
+// ObjectMapper는 스프링 부트와 같은 빌더로 만들어 실제 응답과 같은 모듈(Kotlin, JavaTime)을 쓴다
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+open class ResponseMappingBenchmark {
+    private lateinit var project: Project
+    private lateinit var row: ProjectListRow
+    private lateinit var rowTechStacks: List<String>
+    private lateinit var application: Application
+    private lateinit var projectResponse: ProjectDetailResponse
+
+    @Setup
+    fun setup() {
+        Ut.json.objectMapper = Jackson2ObjectMapperBuilder.json().build<ObjectMapper>()
+
+        project = BenchmarkFixtures.project()
+        row = ProjectListRow(
+            1L, project.title, project.description, project.teamSize, 0,
+            "생성자", ProjectStatus.RECRUITING, "", project.durationWeeks, LocalDateTime.of(2026, 1, 1, 12, 0)
+        )
+        rowTechStacks = project.techStacks.map { it.name }
+        application = BenchmarkFixtures.application(10L, project)
+        projectResponse = ProjectMapper.toProjectDetailResponse(project)
+    }
+
+    @Benchmark
+    fun projectFromEntity(): ProjectDetailResponse = ProjectMapper.toProjectDetailResponse(project)
+
+    @Benchmark
+    fun projectFromListRow(): ProjectDetailResponse = ProjectMapper.toProjectDetailResponse(row, rowTechStacks)
+
+    @Benchmark
+    fun applicationDetail(): ApplicationDetailResponseDto = ApplicationDetailResponseDto(application)
+
+    // 보조 생성자는 resultCode("200-1")를 잘라 상태 코드를 만든다
+    @Benchmark
+    fun rsData(): RsData<String> = RsData("200-1", "성공", "data")
+
+    @Benchmark
+    fun rsDataToJson(): String = Ut.json.toString(RsData<Void>("401-1", "로그인 후 이용해주세요."))
+
+    @Benchmark
+    fun projectToJson(): String = Ut.json.toString(projectResponse)
+}
@@ -0,0 +1,241 @@
+package com.devmatch.backend.loadtest
+
+import com.fasterxml.jackson.databind.JsonNode
+import com.fasterxml.jackson.module.kotlin.jacksonObjectMapper
+import java.net.URI
+import java.net.http.HttpClient
+import java.net.http.HttpRequest
+import java.net.http.HttpResponse
+import java.time.Duration
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.Executors
+import java.util.concurrent.ThreadLocalRandom
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicBoolean
+
+// /analysis/**, /projects/** 에 가상 사용자 부하를 걸고 지연 분포, 처리량, 풀 포화도를 출력하는 부하 테스트
+// 서버는 fake-llm 프로필로 띄워 Groq 비용 없이 측정한다
+//   SPRING_PROFILES_ACTIVE=dev,fake-llm ./gradlew bootRun
+//   ./gradlew loadTest --args="--users=200 --duration=60"
+fun main(args: Array<String>) {
+    val options = args.filter { it.startsWith("--") && it.contains("=") }
+        .associate { it.removePrefix("--").substringBefore("=") to it.substringAfter("=") }
+
+    LoadTest(
+        baseUrl = options["baseUrl"] ?: "http://localhost:8080",
+        users = options["users"]?.toInt() ?: 50,
+        duration = Duration.ofSeconds(options["duration"]?.toLong() ?: 30),
+        apiKey = options["apiKey"] ?: "user1",
+        adminApiKey = options["adminApiKey"] ?: "admin",
+        applications = options["applications"]?.toInt() ?: 200
+    ).run()
+}
+
+class LoadTest(
+    private val baseUrl: String,
+    private val users: Int,
+    private val duration: Duration,
+    private val apiKey: String,
+    // /actuator/** 는 관리자만 조회할 수 있다
+    private val adminApiKey: String,
+    private val applications: Int
+) {
+    private val mapper = jacksonObjectMapper()
+
+    private val client: HttpClient = HttpClient.newBuilder()
+        .executor(Executors.newVirtualThreadPerTaskExecutor())
+        .connectTimeout(Duration.ofSeconds(5))
+        .build()
+
+    private val latencies = ConcurrentHashMap<String, ConcurrentLinkedQueue<Long>>()
+    private val errors = ConcurrentHashMap<String, Int>()
+
+    // 테스트 동안 관측한 서버 측 지표의 최댓값
+    private val saturation = ConcurrentHashMap<String, Double>()
+
+    fun run() {
+        val projectId = createProject()
+        val applicationIds = ConcurrentLinkedQueue((1..applications).map { apply(projectId) })
+
+        println("준비 완료: projectId=$projectId, 지원서 ${applicationIds.size}건, 가상 사용자 $users 명, ${duration.seconds}초")
+
+        val running = AtomicBoolean(true)
+        val sampler = Thread.ofVirtual().start { sampleMetrics(running) }
+        val startedAt = System.nanoTime()
+
+        Executors.newVirtualThreadPerTaskExecutor().use { executor ->
+            repeat(users) {
+                executor.submit {
+                    while (running.get()) scenario(projectId, applicationIds)
+                }
+            }
+
+            Thread.sleep(duration.toMillis())
+            running.set(false)
+        }
+
+        sampler.join()
+        report(Duration.ofNanos(System.nanoTime() - startedAt))
+    }
+
+    // 조회 위주의 실제 트래픽 비율을 흉내낸 시나리오. 분석 요청은 남은 지원서가 있을 때만 보낸다
+    private fun scenario(projectId: Long, applicationIds: ConcurrentLinkedQueue<Long>) {
+        when (ThreadLocalRandom.current().nextInt(100)) {
+            in 0 until 40 -> send("GET /projects", get("/projects"))
+            in 40 until 65 -> send("GET /projects/{id}", get("/projects/$projectId"))
+            in 65 until 85 -> send("GET /projects/{id}/applications", get("/projects/$projectId/applications"))
+            else -> applicationIds.poll()?.let { analyze(it) }
+                ?: send("GET /projects", get("/projects"))
+        }
+    }
+
+    // 작업 등록부터 완료까지 폴링하며 종단 간 시간을 따로 기록
+    private fun analyze(applicationId: Long) {
+        val startedAt = System.nanoTime()
+        val job = send("POST /analysis/application/{id}", post("/analysis/application/$applicationId", "")) ?: return
+        val jobId = job["data"]["jobId"].asText()
+
+        while (true) {
+            Thread.sleep(500)
+            val status = send("GET /analysis/jobs/{id}", get("/analysis/jobs/$jobId"))
+                ?.get("data")?.get("status")?.asText() ?: return
+
+            if (status == "COMPLETED" || status == "FAILED") {
+                record(if (status == "COMPLETED") "analysis end-to-end" else "analysis end-to-end (failed)", startedAt)
+                return
+            }
+        }
+    }
+
+    private fun createProject(): Long {
+        val body = mapper.writeValueAsString(
+            mapOf(
+                "title" to "부하 테스트 프로젝트",
+                "description" to "부하 테스트용으로 생성된 프로젝트입니다.",
+                "techStack" to "Java, Spring Boot, React, PostgreSQL",
+                "teamSize" to 5,
+                "durationWeeks" to 8
+            )
+        )
+
+        return requireNotNull(send("setup", post("/projects", body))) { "프로젝트 생성 실패" }["data"]["id"].asLong()
+    }
+
+    private fun apply(projectId: Long): Long {
+        val random = ThreadLocalRandom.current()
+        val body = mapper.writeValueAsString(
+            mapOf(
+                "techStacks" to listOf("Java", "Spring Boot", "React", "PostgreSQL"),
+                "techScores" to List(4) { random.nextInt(1, 11) }
+            )
+        )
+
+        return requireNotNull(send("setup", post("/projects/$projectId/applications", body))) { "지원서 생성 실패" }
+            .get("data").get("applicationId").asLong()
+    }
+
+    private fun sampleMetrics(running: AtomicBoolean) {
+        while (running.get()) {
+            SATURATION_METRICS.forEach { metric ->
+                runCatching {
+                    // "이름:통계" 형식이면 해당 통계(MAX 등)를, 아니면 첫 번째 측정값을 읽는다
+                    val name = metric.substringBefore(":")
+                    val statistic = metric.substringAfter(":", "")
+
+                    val response = client.send(get("/actuator/metrics/$name", adminApiKey), HttpResponse.BodyHandlers.ofString())
+                    if (response.statusCode() != 200) return@runCatching
+
+                    val measurements = mapper.readTree(response.body())["measurements"]
+                    val value = (measurements.firstOrNull { it["statistic"].asText() == statistic } ?: measurements[0])["value"]
+                        .asDouble()
+                    saturation.merge(metric, value, ::maxOf)
+                }
+            }
+            Thread.sleep(1000)
+        }
+    }
+
+    private fun send(name: String, request: HttpRequest): JsonNode? {
+        val startedAt = System.nanoTime()
+
+        return try {
+            val response = client.send(request, HttpResponse.BodyHandlers.ofString())
+            record(name, startedAt)
+
+            if (response.statusCode() >= 400) {
+                errors.merge("$name ${response.statusCode()}", 1, Int::plus)
+                null
+            } else {
+                response.body().takeIf { it.isNotBlank() }?.let { mapper.readTree(it) }
+            }
+        } catch (e: Exception) {
+            errors.merge("$name ${e.javaClass.simpleName}", 1, Int::plus)
+            null
+        }
+    }
+
+    private fun record(name: String, startedAt: Long) {
+        latencies.computeIfAbsent(name) { ConcurrentLinkedQueue() }
+            .add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt))
+    }
+
+    private fun get(path: String, key: String = apiKey): HttpRequest = request(path, key).GET().build()
+
+    private fun post(path: String, body: String): HttpRequest =
+        request(path).POST(HttpRequest.BodyPublishers.ofString(body)).build()
+
+    private fun request(path: String, key: String = apiKey): HttpRequest.Builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+        .timeout(Duration.ofSeconds(30))
+        .header("Authorization", "Bearer $key")
+        .header("Content-Type", "application/json")
+
+    private fun report(elapsed: Duration) {
+        val seconds = elapsed.toMillis() / 1000.0
+
+        println()
+        println("%-40s %8s %10s %8s %8s %8s %8s".format("endpoint", "count", "req/s", "p50", "p95", "p99", "max"))
+
+        latencies.filterKeys { it != "setup" }.toSortedMap().forEach { (name, values) ->
+            val sorted = values.sorted()
+
+            println(
+                "%-40s %8d %10.1f %8d %8d %8d %8d".format(
+                    name, sorted.size, sorted.size / seconds,
+                    percentile(sorted, 50.0), percentile(sorted, 95.0), percentile(sorted, 99.0), sorted.last()
+                )
+            )
+        }
+
+        println()
+        println("전체 처리량: %.1f req/s".format(latencies.filterKeys { it != "setup" }.values.sumOf { it.size } / seconds))
+
+        if (errors.isNotEmpty()) {
+            println()
+            println("오류")
+            errors.toSortedMap().forEach { (name, count) -> println("  %-50s %d".format(name, count)) }
+        }
+
+        println()
+        println("풀 포화도 (테스트 중 최댓값)")
+        SATURATION_METRICS.forEach { metric ->
+            println("  %-40s %s".format(metric, saturation[metric]?.let { "%.0f".format(it) } ?: "-"))
+        }
+    }
+
+    private fun percentile(sorted: List<Long>, percentile: Double): Long =
+        sorted[((percentile / 100.0) * (sorted.size - 1)).toInt()]
+
+    companion object {
+        // actuator에 노출되지 않은 지표는 "-"로 출력된다
+        private val SATURATION_METRICS = listOf(
+            "hikaricp.connections.active",
+            "hikaricp.connections.pending",
+            "hikaricp.connections.usage:MAX",    // 커넥션 하나를 가장 오래 잡고 있던 시간(초). LLM 호출이 트랜잭션 밖이면 짧게 유지된다
+            "hikaricp.connections.acquire:MAX",
+            "tomcat.threads.busy",
+            "analysis.job.queue.depth",
+            "analysis.job.active"
+        )
+    }
+}
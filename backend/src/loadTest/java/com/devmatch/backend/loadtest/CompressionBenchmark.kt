@@ -0,0 +1,93 @@
+package com.devmatch.backend.loadtest
+
+import java.net.URI
+import java.net.http.HttpClient
+import java.net.http.HttpRequest
+import java.net.http.HttpResponse
+import java.time.Duration
+
+// 목록 조회 API의 응답 크기와 지연을 세 가지 방식으로 비교한다
+//   identity: 압축 없음 / gzip: Accept-Encoding: gzip / 304: 직전 ETag로 If-None-Match 재요청
+// 서버를 먼저 띄운 뒤 실행한다
+//   ./gradlew compressionBenchmark --args="--requests=200 --projectId=1"
+fun main(args: Array<String>) {
+    val options = args.filter { it.startsWith("--") && it.contains("=") }
+        .associate { it.removePrefix("--").substringBefore("=") to it.substringAfter("=") }
+
+    val projectId = options["projectId"] ?: "1"
+
+    CompressionBenchmark(
+        baseUrl = options["baseUrl"] ?: "http://localhost:8080",
+        apiKey = options["apiKey"] ?: "user1",
+        requests = options["requests"]?.toInt() ?: 200,
+        paths = listOf("/projects?size=100", "/projects/$projectId/applications", "/users/projects", "/users/applications")
+    ).run()
+}
+
+class CompressionBenchmark(
+    private val baseUrl: String,
+    private val apiKey: String,
+    private val requests: Int,
+    private val paths: List<String>
+) {
+    private val client: HttpClient = HttpClient.newBuilder()
+        .connectTimeout(Duration.ofSeconds(5))
+        .build()
+
+    fun run() {
+        println("%-40s %-9s %6s %10s %8s %8s".format("endpoint", "mode", "status", "bytes", "p50", "p95"))
+
+        paths.forEach { path ->
+            measure(path, "identity") { it.header("Accept-Encoding", "identity") }
+            measure(path, "gzip") { it.header("Accept-Encoding", "gzip") }
+
+            val etag = send(request(path).header("Accept-Encoding", "gzip").GET().build())
+                .headers().firstValue("ETag").orElse(null)
+
+            if (etag == null) {
+                println("%-40s %-9s ETag 없음".format(path, "304"))
+            } else {
+                measure(path, "304") { it.header("Accept-Encoding", "gzip").header("If-None-Match", etag) }
+            }
+        }
+    }
+
+    private fun measure(path: String, mode: String, customize: (HttpRequest.Builder) -> HttpRequest.Builder) {
+        // JIT와 커넥션 준비를 위한 워밍업
+        repeat(WARMUP) { send(customize(request(path)).GET().build()) }
+
+        val latencies = ArrayList<Long>(requests)
+        var last: HttpResponse<ByteArray>? = null
+
+        repeat(requests) {
+            val startedAt = System.nanoTime()
+            last = send(customize(request(path)).GET().build())
+            latencies.add((System.nanoTime() - startedAt) / 1000)
+        }
+
+        val sorted = latencies.sorted()
+
+        // 지연은 마이크로초 단위, 크기는 전송된(압축된) 본문 바이트 수
+        println(
+            "%-40s %-9s %6d %10d %6dus %6dus".format(
+                path, mode, last!!.statusCode(), last!!.body().size,
+                percentile(sorted, 50.0), percentile(sorted, 95.0)
+            )
+        )
+    }
+
+    // HttpClient는 gzip을 자동으로 풀지 않으므로 받은 바이트 수가 곧 전송량이다
+    private fun send(request: HttpRequest): HttpResponse<ByteArray> =
+        client.send(request, HttpResponse.BodyHandlers.ofByteArray())
+
+    private fun request(path: String): HttpRequest.Builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+        .timeout(Duration.ofSeconds(30))
+        .header("Authorization", "Bearer $apiKey")
+
+    private fun percentile(sorted: List<Long>, percentile: Double): Long =
+        sorted[((percentile / 100.0) * (sorted.size - 1)).toInt()]
+
+    companion object {
+        private const val WARMUP = 20
+    }
+}
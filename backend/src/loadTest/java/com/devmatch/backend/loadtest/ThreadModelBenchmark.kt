@@ -0,0 +1,224 @@
+package com.devmatch.backend.loadtest
+
+import com.fasterxml.jackson.databind.JsonNode
+import com.fasterxml.jackson.module.kotlin.jacksonObjectMapper
+import java.net.URI
+import java.net.http.HttpClient
+import java.net.http.HttpRequest
+import java.net.http.HttpResponse
+import java.time.Duration
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicBoolean
+
+// 요청 스레드가 느린 LLM 호출(동기 역할 분배)을 기다리는 동안 동시 요청 수를 얼마나 감당하는지
+// 플랫폼 스레드 서버와 가상 스레드 서버를 차례로 측정해 비교한다
+// 서버 두 개를 thread-benchmark 프로필로 띄운 뒤 실행한다 (application-thread-benchmark.yml 참고)
+//   ./gradlew threadModelBenchmark --args="--users=1000 --duration=60"
+fun main(args: Array<String>) {
+    val options = args.filter { it.startsWith("--") && it.contains("=") }
+        .associate { it.removePrefix("--").substringBefore("=") to it.substringAfter("=") }
+
+    val targets = (options["targets"] ?: "platform=http://localhost:8080,virtual=http://localhost:8081")
+        .split(",")
+        .associate { it.substringBefore("=") to it.substringAfter("=") }
+
+    val results = targets.map { (label, baseUrl) ->
+        ThreadModelBenchmark(
+            label = label,
+            baseUrl = baseUrl,
+            users = options["users"]?.toInt() ?: 1000,
+            duration = Duration.ofSeconds(options["duration"]?.toLong() ?: 60),
+            apiKey = options["apiKey"] ?: "user1",
+            adminApiKey = options["adminApiKey"] ?: "admin"
+        ).run()
+    }
+
+    println()
+    println("%-10s %8s %10s %8s %8s %8s %8s %8s".format("mode", "count", "req/s", "p50", "p95", "p99", "max", "errors"))
+    results.forEach { println(it) }
+
+    println()
+    println("서버 지표 (테스트 중 최댓값)")
+    println("%-40s".format("") + results.joinToString("") { "%12s".format(it.label) })
+    ThreadModelBenchmark.SERVER_METRICS.forEach { metric ->
+        println("%-40s".format(metric) + results.joinToString("") { result ->
+            "%12s".format(result.serverMetrics[metric]?.let { "%.0f".format(it) } ?: "-")
+        })
+    }
+}
+
+class ThreadModelBenchmark(
+    private val label: String,
+    private val baseUrl: String,
+    private val users: Int,
+    private val duration: Duration,
+    private val apiKey: String,
+    // /actuator/** 는 관리자만 조회할 수 있다
+    private val adminApiKey: String
+) {
+    data class Result(
+        val label: String,
+        val latencies: List<Long>,
+        val seconds: Double,
+        val errors: Map<String, Int>,
+        val serverMetrics: Map<String, Double>
+    ) {
+        override fun toString(): String {
+            if (latencies.isEmpty()) return "%-10s 성공한 요청 없음, 오류 %s".format(label, errors)
+
+            return "%-10s %8d %10.1f %8d %8d %8d %8d %8d".format(
+                label, latencies.size, latencies.size / seconds,
+                percentile(50.0), percentile(95.0), percentile(99.0), latencies.last(), errors.values.sum()
+            )
+        }
+
+        private fun percentile(percentile: Double): Long =
+            latencies[((percentile / 100.0) * (latencies.size - 1)).toInt()]
+    }
+
+    private val mapper = jacksonObjectMapper()
+
+    // 클라이언트 쪽이 병목이 되지 않도록 요청마다 가상 스레드를 쓴다
+    private val client: HttpClient = HttpClient.newBuilder()
+        .executor(Executors.newVirtualThreadPerTaskExecutor())
+        .connectTimeout(Duration.ofSeconds(10))
+        .build()
+
+    private val latencies = ConcurrentLinkedQueue<Long>()
+    private val errors = ConcurrentHashMap<String, Int>()
+    private val serverMetrics = ConcurrentHashMap<String, Double>()
+
+    fun run(): Result {
+        // 같은 행을 동시에 덮어쓰는 경합을 빼기 위해 가상 사용자마다 팀 구성이 끝난 프로젝트를 하나씩 만든다
+        val projectIds = Executors.newVirtualThreadPerTaskExecutor().use { executor ->
+            (1..users).map { executor.submit<Long> { prepareProject() } }.map { it.get() }
+        }
+
+        println("[$label] 준비 완료: $baseUrl, 가상 사용자 $users 명, ${duration.seconds}초")
+
+        val running = AtomicBoolean(true)
+        val sampler = Thread.ofVirtual().start { sampleMetrics(running) }
+        val startedAt = System.nanoTime()
+
+        Executors.newVirtualThreadPerTaskExecutor().use { executor ->
+            projectIds.forEach { projectId ->
+                executor.submit {
+                    while (running.get()) assignRoles(projectId)
+                }
+            }
+
+            Thread.sleep(duration.toMillis())
+            running.set(false)
+        }
+
+        sampler.join()
+
+        return Result(
+            label,
+            latencies.sorted(),
+            (System.nanoTime() - startedAt) / 1_000_000_000.0,
+            errors.toSortedMap(),
+            serverMetrics.toMap()
+        )
+    }
+
+    // regenerate=true라 매번 LLM을 호출하고, 응답이 올 때까지 요청 스레드가 블로킹된다
+    private fun assignRoles(projectId: Long) {
+        val startedAt = System.nanoTime()
+
+        try {
+            val response = client.send(
+                post("/analysis/project/$projectId/role-assignment?regenerate=true", ""),
+                HttpResponse.BodyHandlers.discarding()
+            )
+
+            if (response.statusCode() >= 400) {
+                errors.merge("HTTP ${response.statusCode()}", 1, Int::plus)
+            } else {
+                latencies.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt))
+            }
+        } catch (e: Exception) {
+            errors.merge(e.javaClass.simpleName, 1, Int::plus)
+        }
+    }
+
+    // 팀원 한 명짜리 프로젝트를 만들고 지원서를 승인해 역할 분배가 가능한 상태로 만든다
+    private fun prepareProject(): Long {
+        val project = mapper.writeValueAsString(
+            mapOf(
+                "title" to "스레드 모델 비교 프로젝트",
+                "description" to "스레드 모델 비교용으로 생성된 프로젝트입니다.",
+                "techStack" to "Java, Spring Boot, React, PostgreSQL",
+                "teamSize" to 1,
+                "durationWeeks" to 8
+            )
+        )
+        val projectId = setup(post("/projects", project))["data"]["id"].asLong()
+
+        val application = mapper.writeValueAsString(
+            mapOf(
+                "techStacks" to listOf("Java", "Spring Boot", "React", "PostgreSQL"),
+                "techScores" to listOf(8, 7, 5, 6)
+            )
+        )
+        val applicationId = setup(post("/projects/$projectId/applications", application))["data"]["applicationId"].asLong()
+
+        setup(
+            request("/applications/$applicationId/status")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString("""{"status":"APPROVED"}"""))
+                .build()
+        )
+
+        return projectId
+    }
+
+    private fun setup(request: HttpRequest): JsonNode {
+        val response = client.send(request, HttpResponse.BodyHandlers.ofString())
+
+        check(response.statusCode() < 400) { "[$label] 준비 요청 실패: ${request.uri()} ${response.statusCode()} ${response.body()}" }
+
+        return mapper.readTree(response.body())
+    }
+
+    private fun sampleMetrics(running: AtomicBoolean) {
+        while (running.get()) {
+            SERVER_METRICS.forEach { metric ->
+                runCatching {
+                    val response = client.send(get("/actuator/metrics/$metric", adminApiKey), HttpResponse.BodyHandlers.ofString())
+                    if (response.statusCode() != 200) return@runCatching
+
+                    val value = mapper.readTree(response.body())["measurements"][0]["value"].asDouble()
+                    serverMetrics.merge(metric, value, ::maxOf)
+                }
+            }
+            Thread.sleep(1000)
+        }
+    }
+
+    private fun get(path: String, key: String = apiKey): HttpRequest = request(path, key).GET().build()
+
+    private fun post(path: String, body: String): HttpRequest =
+        request(path).POST(HttpRequest.BodyPublishers.ofString(body)).build()
+
+    // 플랫폼 스레드 서버는 요청이 accept 대기열에서 오래 기다리므로 넉넉하게 둔다
+    private fun request(path: String, key: String = apiKey): HttpRequest.Builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+        .timeout(Duration.ofSeconds(60))
+        .header("Authorization", "Bearer $key")
+        .header("Content-Type", "application/json")
+
+    companion object {
+        // actuator에 노출되지 않은 지표는 "-"로 출력된다
+        val SERVER_METRICS = listOf(
+            "jvm.threads.live",
+            "jvm.threads.peak",
+            "tomcat.threads.busy",
+            "hikaricp.connections.pending",
+            "jvm.threads.virtual.pinned",
+            "jvm.threads.virtual.pinned.app",
+            "resilience4j.bulkhead.available.concurrent.calls"
+        )
+    }
+}
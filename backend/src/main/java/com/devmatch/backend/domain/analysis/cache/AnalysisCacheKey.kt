@@ -0,0 +1,43 @@
+package com.devmatch.backend.domain.analysis.cache
+
+import com.devmatch.backend.domain.application.entity.SkillScore
+import com.devmatch.backend.domain.project.entity.Project
+import java.security.MessageDigest
+
+// 적합도 분석 프롬프트를 결정하는 입력값(프로젝트 정보 + 지원자 기술 점수)의 해시
+// 입력값이 같으면 temperature 0인 LLM 응답도 같다고 보고 캐시 키로 사용한다
+data class AnalysisCacheKey(
+    val projectId: Long,
+    val hash: String
+) {
+    override fun toString(): String = "$projectId-$hash"
+
+    companion object {
+        fun of(project: Project, skills: List<SkillScore>, promptVersion: String): AnalysisCacheKey {
+            // 공백, 대소문자, 나열 순서가 달라도 같은 입력으로 취급
+            val normalized = buildString {
+                append(promptVersion).append('\n')
+                append(project.description.trim().replace("\\s+".toRegex(), " ")).append('\n')
+                append(project.teamSize).append('\n')
+                append(project.durationWeeks).append('\n')
+                append(
+                    project.techStack.split(",")
+                        .map { it.trim().lowercase() }
+                        .filter { it.isNotEmpty() }
+                        .distinct()
+                        .sorted()
+                        .joinToString(",")
+                ).append('\n')
+                append(
+                    skills.map { "${it.techName.trim().lowercase()}=${it.score}" }
+                        .sorted()
+                        .joinToString(",")
+                )
+            }
+
+            val digest = MessageDigest.getInstance("SHA-256").digest(normalized.toByteArray())
+
+            return AnalysisCacheKey(project.id!!, digest.joinToString("") { "%02x".format(it) })
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.devmatch.backend.domain.analysis.cache
+
+import com.devmatch.backend.domain.project.event.ProjectChangedEvent
+import com.github.benmanes.caffeine.cache.Cache
+import com.github.benmanes.caffeine.cache.Caffeine
+import com.github.benmanes.caffeine.cache.Ticker
+import io.micrometer.core.instrument.Counter
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.context.event.EventListener
+import org.springframework.stereotype.Component
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.StandardCopyOption
+import java.time.Duration
+import java.time.Instant
+
+// ChatModel 호출 앞에 두는 적합도 분석 응답 캐시
+// 1차는 메모리(크기 + TTL 제한), 2차는 선택적으로 재시작 후에도 남는 디스크
+@Component
+class AnalysisResponseCache(
+    meterRegistry: MeterRegistry,
+    @param:Value("\${custom.analysis.cache.maxSize}")
+    maxSize: Long,
+    @param:Value("\${custom.analysis.cache.ttlMinutes}")
+    ttlMinutes: Long,
+    @param:Value("\${custom.analysis.cache.disk.enabled}")
+    private val diskEnabled: Boolean,
+    @param:Value("\${custom.analysis.cache.disk.path}")
+    diskPath: String,
+    // 테스트에서 만료를 앞당길 때만 바꾼다
+    ticker: Ticker = Ticker.systemTicker()
+) {
+    private val ttl: Duration = Duration.ofMinutes(ttlMinutes)
+
+    private val directory: Path = Path.of(diskPath)
+
+    private val memory: Cache<String, String> = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(ttl)
+        .ticker(ticker)
+        .recordStats()
+        .build()
+
+    private val diskHits: Counter = Counter.builder("analysis.llm.cache.disk").tag("result", "hit").register(meterRegistry)
+    private val diskMisses: Counter = Counter.builder("analysis.llm.cache.disk").tag("result", "miss").register(meterRegistry)
+
+    init {
+        // cache.gets{result=hit|miss}, cache.size, cache.evictions 등을 노출
+        CaffeineCacheMetrics.monitor(meterRegistry, memory, "analysis.llm")
+
+        if (diskEnabled) Files.createDirectories(directory)
+    }
+
+    fun get(key: AnalysisCacheKey): String? {
+        memory.getIfPresent(key.toString())?.let { return it }
+
+        if (!diskEnabled) return null
+
+        return readFromDisk(key)
+            ?.also {
+                diskHits.increment()
+                memory.put(key.toString(), it)
+            }
+            ?: run {
+                diskMisses.increment()
+                null
+            }
+    }
+
+    fun put(key: AnalysisCacheKey, response: String) {
+        memory.put(key.toString(), response)
+
+        if (diskEnabled) writeToDisk(key, response)
+    }
+
+    fun evict(key: AnalysisCacheKey) {
+        memory.invalidate(key.toString())
+
+        if (diskEnabled) Files.deleteIfExists(fileOf(key.toString()))
+    }
+
+    // 프로젝트 설명이나 기술 스택이 바뀌면 그 프로젝트의 캐시를 모두 버린다
+    // 프로젝트별 키 목록을 따로 두면 크기/TTL로 빠진 키가 남으므로, 드물게 일어나는 무효화 때 키를 훑는다
+    fun invalidateProject(projectId: Long) {
+        memory.asMap().keys.removeIf { it.startsWith("$projectId-") }
+
+        if (diskEnabled) {
+            Files.newDirectoryStream(directory, "$projectId-*.txt").use { files ->
+                files.forEach { Files.deleteIfExists(it) }
+            }
+        }
+    }
+
+    @EventListener
+    fun onProjectChanged(event: ProjectChangedEvent) {
+        invalidateProject(event.projectId)
+    }
+
+    // 디스크 계층은 최선 노력(best effort)으로만 사용하고, 입출력 오류는 캐시 미스로 취급
+    private fun readFromDisk(key: AnalysisCacheKey): String? = runCatching {
+        val file = fileOf(key.toString())
+
+        if (!Files.exists(file)) return null
+
+        if (Files.getLastModifiedTime(file).toInstant().isBefore(Instant.now().minus(ttl))) {
+            Files.deleteIfExists(file)
+            return null
+        }
+
+        Files.readString(file)
+    }.getOrNull()
+
+    private fun writeToDisk(key: AnalysisCacheKey, response: String) {
+        runCatching {
+            val file = fileOf(key.toString())
+            val temp = Files.createTempFile(directory, key.toString(), ".tmp")
+
+            Files.writeString(temp, response)
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE)
+        }
+    }
+
+    private fun fileOf(key: String): Path = directory.resolve("$key.txt")
+}
@@ -1,16 +1,23 @@
 package com.devmatch.backend.domain.analysis.controller
 
+import com.devmatch.backend.domain.analysis.dto.AnalysisJobResponse
 import com.devmatch.backend.domain.analysis.dto.AnalysisResultResponse
+import com.devmatch.backend.domain.analysis.dto.RoleAssignmentResponse
+import com.devmatch.backend.domain.analysis.service.AnalysisJobService
 import com.devmatch.backend.domain.analysis.service.AnalysisService
 import com.devmatch.backend.global.ApiResponse
 import org.springframework.http.HttpStatus
 import org.springframework.http.ResponseEntity
+import org.springframework.http.codec.ServerSentEvent
 import org.springframework.web.bind.annotation.*
+import reactor.core.publisher.Flux
+import java.net.URI
 
 @RestController
 @RequestMapping("/analysis")
 class AnalysisController(
-    private val analysisService: AnalysisService
+    private val analysisService: AnalysisService,
+    private val analysisJobService: AnalysisJobService
 ) {
 
     @GetMapping("/application/{applicationId}")
@@ -22,20 +29,61 @@ class AnalysisController(
             .let { ApiResponse("조회 성공", it) }
             .let { ResponseEntity.ok(it) }
 
+    // LLM 분석은 오래 걸리므로 작업만 등록하고 202 Accepted로 작업 ID를 돌려준다
     @PostMapping("/application/{applicationId}")
     fun createAnalysisResult(
         @PathVariable applicationId: Long
-    ): ResponseEntity<ApiResponse<AnalysisResultResponse>> =
-        analysisService.createAnalysisResult(applicationId)
-            .let { AnalysisResultResponse.from(it) }
-            .let { ApiResponse("분석 결과 생성 성공", it) }
-            .let { ResponseEntity.status(HttpStatus.CREATED).body(it) }
+    ): ResponseEntity<ApiResponse<AnalysisJobResponse>> =
+        analysisJobService.submit(applicationId)
+            .let { AnalysisJobResponse.from(it) }
+            .let {
+                ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .location(URI.create("/analysis/jobs/${it.jobId}"))
+                    .body(ApiResponse("분석 작업 등록 성공", it))
+            }
+
+    @GetMapping("/jobs/{jobId}")
+    fun getAnalysisJob(
+        @PathVariable jobId: String
+    ): ResponseEntity<ApiResponse<AnalysisJobResponse>> =
+        analysisJobService.getJob(jobId)
+            .let { ApiResponse("분석 작업 조회 성공", it) }
+            .let { ResponseEntity.ok(it) }
 
+    // 프로젝트의 미분석 대기중 지원서를 한 번에 분석하는 작업을 등록하고 202 Accepted로 작업 ID를 돌려준다
+    // 지원서별 성공/실패는 작업이 끝난 뒤 /analysis/jobs/{jobId}의 bulkResult로 조회한다
+    @PostMapping("/project/{projectId}/applications")
+    fun analyzePendingApplications(
+        @PathVariable projectId: Long
+    ): ResponseEntity<ApiResponse<AnalysisJobResponse>> =
+        analysisJobService.submitBulk(projectId)
+            .let { AnalysisJobResponse.from(it) }
+            .let {
+                ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .location(URI.create("/analysis/jobs/${it.jobId}"))
+                    .body(ApiResponse("일괄 분석 작업 등록 성공", it))
+            }
+
+    // 팀 구성이 그대로면 저장된 결과를 200으로, 새로 생성했으면 201로 응답. regenerate=true면 항상 새로 생성
     @PostMapping("/project/{projectId}/role-assignment")
     fun createTeamRoleAssignment(
-        @PathVariable projectId: Long
-    ): ResponseEntity<ApiResponse<String>> =
-        analysisService.createTeamRoleAssignment(projectId)
-            .let { ApiResponse("팀 역할 분배 완료", it) }
-            .let { ResponseEntity.status(HttpStatus.CREATED).body(it) }
+        @PathVariable projectId: Long,
+        @RequestParam(defaultValue = "false") regenerate: Boolean
+    ): ResponseEntity<ApiResponse<RoleAssignmentResponse>> =
+        analysisService.createTeamRoleAssignment(projectId, regenerate)
+            .let {
+                if (it.reused) ResponseEntity.ok(ApiResponse("저장된 팀 역할 분배 조회 성공", it))
+                else ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse("팀 역할 분배 완료", it))
+            }
+
+    // 역할 분배 결과를 Server-Sent Events로 생성되는 즉시 전달 (token 이벤트 반복 후 done 이벤트)
+    // 저장된 결과가 있으면 전체 내용을 token 이벤트 하나로 보낸다
+    @PostMapping("/project/{projectId}/role-assignment/stream")
+    fun streamTeamRoleAssignment(
+        @PathVariable projectId: Long,
+        @RequestParam(defaultValue = "false") regenerate: Boolean
+    ): Flux<ServerSentEvent<String>> =
+        analysisService.streamTeamRoleAssignment(projectId, regenerate)
+            .map { ServerSentEvent.builder(it).event("token").build() }
+            .concatWith(Flux.just(ServerSentEvent.builder("").event("done").build()))
 }
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.devmatch.backend.domain.analysis.dto
+
+import com.devmatch.backend.domain.analysis.job.AnalysisJob
+import com.devmatch.backend.domain.analysis.job.AnalysisJobStatus
+import com.devmatch.backend.domain.analysis.job.AnalysisJobType
+import java.time.Instant
+
+// 완료된 작업은 종류에 따라 result(지원서 분석) 또는 bulkResult(일괄 분석)가 채워진다
+data class AnalysisJobResponse(
+    val jobId: String,
+    val type: AnalysisJobType,
+    val applicationId: Long?,
+    val projectId: Long?,
+    val status: AnalysisJobStatus,
+    val requestedAt: Instant,
+    val startedAt: Instant?,
+    val finishedAt: Instant?,
+    val result: AnalysisResultResponse?,
+    val bulkResult: BulkAnalysisResponse?,
+    val errorMessage: String?
+) {
+    companion object {
+        fun from(
+            job: AnalysisJob,
+            result: AnalysisResultResponse? = null,
+            bulkResult: BulkAnalysisResponse? = null
+        ) = AnalysisJobResponse(
+            jobId = job.id,
+            type = job.type,
+            applicationId = job.targetId.takeIf { job.type == AnalysisJobType.APPLICATION },
+            projectId = job.targetId.takeIf { job.type == AnalysisJobType.PROJECT },
+            status = job.status,
+            requestedAt = job.requestedAt,
+            startedAt = job.startedAt,
+            finishedAt = job.finishedAt,
+            result = result,
+            bulkResult = bulkResult,
+            errorMessage = job.errorMessage
+        )
+    }
+}
@@ -0,0 +1,13 @@
+package com.devmatch.backend.domain.analysis.dto
+
+import com.fasterxml.jackson.annotation.JsonPropertyDescription
+import java.math.BigDecimal
+
+// LLM이 적합도 분석 결과로 돌려줘야 하는 JSON 구조. BeanOutputConverter가 이 클래스로 JSON 스키마를 만든다
+data class AnalysisOutput(
+    @field:JsonPropertyDescription("적합도 점수 (0.00-100.00)")
+    val score: BigDecimal,
+
+    @field:JsonPropertyDescription("점수를 준 긍정적이고 구체적인 이유 (한국어)")
+    val reason: String
+)
@@ -0,0 +1,29 @@
+package com.devmatch.backend.domain.analysis.dto
+
+import java.math.BigDecimal
+
+data class BulkAnalysisResponse(
+    val projectId: Long,
+    val requested: Int,
+    val succeeded: Int,
+    val failed: Int,
+    val results: List<Item>
+) {
+    data class Item(
+        val applicationId: Long,
+        val success: Boolean,
+        val compatibilityScore: BigDecimal? = null,
+        val compatibilityReason: String? = null,
+        val errorMessage: String? = null
+    )
+
+    companion object {
+        fun of(projectId: Long, results: List<Item>) = BulkAnalysisResponse(
+            projectId = projectId,
+            requested = results.size,
+            succeeded = results.count { it.success },
+            failed = results.count { !it.success },
+            results = results
+        )
+    }
+}
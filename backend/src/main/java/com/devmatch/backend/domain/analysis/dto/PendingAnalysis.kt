@@ -0,0 +1,13 @@
+package com.devmatch.backend.domain.analysis.dto
+
+import com.devmatch.backend.domain.analysis.cache.AnalysisCacheKey
+import com.devmatch.backend.domain.analysis.scoring.CompatibilityPreScorer
+
+// LLM에 보낼 지원서 하나의 프롬프트와 응답 캐시 키
+// scoreFloor가 있으면 LLM 점수가 프롬프트 규칙의 하한보다 낮을 때 하한으로 올린다
+data class PendingAnalysis(
+    val applicationId: Long,
+    val prompt: String,
+    val cacheKey: AnalysisCacheKey,
+    val scoreFloor: CompatibilityPreScorer.Floor? = null
+)
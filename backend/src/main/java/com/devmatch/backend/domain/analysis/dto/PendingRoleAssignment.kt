@@ -0,0 +1,14 @@
+package com.devmatch.backend.domain.analysis.dto
+
+// 역할 분배 준비 단계(읽기 트랜잭션)의 결과
+// stored가 있으면 팀 구성이 바뀌지 않은 것이므로 LLM을 호출하지 않고 그대로 돌려준다
+data class PendingRoleAssignment(
+    val projectId: Long,
+    val fingerprint: String,
+    val members: List<Member>,
+    val prompt: String,
+    val stored: RoleAssignmentResponse?
+) {
+    // 승인된 팀원. LLM 응답의 각 줄을 팀원과 짝짓는 데 사용
+    data class Member(val userId: Long, val nickname: String)
+}
@@ -0,0 +1,30 @@
+package com.devmatch.backend.domain.analysis.dto
+
+import com.devmatch.backend.domain.analysis.entity.RoleAssignment
+import java.time.LocalDateTime
+
+// reused가 true면 LLM을 다시 호출하지 않고 저장된 결과를 돌려준 것
+data class RoleAssignmentResponse(
+    val projectId: Long,
+    val content: String,
+    val members: List<Member>,
+    val createdAt: LocalDateTime,
+    val reused: Boolean
+) {
+    data class Member(
+        val userId: Long,
+        val nickname: String,
+        val role: String,
+        val reason: String
+    )
+
+    companion object {
+        fun from(roleAssignment: RoleAssignment, reused: Boolean) = RoleAssignmentResponse(
+            projectId = roleAssignment.project.id!!,
+            content = roleAssignment.content,
+            members = roleAssignment.members.map { Member(it.userId, it.nickname, it.role, it.reason) },
+            createdAt = roleAssignment.createdAt,
+            reused = reused
+        )
+    }
+}
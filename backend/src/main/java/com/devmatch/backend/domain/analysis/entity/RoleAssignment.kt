@@ -0,0 +1,83 @@
+package com.devmatch.backend.domain.analysis.entity
+
+import com.devmatch.backend.domain.application.entity.Application
+import com.devmatch.backend.domain.project.entity.Project
+import jakarta.persistence.*
+import java.security.MessageDigest
+import java.time.LocalDateTime
+
+// AI 팀 역할 분배 결과. 프로젝트와 승인된 팀원 구성(기술 점수 포함)의 지문으로 찾는다
+// 팀 구성이 같으면 저장된 결과를 그대로 쓰고, 바뀌면 지문이 달라져 새로 생성한다
+@Entity
+@Table(
+    name = "role_assignments",
+    uniqueConstraints = [
+        UniqueConstraint(name = "uk_role_assignment_project_fingerprint", columnNames = ["project_id", "fingerprint"])
+    ]
+)
+class RoleAssignment(
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "project_id", nullable = false)
+    val project: Project,
+
+    @Column(nullable = false, length = 64)
+    val fingerprint: String,
+
+    content: String,
+
+    members: List<RoleAssignmentMember>
+) {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    val id: Long? = null
+
+    // LLM이 돌려준 원문 전체
+    @Column(columnDefinition = "TEXT", nullable = false)
+    var content: String = content
+        private set
+
+    @ElementCollection
+    @CollectionTable(name = "role_assignment_members", joinColumns = [JoinColumn(name = "role_assignment_id")])
+    @OrderColumn(name = "position")
+    val members: MutableList<RoleAssignmentMember> = members.toMutableList()
+
+    var createdAt: LocalDateTime = LocalDateTime.now()
+        private set
+
+    // 같은 팀 구성으로 다시 생성(regenerate)하면 결과를 덮어쓴다
+    fun replace(content: String, members: List<RoleAssignmentMember>) {
+        this.content = content
+        this.members.clear()
+        this.members.addAll(members)
+        createdAt = LocalDateTime.now()
+    }
+
+    companion object {
+        // 역할 분배 프롬프트를 결정하는 입력값(프로젝트 정보 + 승인된 팀원과 기술 점수)의 해시
+        // 팀원이 바뀌거나 팀원의 기술 점수가 바뀌면 달라진다. 나열 순서와 대소문자는 무시
+        fun fingerprint(project: Project, approvedApplications: List<Application>, promptVersion: String): String {
+            val normalized = buildString {
+                append(promptVersion).append('\n')
+                append(project.description.trim().replace("\\s+".toRegex(), " ")).append('\n')
+                append(project.teamSize).append('\n')
+                append(project.durationWeeks).append('\n')
+
+                approvedApplications
+                    .map { application ->
+                        val skills = application.skillScore
+                            .map { "${it.techName.trim().lowercase()}=${it.score}" }
+                            .sorted()
+                            .joinToString(",")
+
+                        "${application.user.id}:${application.user.nickname}:$skills"
+                    }
+                    .sorted()
+                    .forEach { append(it).append('\n') }
+            }
+
+            val digest = MessageDigest.getInstance("SHA-256").digest(normalized.toByteArray())
+
+            return digest.joinToString("") { "%02x".format(it) }
+        }
+    }
+}
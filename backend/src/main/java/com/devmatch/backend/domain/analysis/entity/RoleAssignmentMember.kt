@@ -0,0 +1,20 @@
+package com.devmatch.backend.domain.analysis.entity
+
+import jakarta.persistence.Column
+import jakarta.persistence.Embeddable
+
+// 역할 분배 결과에서 팀원 한 명의 역할과 이유
+@Embeddable
+class RoleAssignmentMember(
+    @Column(name = "user_id", nullable = false)
+    val userId: Long,
+
+    @Column(name = "nickname", nullable = false)
+    val nickname: String,
+
+    @Column(name = "role", nullable = false)
+    val role: String,
+
+    @Column(name = "reason", columnDefinition = "TEXT", nullable = false)
+    val reason: String
+)
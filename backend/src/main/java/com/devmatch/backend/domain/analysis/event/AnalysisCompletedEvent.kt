@@ -0,0 +1,11 @@
+package com.devmatch.backend.domain.analysis.event
+
+import java.math.BigDecimal
+
+// 지원서의 적합도 분석 결과가 저장되었을 때 발행 (단건, 일괄 분석 모두)
+data class AnalysisCompletedEvent(
+    val applicationId: Long,
+    val projectId: Long,
+    val projectCreatorId: Long,
+    val score: BigDecimal
+)
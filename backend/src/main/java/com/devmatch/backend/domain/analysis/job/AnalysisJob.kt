@@ -0,0 +1,94 @@
+package com.devmatch.backend.domain.analysis.job
+
+import jakarta.persistence.*
+import java.time.Instant
+
+// 비동기로 실행되는 적합도 분석 작업 하나의 진행 상태
+// 작업을 등록한 인스턴스와 상태를 조회하는 인스턴스가 다를 수 있고 재시작 후에도 조회되어야 하므로 DB에 둔다
+@Entity
+@Table(
+    name = "analysis_jobs",
+    uniqueConstraints = [
+        // 인스턴스가 여러 개여도 같은 대상(지원서, 프로젝트)에 진행 중인 작업은 하나
+        UniqueConstraint(name = "uk_analysis_job_active_key", columnNames = ["active_key"])
+    ],
+    indexes = [
+        // 중단된 작업 정리(AnalysisJobService.sweep)
+        Index(name = "idx_analysis_job_status_heartbeat", columnList = "status, heartbeat_at"),
+        // 보관 기간이 지난 작업 삭제
+        Index(name = "idx_analysis_job_finished_at", columnList = "finished_at")
+    ]
+)
+class AnalysisJob(
+    @Id
+    @Column(length = 36)
+    val id: String,
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    val type: AnalysisJobType,
+
+    @Column(nullable = false)
+    val targetId: Long
+) {
+    // 진행 중(QUEUED, RUNNING)인 동안만 채워 두고, 끝나면 비워서 같은 대상을 다시 요청할 수 있게 한다
+    @Column(length = 64)
+    var activeKey: String? = keyOf(type, targetId)
+        private set
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    var status: AnalysisJobStatus = AnalysisJobStatus.QUEUED
+        private set
+
+    @Column(nullable = false)
+    val requestedAt: Instant = Instant.now()
+
+    var startedAt: Instant? = null
+        private set
+
+    var finishedAt: Instant? = null
+        private set
+
+    // 작업을 가진 인스턴스가 주기적으로 갱신한다. 오래 갱신되지 않은 진행 중 작업은 그 인스턴스가 중단된 것이다
+    @Column(nullable = false)
+    var heartbeatAt: Instant = requestedAt
+        private set
+
+    @Column(columnDefinition = "TEXT")
+    var errorMessage: String? = null
+        private set
+
+    // 일괄 분석 결과(BulkAnalysisResponse JSON). 지원서 분석 결과는 analysis_results에 있으므로 비워 둔다
+    @Column(columnDefinition = "TEXT")
+    var result: String? = null
+        private set
+
+    fun start() {
+        val now = Instant.now()
+
+        status = AnalysisJobStatus.RUNNING
+        startedAt = now
+        heartbeatAt = now
+    }
+
+    fun complete(result: String? = null) {
+        this.result = result
+        finish(AnalysisJobStatus.COMPLETED)
+    }
+
+    fun fail(message: String) {
+        errorMessage = message
+        finish(AnalysisJobStatus.FAILED)
+    }
+
+    private fun finish(status: AnalysisJobStatus) {
+        this.status = status
+        finishedAt = Instant.now()
+        activeKey = null
+    }
+
+    companion object {
+        fun keyOf(type: AnalysisJobType, targetId: Long) = "$type:$targetId"
+    }
+}
@@ -0,0 +1,8 @@
+package com.devmatch.backend.domain.analysis.job
+
+enum class AnalysisJobStatus(val isFinished: Boolean) {
+    QUEUED(false),     // 대기열에 등록됨
+    RUNNING(false),    // 분석 진행 중
+    COMPLETED(true),   // 분석 완료
+    FAILED(true)       // 분석 실패
+}
@@ -0,0 +1,6 @@
+package com.devmatch.backend.domain.analysis.job
+
+enum class AnalysisJobType {
+    APPLICATION,  // 지원서 하나의 적합도 분석 (targetId: 지원서 ID)
+    PROJECT       // 프로젝트의 미분석 대기중 지원서 일괄 분석 (targetId: 프로젝트 ID)
+}
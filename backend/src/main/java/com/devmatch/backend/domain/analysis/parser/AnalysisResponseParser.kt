@@ -0,0 +1,128 @@
+package com.devmatch.backend.domain.analysis.parser
+
+import com.devmatch.backend.domain.analysis.dto.AnalysisOutput
+import com.fasterxml.jackson.core.json.JsonReadFeature
+import com.fasterxml.jackson.databind.JsonNode
+import com.fasterxml.jackson.databind.json.JsonMapper
+import io.micrometer.core.instrument.Counter
+import io.micrometer.core.instrument.MeterRegistry
+import org.springframework.ai.converter.BeanOutputConverter
+import org.springframework.stereotype.Component
+import java.math.BigDecimal
+import java.math.RoundingMode
+
+// 적합도 분석 응답(JSON)을 점수와 이유로 바꾸는 파서
+// 1) 스키마대로 온 JSON → 2) 흔한 변형(코드 블록, 앞뒤 설명, 따옴표 없는 키, 예전 "점수|이유" 형식) 순으로 시도하고
+// 둘 다 실패하면 null을 돌려 호출하는 쪽에서 형식 복구 재요청을 보내게 한다
+@Component
+class AnalysisResponseParser(
+    meterRegistry: MeterRegistry
+) {
+    enum class Outcome { STRICT, REPAIRED, REASKED, FAILED }
+
+    data class Parsed(val score: BigDecimal, val reason: String, val outcome: Outcome)
+
+    private val converter = BeanOutputConverter(AnalysisOutput::class.java)
+
+    private val counters: Map<Outcome, Counter> = Outcome.entries.associateWith { outcome ->
+        Counter.builder("analysis.llm.parse")
+            .description("적합도 분석 응답 파싱 결과 (strict: 그대로 성공, repaired: 로컬 복구, reasked: 재요청 후 성공, failed: 실패)")
+            .tag("outcome", outcome.name.lowercase())
+            .register(meterRegistry)
+    }
+
+    // 프롬프트에 붙일 JSON 스키마 안내문. 스키마가 바뀌지 않으므로 분석마다 다시 만들지 않고 한 번만 만든다
+    val format: String = converter.format
+
+    fun parse(response: String): Parsed? =
+        parseStrict(response)?.let { (score, reason) -> Parsed(score, reason, Outcome.STRICT) }
+            ?: repair(response)?.let { (score, reason) -> Parsed(score, reason, Outcome.REPAIRED) }
+
+    fun record(outcome: Outcome) {
+        counters.getValue(outcome).increment()
+    }
+
+    // 형식 복구 재요청 프롬프트. 원래 프롬프트 없이 응답만 보내므로 짧고 저렴하다
+    fun buildRepairPrompt(response: String): String = buildString {
+        append("[응답 형식 복구]\n")
+        append("아래 응답에서 적합도 점수와 이유를 찾아 지정된 JSON 형식으로만 다시 작성하세요. 내용을 새로 지어내지 마세요.\n\n")
+        append("응답:\n")
+        append(response.take(MAX_REPAIR_INPUT_LENGTH)).append("\n\n")
+        append(format)
+    }
+
+    private fun parseStrict(response: String): Pair<BigDecimal, String>? =
+        runCatching { converter.convert(response) }
+            .getOrNull()
+            ?.let { validate(it.score, it.reason) }
+
+    private fun repair(response: String): Pair<BigDecimal, String>? =
+        repairJson(response) ?: repairDelimited(response) ?: repairLabeled(response)
+
+    // 코드 블록이나 설명 문장 사이에 낀 JSON 객체, 작은따옴표/따옴표 없는 키, 문자열로 온 점수
+    private fun repairJson(response: String): Pair<BigDecimal, String>? {
+        val start = response.indexOf('{')
+        val end = response.lastIndexOf('}')
+
+        if (start < 0 || end <= start) return null
+
+        val node = runCatching { lenientMapper.readTree(response.substring(start, end + 1)) }.getOrNull() ?: return null
+
+        val score = node.firstText("score", "점수", "compatibilityScore")?.let(::toScore)
+        val reason = node.firstText("reason", "이유", "compatibilityReason")
+
+        return validate(score, reason)
+    }
+
+    // 예전 "점수|이유" 형식 (앞에 설명이 붙거나 "78점|..." 처럼 단위가 붙은 경우 포함)
+    private fun repairDelimited(response: String): Pair<BigDecimal, String>? =
+        DELIMITED.find(response)?.let { validate(toScore(it.groupValues[1]), it.groupValues[2]) }
+
+    // "점수: 78.5\n이유: ..." 처럼 항목 이름을 붙여 답한 경우
+    private fun repairLabeled(response: String): Pair<BigDecimal, String>? {
+        val score = LABELED_SCORE.find(response)?.groupValues?.get(1)?.let(::toScore)
+        val reason = LABELED_REASON.find(response)?.groupValues?.get(1)
+
+        return validate(score, reason)
+    }
+
+    private fun validate(score: BigDecimal?, reason: String?): Pair<BigDecimal, String>? {
+        if (score == null || score !in BigDecimal.ZERO..MAX_SCORE) return null
+
+        val trimmedReason = reason?.trim()?.trim('"')?.trim()
+
+        if (trimmedReason.isNullOrEmpty()) return null
+
+        return adjustLowScore(score.setScale(2, RoundingMode.HALF_UP)) to trimmedReason
+    }
+
+    // 관대한 평가 권장 - 너무 낮은 점수일 경우 최소 점수로 조정
+    private fun adjustLowScore(score: BigDecimal): BigDecimal =
+        if (score < LOW_SCORE_THRESHOLD) MIN_ADJUSTED_SCORE else score
+
+    private fun toScore(text: String): BigDecimal? =
+        NUMBER.find(text)?.value?.toBigDecimalOrNull()
+
+    private fun JsonNode.firstText(vararg names: String): String? =
+        names.firstNotNullOfOrNull { name -> get(name)?.takeIf { !it.isNull }?.asText() }
+
+    companion object {
+        private val MAX_SCORE = BigDecimal("100")
+        private val LOW_SCORE_THRESHOLD = BigDecimal("25")
+        private val MIN_ADJUSTED_SCORE = BigDecimal("45.00")
+
+        private const val MAX_REPAIR_INPUT_LENGTH = 2000
+
+        private val NUMBER = Regex("-?\\d{1,3}(?:\\.\\d+)?")
+        private val DELIMITED = Regex("(\\d{1,3}(?:\\.\\d+)?)\\s*점?\\s*\\|\\s*(.+)", RegexOption.DOT_MATCHES_ALL)
+        private val LABELED_SCORE = Regex("(?:점수|score)\\s*[:：]\\s*(\\d{1,3}(?:\\.\\d+)?)", RegexOption.IGNORE_CASE)
+        private val LABELED_REASON = Regex("(?:이유|reason)\\s*[:：]\\s*(.+)", setOf(RegexOption.IGNORE_CASE, RegexOption.DOT_MATCHES_ALL))
+
+        private val lenientMapper = JsonMapper.builder()
+            .enable(JsonReadFeature.ALLOW_SINGLE_QUOTES)
+            .enable(JsonReadFeature.ALLOW_UNQUOTED_FIELD_NAMES)
+            .enable(JsonReadFeature.ALLOW_TRAILING_COMMA)
+            .enable(JsonReadFeature.ALLOW_UNESCAPED_CONTROL_CHARS)
+            .build()
+    }
+}
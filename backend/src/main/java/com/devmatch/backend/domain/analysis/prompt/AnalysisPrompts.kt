@@ -0,0 +1,91 @@
+package com.devmatch.backend.domain.analysis.prompt
+
+import com.devmatch.backend.domain.application.entity.Application
+import com.devmatch.backend.domain.application.entity.SkillScore
+import com.devmatch.backend.domain.project.entity.Project
+
+// 적합도 분석과 팀 역할 분배 프롬프트. 분석마다 실행되므로 JMH(AnalysisPromptBenchmark)로 측정한다
+// 요청마다 바뀌지 않는 안내문은 한 번만 만들어 두고, 프로젝트/지원자 정보만 이어 붙인다
+// 문구나 응답 형식을 바꾸면 AnalysisService의 프롬프트 버전도 올린다
+object AnalysisPrompts {
+    private const val COMPATIBILITY_INTRO =
+        "당신은 친화적이고 관대한 IT 프로젝트 전문 분석가입니다. 팀 프로젝트의 협업 가치를 중시하며, 지원자의 잠재력을 긍정적으로 평가해주세요.\n\n"
+
+    private val COMPATIBILITY_GUIDE = buildString {
+        append("\n✨ 긍정적 평가 기준:\n")
+        append("1. 🎯 전문 분야: 한 분야에 7점 이상이면 해당 분야 전문가로 인정\n")
+        append("2. 🤝 팀워크: 프론트엔드 또는 백엔드 중 하나만 잘해도 충분히 기여 가능\n")
+        append("3. 📚 성장성: 기본 점수(3-4점)도 팀 협업으로 빠른 성장 가능\n")
+        append("4. 🔧 상호보완: 팀원들의 기술이 서로 보완되어 시너지 효과\n")
+        append("5. 💡 학습력: 실제 프로젝트를 통한 실무 경험으로 급속 성장\n\n")
+        append("🎉 관대한 점수 가이드라인 (팀 프로젝트 특성 반영):\n")
+        append("85-100: 핵심 기술 전문가 - 팀을 리드하며 다른 팀원들을 가르칠 수 있음\n")
+        append("70-84: 특정 분야 숙련자 - 자신의 전문 분야를 담당하며 안정적으로 기여\n")
+        append("55-69: 기여 가능한 팀원 - 일부 기술에 능숙하여 특정 역할 담당 + 다른 분야 학습\n")
+        append("40-54: 성장형 팀원 - 기본기가 있어 팀원들과 협업하며 빠르게 성장 가능\n")
+        append("25-39: 학습 의지형 - 현재는 기초적이지만 프로젝트를 통해 실력 향상 기대\n")
+        append("0-24: 현재로서는 참여 어려움 (매우 드문 경우)\n\n")
+        append("💝 특별 고려사항:\n")
+        append("- 프론트엔드 전문가(React/Vue 7점+): 백엔드를 모르더라도 75점 이상\n")
+        append("- 백엔드 전문가(Java/Spring 7점+): 프론트엔드를 모르더라도 75점 이상\n")
+        append("- 풀스택 지향(양쪽 5점+): 다재다능함으로 80점 이상\n")
+        append("- 성장 의지 보이는 초보자도 최소 45점 이상 부여\n\n")
+        append("🎯 응답 형식 (긍정적 평가로):\n")
+        append("score(점수)와 reason(긍정적 이유)을 가진 JSON 객체 하나\n\n")
+        append("📋 규칙:\n")
+        append("1. 점수는 40.00-100.00 사이 (팀 프로젝트 특성상 대부분 40점 이상)\n")
+        append("2. 이유는 긍정적이고 구체적으로 (기여할 수 있는 부분 강조)\n")
+        append("3. JSON 외의 다른 텍스트 절대 포함 금지\n\n")
+        append("✨ 예시:\n")
+        append("- {\"score\": 78.50, \"reason\": \"Java/Spring Boot 전문가로 백엔드 개발을 주도할 수 있으며, 팀원과 협업하여 프론트엔드도 학습 가능\"}\n")
+        append("- {\"score\": 72.00, \"reason\": \"React 숙련자로 프론트엔드 담당 가능, 백엔드 API 연동 경험으로 팀 협업에 유리\"}\n")
+        append("- {\"score\": 58.00, \"reason\": \"기본기가 탄탄하여 특정 분야 담당하며 다른 기술도 빠르게 습득 가능\"}\n\n")
+    }
+
+    private val ROLE_ASSIGNMENT_GUIDE = buildString {
+        append("🎯 각 팀원의 최고 점수 기술을 기준으로 역할을 배정하세요.\n\n")
+        append("🚨 출력 규칙:\n")
+        append("1. 한국어로만 응답\n")
+        append("2. 서론/설명 없이 바로 결과만 출력\n")
+        append("3. 형식: '팀원명 - 역할 | 이유'\n")
+        append("4. 각 팀원마다 한 줄씩\n\n")
+        append("역할 분배:")
+    }
+
+    fun compatibility(project: Project, skills: List<SkillScore>, responseFormat: String): String =
+        StringBuilder(COMPATIBILITY_INTRO.length + COMPATIBILITY_GUIDE.length + responseFormat.length + 512)
+            .append(COMPATIBILITY_INTRO)
+            .append("프로젝트 정보:\n")
+            .append("- 프로젝트: ").append(project.description).append('\n')
+            .append("- 팀 규모: ").append(project.teamSize).append("명 (역할 분담 가능)\n")
+            .append("- 프로젝트 기간: ").append(project.durationWeeks).append("주 (학습 시간 충분)\n")
+            .append("- 필요 기술: ").append(project.techStack).append("\n\n")
+            .append("지원자 기술 역량:\n")
+            .apply {
+                skills.forEach { append("- ").append(it.techName).append(": ").append(it.score).append("/10점\n") }
+            }
+            .append(COMPATIBILITY_GUIDE)
+            .append(responseFormat).append("\n\n")
+            .append("응답:")
+            .toString()
+
+    fun roleAssignment(project: Project, approvedApplications: List<Application>): String =
+        StringBuilder(ROLE_ASSIGNMENT_GUIDE.length + 256 + approvedApplications.size * 128)
+            .append("🎯 프로젝트 분석 및 팀 역할 배분\n\n")
+            .append("📋 프로젝트 정보:\n")
+            .append("- 프로젝트: ").append(project.description).append('\n')
+            .append("- 팀 규모: ").append(project.teamSize).append("명\n")
+            .append("- 프로젝트 기간: ").append(project.durationWeeks).append("주\n\n")
+            .append("👥 팀원 기술 역량 분석:\n")
+            .apply {
+                approvedApplications.forEachIndexed { index, application ->
+                    append("팀원 ").append(index + 1).append(": ").append(application.user.nickname).append('\n')
+                    application.skillScore.forEach {
+                        append("  • ").append(it.techName).append(": ").append(it.score).append("/10점\n")
+                    }
+                    append('\n')
+                }
+            }
+            .append(ROLE_ASSIGNMENT_GUIDE)
+            .toString()
+}
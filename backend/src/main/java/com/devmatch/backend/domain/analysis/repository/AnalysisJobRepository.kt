@@ -0,0 +1,26 @@
+package com.devmatch.backend.domain.analysis.repository
+
+import com.devmatch.backend.domain.analysis.job.AnalysisJob
+import com.devmatch.backend.domain.analysis.job.AnalysisJobStatus
+import org.springframework.data.jpa.repository.JpaRepository
+import org.springframework.data.jpa.repository.Modifying
+import org.springframework.data.jpa.repository.Query
+import org.springframework.data.repository.query.Param
+import org.springframework.stereotype.Repository
+import java.time.Instant
+
+@Repository
+interface AnalysisJobRepository : JpaRepository<AnalysisJob, String> {
+    fun findByActiveKey(activeKey: String): AnalysisJob?
+
+    fun findByStatusInAndHeartbeatAtBefore(statuses: Collection<AnalysisJobStatus>, threshold: Instant): List<AnalysisJob>
+
+    // 이 인스턴스가 가진 진행 중 작업을 한 번에 갱신
+    @Modifying
+    @Query("update AnalysisJob j set j.heartbeatAt = :now where j.id in :ids")
+    fun touch(@Param("ids") ids: Collection<String>, @Param("now") now: Instant): Int
+
+    @Modifying
+    @Query("delete from AnalysisJob j where j.finishedAt < :threshold")
+    fun deleteFinishedBefore(@Param("threshold") threshold: Instant): Int
+}
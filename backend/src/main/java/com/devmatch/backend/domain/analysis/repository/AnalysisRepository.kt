@@ -1,10 +1,13 @@
 package com.devmatch.backend.domain.analysis.repository
 
 import com.devmatch.backend.domain.analysis.entity.AnalysisResult
+import org.springframework.data.jpa.repository.EntityGraph
 import org.springframework.data.jpa.repository.JpaRepository
 import org.springframework.stereotype.Repository
 
 @Repository
 interface AnalysisRepository : JpaRepository<AnalysisResult, Long> {
+    // 컨트롤러가 트랜잭션 밖에서 응답으로 변환하므로(open-in-view 꺼짐) 지원서를 함께 조회
+    @EntityGraph(attributePaths = ["application"])
     fun findByApplicationId(applicationId: Long): AnalysisResult?
 }
\ No newline at end of file
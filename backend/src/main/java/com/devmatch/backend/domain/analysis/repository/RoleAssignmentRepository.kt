@@ -0,0 +1,13 @@
+package com.devmatch.backend.domain.analysis.repository
+
+import com.devmatch.backend.domain.analysis.entity.RoleAssignment
+import org.springframework.data.jpa.repository.EntityGraph
+import org.springframework.data.jpa.repository.JpaRepository
+import org.springframework.stereotype.Repository
+
+@Repository
+interface RoleAssignmentRepository : JpaRepository<RoleAssignment, Long> {
+    // (project_id, fingerprint) 유니크 인덱스로 한 건만 조회하고 팀원 목록도 함께 가져온다
+    @EntityGraph(attributePaths = ["members"])
+    fun findByProjectIdAndFingerprint(projectId: Long, fingerprint: String): RoleAssignment?
+}
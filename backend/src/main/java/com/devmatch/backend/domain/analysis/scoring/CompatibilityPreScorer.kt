@@ -0,0 +1,74 @@
+package com.devmatch.backend.domain.analysis.scoring
+
+import com.devmatch.backend.domain.application.entity.SkillScore
+import com.devmatch.backend.domain.project.entity.ProjectTech
+import io.micrometer.core.instrument.Counter
+import io.micrometer.core.instrument.MeterRegistry
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.stereotype.Component
+import java.math.BigDecimal
+
+// 분석 프롬프트의 "특별 고려사항" 중 기술 점수만으로 판단할 수 있는 규칙(전문가 75점+, 풀스택 80점+)을 로컬에서 계산한다
+// 규칙은 하한일 뿐 점수 자체를 정하지 않으므로 LLM 호출은 생략하지 않는다. 점수와 이유는 LLM이 정하고,
+// LLM이 하한보다 낮게 준 경우에만 하한으로 올린다
+// "성장 의지 보이는 초보자 45점+"는 의지를 기술 점수로 알 수 없어 LLM 판단에 맡긴다
+@Component
+class CompatibilityPreScorer(
+    meterRegistry: MeterRegistry,
+    @param:Value("\${custom.analysis.preScoring.enabled}")
+    private val enabled: Boolean
+) {
+    private val raised: Counter = Counter.builder("analysis.prescore")
+        .description("규칙 하한이 있는 분석에서 LLM 점수를 하한으로 올렸는지 여부")
+        .tag("outcome", "raised")
+        .register(meterRegistry)
+
+    private val satisfied: Counter = Counter.builder("analysis.prescore")
+        .description("규칙 하한이 있는 분석에서 LLM 점수를 하한으로 올렸는지 여부")
+        .tag("outcome", "satisfied")
+        .register(meterRegistry)
+
+    // minimum 이상이어야 하는 이유가 된 규칙 (로그와 테스트용)
+    data class Floor(val minimum: BigDecimal, val rule: String)
+
+    fun floor(skills: List<SkillScore>): Floor? {
+        if (!enabled) return null
+
+        return evaluate(skills.map { ProjectTech.normalize(it.techName) to it.score })
+    }
+
+    // LLM(또는 캐시된 응답)의 점수에 하한을 적용한다
+    fun apply(floor: Floor?, score: BigDecimal): BigDecimal {
+        if (floor == null) return score
+
+        if (score >= floor.minimum) {
+            satisfied.increment()
+            return score
+        }
+
+        raised.increment()
+        return floor.minimum
+    }
+
+    companion object {
+        // 프롬프트에 적힌 기술만 본다 ("React/Vue", "Java/Spring"). 목록을 넓히면 프롬프트와 다른 규칙이 된다
+        private val FRONTEND = setOf("react", "vue")
+        private val BACKEND = setOf("java", "spring")
+
+        private val FULLSTACK_MINIMUM = BigDecimal("80.00")
+        private val EXPERT_MINIMUM = BigDecimal("75.00")
+
+        // skills의 기술명은 정규화된 이름. 여러 규칙에 해당하면 가장 높은 하한을 쓴다
+        fun evaluate(skills: List<Pair<String, Int>>): Floor? {
+            val frontend = skills.filter { it.first in FRONTEND }.maxOfOrNull { it.second } ?: 0
+            val backend = skills.filter { it.first in BACKEND }.maxOfOrNull { it.second } ?: 0
+
+            return when {
+                frontend >= 5 && backend >= 5 -> Floor(FULLSTACK_MINIMUM, "풀스택 지향(양쪽 5점+)")
+                frontend >= 7 -> Floor(EXPERT_MINIMUM, "프론트엔드 전문가(React/Vue 7점+)")
+                backend >= 7 -> Floor(EXPERT_MINIMUM, "백엔드 전문가(Java/Spring 7점+)")
+                else -> null
+            }
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package com.devmatch.backend.domain.analysis.service
+
+import com.devmatch.backend.domain.analysis.dto.AnalysisJobResponse
+import com.devmatch.backend.domain.analysis.dto.AnalysisResultResponse
+import com.devmatch.backend.domain.analysis.dto.BulkAnalysisResponse
+import com.devmatch.backend.domain.analysis.job.AnalysisJob
+import com.devmatch.backend.domain.analysis.job.AnalysisJobStatus
+import com.devmatch.backend.domain.analysis.job.AnalysisJobType
+import com.devmatch.backend.domain.analysis.repository.AnalysisJobRepository
+import com.devmatch.backend.domain.analysis.repository.AnalysisRepository
+import com.fasterxml.jackson.databind.ObjectMapper
+import io.micrometer.context.ContextSnapshotFactory
+import io.micrometer.core.instrument.Gauge
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.Timer
+import jakarta.annotation.PreDestroy
+import org.slf4j.LoggerFactory
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.dao.DataIntegrityViolationException
+import org.springframework.data.repository.findByIdOrNull
+import org.springframework.scheduling.annotation.Scheduled
+import org.springframework.stereotype.Service
+import org.springframework.transaction.PlatformTransactionManager
+import org.springframework.transaction.support.TransactionTemplate
+import java.time.Duration
+import java.time.Instant
+import java.util.*
+import java.util.concurrent.ArrayBlockingQueue
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.RejectedExecutionException
+import java.util.concurrent.ThreadPoolExecutor
+import java.util.concurrent.TimeUnit
+
+// 적합도 분석(LLM 호출)을 요청 스레드에서 분리해 제한된 워커 풀에서 실행하는 서비스
+// 지원서 하나의 분석과 프로젝트 일괄 분석 모두 요청은 작업 ID만 받아 즉시 반환되고, 결과는 getJob()으로 폴링한다
+// 작업 상태는 DB(analysis_jobs)에 두므로 폴링이 다른 인스턴스로 가도, 재시작한 뒤에도 조회된다
+// 실행은 작업을 등록한 인스턴스의 워커가 하고, 그 인스턴스가 중단되면 heartbeat가 끊겨 다른 인스턴스가 실패로 정리한다
+@Service
+class AnalysisJobService(
+    private val analysisService: AnalysisService,
+    private val bulkAnalysisService: BulkAnalysisService,
+    private val analysisJobRepository: AnalysisJobRepository,
+    private val analysisRepository: AnalysisRepository,
+    private val objectMapper: ObjectMapper,
+    private val meterRegistry: MeterRegistry,
+    transactionManager: PlatformTransactionManager,
+    @param:Value("\${custom.analysis.job.workers}")
+    workers: Int,
+    @param:Value("\${custom.analysis.job.queueCapacity}")
+    queueCapacity: Int,
+    @param:Value("\${custom.analysis.job.retentionMinutes}")
+    retentionMinutes: Long,
+    @param:Value("\${custom.analysis.job.staleSeconds}")
+    staleSeconds: Long
+) {
+    private val retention: Duration = Duration.ofMinutes(retentionMinutes)
+    private val stale: Duration = Duration.ofSeconds(staleSeconds)
+
+    private val transaction = TransactionTemplate(transactionManager)
+    private val readTransaction = TransactionTemplate(transactionManager).apply { isReadOnly = true }
+
+    // 이 인스턴스의 워커에 맡겨져 아직 끝나지 않은 작업. heartbeat 대상
+    private val ownedJobs = ConcurrentHashMap.newKeySet<String>()
+
+    // 동시에 실행되는 LLM 호출 수는 workers로, 대기 작업 수는 queueCapacity로 제한 (인스턴스마다)
+    // 워커는 가상 스레드라 블로킹 호출 동안 플랫폼 스레드를 점유하지 않는다
+    private val executor = ThreadPoolExecutor(
+        workers,
+        workers,
+        0L,
+        TimeUnit.MILLISECONDS,
+        ArrayBlockingQueue(queueCapacity),
+        Thread.ofVirtual().name("analysis-job-", 0).factory(),
+        ThreadPoolExecutor.AbortPolicy()
+    )
+
+    private val snapshots = ContextSnapshotFactory.builder().build()
+
+    private val waitTimer: Timer = Timer.builder("analysis.job.wait")
+        .description("분석 작업이 대기열에서 기다린 시간")
+        .register(meterRegistry)
+
+    init {
+        Gauge.builder("analysis.job.queue.depth", executor) { it.queue.size.toDouble() }
+            .description("대기 중인 분석 작업 수")
+            .register(meterRegistry)
+
+        Gauge.builder("analysis.job.active", executor) { it.activeCount.toDouble() }
+            .description("실행 중인 분석 작업 수")
+            .register(meterRegistry)
+    }
+
+    fun submit(applicationId: Long): AnalysisJob =
+        submit(AnalysisJobType.APPLICATION, applicationId) {
+            // 존재하지 않거나 이미 분석된 지원서는 대기열에 넣기 전에 바로 거절
+            analysisService.validateAnalyzable(applicationId)
+        }
+
+    // 일괄 분석은 작업 하나가 워커 하나를 차지하고, 그 안에서 지원서별 LLM 호출을 bulk.concurrency 만큼 병렬로 보낸다
+    fun submitBulk(projectId: Long): AnalysisJob =
+        submit(AnalysisJobType.PROJECT, projectId) {
+            // 존재하지 않는 프로젝트는 대기열에 넣기 전에 바로 거절
+            analysisService.validateBulkAnalyzable(projectId)
+        }
+
+    private fun submit(type: AnalysisJobType, targetId: Long, validate: () -> Unit): AnalysisJob {
+        // 같은 대상에 대한 중복 요청(더블 클릭 등)은 진행 중인 작업을 그대로 돌려준다
+        findActive(type, targetId)?.let { return it }
+
+        validate()
+
+        // 위 확인과 저장 사이에 다른 요청(다른 인스턴스 포함)이 끼어들 수 있으므로 자리는 유니크 제약으로 차지한다
+        // 먼저 자리를 차지한 요청이 있으면 그 작업을 돌려주고, 이 요청의 작업은 만들지 않는다
+        val job = try {
+            transaction.execute {
+                analysisJobRepository.saveAndFlush(AnalysisJob(UUID.randomUUID().toString(), type, targetId))
+            }!!
+        } catch (e: DataIntegrityViolationException) {
+            return findActive(type, targetId) ?: throw e
+        }
+
+        ownedJobs.add(job.id)
+
+        try {
+            // 작업을 등록한 요청의 트레이스에 LLM 호출과 저장 span이 이어지도록 컨텍스트를 넘긴다
+            executor.execute(snapshots.captureAll().wrap(Runnable { run(job) }))
+        } catch (e: RejectedExecutionException) {
+            ownedJobs.remove(job.id)
+            // 실행하지 않을 작업이므로 남기지 않는다. 자리도 함께 비워져 나중에 다시 요청할 수 있다
+            transaction.execute { analysisJobRepository.deleteById(job.id) }
+            throw RejectedExecutionException("분석 요청이 많아 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.", e)
+        }
+
+        return job
+    }
+
+    // 완료된 작업은 분석 결과를 함께 돌려준다
+    fun getJob(jobId: String): AnalysisJobResponse =
+        readTransaction.execute {
+            val job = analysisJobRepository.findByIdOrNull(jobId)
+                ?: throw NoSuchElementException("분석 작업을 찾을 수 없습니다. jobId: $jobId")
+
+            when {
+                job.status != AnalysisJobStatus.COMPLETED -> AnalysisJobResponse.from(job)
+
+                job.type == AnalysisJobType.APPLICATION -> AnalysisJobResponse.from(
+                    job,
+                    result = analysisRepository.findByApplicationId(job.targetId)?.let { AnalysisResultResponse.from(it) }
+                )
+
+                else -> AnalysisJobResponse.from(
+                    job,
+                    bulkResult = job.result?.let { objectMapper.readValue(it, BulkAnalysisResponse::class.java) }
+                )
+            }
+        }!!
+
+    // 이 인스턴스의 진행 중 작업에 heartbeat를 남기고, heartbeat가 끊긴(다른 인스턴스가 중단된) 작업은 실패로 정리한다
+    // 모든 인스턴스가 실행하며, 같은 작업을 두 인스턴스가 함께 정리해도 결과는 같다
+    @Scheduled(fixedDelayString = "\${custom.analysis.job.heartbeatSeconds}", timeUnit = TimeUnit.SECONDS)
+    fun heartbeat() {
+        val owned = ownedJobs.toList()
+        if (owned.isNotEmpty()) {
+            transaction.execute { analysisJobRepository.touch(owned, Instant.now()) }
+        }
+
+        sweep()
+    }
+
+    fun sweep() {
+        val now = Instant.now()
+
+        transaction.execute {
+            analysisJobRepository.findByStatusInAndHeartbeatAtBefore(ACTIVE_STATUSES, now.minus(stale))
+                .filter { it.id !in ownedJobs }
+                .forEach {
+                    log.warn("heartbeat가 끊긴 분석 작업을 실패로 정리: jobId={}, type={}, targetId={}", it.id, it.type, it.targetId)
+                    it.fail("분석을 실행하던 서버가 중단되었습니다. 다시 요청해주세요.")
+                }
+
+            analysisJobRepository.deleteFinishedBefore(now.minus(retention))
+        }
+    }
+
+    private fun findActive(type: AnalysisJobType, targetId: Long): AnalysisJob? =
+        readTransaction.execute { analysisJobRepository.findByActiveKey(AnalysisJob.keyOf(type, targetId)) }
+
+    private fun run(job: AnalysisJob) {
+        try {
+            waitTimer.record(Duration.between(job.requestedAt, Instant.now()))
+
+            // 대기하는 동안 중단된 작업으로 정리됐으면 실행하지 않는다
+            val started = transaction.execute {
+                analysisJobRepository.findByIdOrNull(job.id)
+                    ?.takeIf { it.status == AnalysisJobStatus.QUEUED }
+                    ?.also { it.start() }
+            } != null
+            if (!started) return
+
+            val sample = Timer.start(meterRegistry)
+            val (result, failure) = try {
+                execute(job) to null
+            } catch (e: Exception) {
+                null to e
+            }
+
+            // 끝난 상태와 자리 비우기를 한 번에 저장해, 끝난 작업을 확인한 뒤의 재요청은 항상 새 작업이 되게 한다
+            transaction.execute {
+                analysisJobRepository.findByIdOrNull(job.id)?.apply {
+                    if (failure == null) complete(result) else fail(failure.message ?: "분석 중 오류가 발생했습니다")
+                }
+            }
+
+            sample.stop(
+                Timer.builder("analysis.job.duration")
+                    .description("분석 작업 실행 시간(LLM 호출 + 저장)")
+                    .tag("type", job.type.name.lowercase())
+                    .tag("outcome", if (failure == null) "success" else "failure")
+                    .register(meterRegistry)
+            )
+        } finally {
+            ownedJobs.remove(job.id)
+        }
+    }
+
+    // 작업에 저장할 결과를 돌려준다. 지원서 분석 결과는 AnalysisService가 analysis_results에 저장한다
+    private fun execute(job: AnalysisJob): String? =
+        when (job.type) {
+            AnalysisJobType.APPLICATION -> {
+                analysisService.createAnalysisResult(job.targetId)
+                null
+            }
+
+            AnalysisJobType.PROJECT ->
+                objectMapper.writeValueAsString(bulkAnalysisService.analyzePendingApplications(job.targetId))
+        }
+
+    @PreDestroy
+    fun shutdown() {
+        executor.shutdown()
+    }
+
+    companion object {
+        private val ACTIVE_STATUSES = listOf(AnalysisJobStatus.QUEUED, AnalysisJobStatus.RUNNING)
+
+        private val log = LoggerFactory.getLogger(AnalysisJobService::class.java)
+    }
+}
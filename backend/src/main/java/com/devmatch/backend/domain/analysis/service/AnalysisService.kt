@@ -1,133 +1,235 @@
 package com.devmatch.backend.domain.analysis.service
 
+import com.devmatch.backend.domain.analysis.cache.AnalysisCacheKey
+import com.devmatch.backend.domain.analysis.cache.AnalysisResponseCache
+import com.devmatch.backend.domain.analysis.dto.PendingAnalysis
+import com.devmatch.backend.domain.analysis.dto.PendingRoleAssignment
+import com.devmatch.backend.domain.analysis.dto.RoleAssignmentResponse
 import com.devmatch.backend.domain.analysis.entity.AnalysisResult
+import com.devmatch.backend.domain.analysis.entity.RoleAssignment
+import com.devmatch.backend.domain.analysis.entity.RoleAssignmentMember
+import com.devmatch.backend.domain.analysis.event.AnalysisCompletedEvent
+import com.devmatch.backend.domain.analysis.parser.AnalysisResponseParser
+import com.devmatch.backend.domain.analysis.prompt.AnalysisPrompts
 import com.devmatch.backend.domain.analysis.repository.AnalysisRepository
+import com.devmatch.backend.domain.analysis.repository.RoleAssignmentRepository
+import com.devmatch.backend.domain.analysis.scoring.CompatibilityPreScorer
 import com.devmatch.backend.domain.application.entity.Application
-import com.devmatch.backend.domain.application.entity.SkillScore
 import com.devmatch.backend.domain.application.enums.ApplicationStatus
 import com.devmatch.backend.domain.application.service.ApplicationService
-import com.devmatch.backend.domain.project.entity.Project
 import com.devmatch.backend.domain.project.service.ProjectService
+import com.devmatch.backend.global.logging.LlmPayloadLogger
+import com.devmatch.backend.global.outbox.DomainEventPublisher
 import org.springframework.ai.chat.model.ChatModel
+import org.springframework.dao.DataIntegrityViolationException
 import org.springframework.stereotype.Service
+import org.springframework.transaction.PlatformTransactionManager
 import org.springframework.transaction.annotation.Transactional
+import org.springframework.transaction.support.TransactionTemplate
+import reactor.core.publisher.Flux
+import reactor.core.scheduler.Schedulers
 import java.math.BigDecimal
 
 @Service
 class AnalysisService(
     private val analysisRepository: AnalysisRepository,
+    private val roleAssignmentRepository: RoleAssignmentRepository,
     private val applicationService: ApplicationService,
     private val projectService: ProjectService,
-    private val chatModel: ChatModel
+    private val chatModel: ChatModel,
+    private val analysisResponseCache: AnalysisResponseCache,
+    private val compatibilityPreScorer: CompatibilityPreScorer,
+    private val analysisResponseParser: AnalysisResponseParser,
+    private val domainEventPublisher: DomainEventPublisher,
+    private val llmPayloadLogger: LlmPayloadLogger,
+    transactionManager: PlatformTransactionManager
 ) {
+    // LLM 호출은 수 초가 걸리므로 트랜잭션(=DB 커넥션) 밖에서 실행하고,
+    // 조회와 저장만 짧은 트랜잭션으로 감싼다
+    private val readTransaction = TransactionTemplate(transactionManager).apply { isReadOnly = true }
+    private val writeTransaction = TransactionTemplate(transactionManager)
 
     @Transactional(readOnly = true)
     fun getAnalysisResult(applicationId: Long): AnalysisResult =
         analysisRepository.findByApplicationId(applicationId)
             ?: throw NoSuchElementException("분석 결과를 찾을 수 없습니다. applicationId: $applicationId")
 
-    @Transactional
+    // 분석 작업을 대기열에 넣기 전에 지원서가 존재하고 아직 분석되지 않았는지 확인
+    @Transactional(readOnly = true)
+    fun validateAnalyzable(applicationId: Long) {
+        requireNotAnalyzed(applicationService.getApplicationByApplicationId(applicationId))
+    }
+
+    // 일괄 분석 작업을 대기열에 넣기 전에 프로젝트가 존재하는지 확인
+    @Transactional(readOnly = true)
+    fun validateBulkAnalyzable(projectId: Long) {
+        projectService.getProject(projectId)
+    }
+
+    // 조회(읽기 트랜잭션) → LLM 호출(트랜잭션 없음) → 저장(쓰기 트랜잭션) 순서로 실행
     fun createAnalysisResult(applicationId: Long): AnalysisResult {
-        val application = applicationService.getApplicationByApplicationId(applicationId)
-        val project = application.project
-        val userSkills = application.skillScore
-
-        val prompt = buildString {
-            append("당신은 친화적이고 관대한 IT 프로젝트 전문 분석가입니다. 팀 프로젝트의 협업 가치를 중시하며, 지원자의 잠재력을 긍정적으로 평가해주세요.\n\n")
-            
-            append("프로젝트 정보:\n")
-            append("- 프로젝트: ${project.description}\n")
-            append("- 팀 규모: ${project.teamSize}명 (역할 분담 가능)\n")
-            append("- 프로젝트 기간: ${project.durationWeeks}주 (학습 시간 충분)\n")
-            append("- 필요 기술: ${project.techStack}\n\n")
-            
-            append("지원자 기술 역량:\n")
-            userSkills.forEach { skill ->
-                append("- ${skill.techName}: ${skill.score}/10점\n")
-            }
-            
-            append("\n✨ 긍정적 평가 기준:\n")
-            append("1. 🎯 전문 분야: 한 분야에 7점 이상이면 해당 분야 전문가로 인정\n")
-            append("2. 🤝 팀워크: 프론트엔드 또는 백엔드 중 하나만 잘해도 충분히 기여 가능\n")
-            append("3. 📚 성장성: 기본 점수(3-4점)도 팀 협업으로 빠른 성장 가능\n")
-            append("4. 🔧 상호보완: 팀원들의 기술이 서로 보완되어 시너지 효과\n")
-            append("5. 💡 학습력: 실제 프로젝트를 통한 실무 경험으로 급속 성장\n\n")
-            
-            append("🎉 관대한 점수 가이드라인 (팀 프로젝트 특성 반영):\n")
-            append("85-100: 핵심 기술 전문가 - 팀을 리드하며 다른 팀원들을 가르칠 수 있음\n")
-            append("70-84: 특정 분야 숙련자 - 자신의 전문 분야를 담당하며 안정적으로 기여\n")
-            append("55-69: 기여 가능한 팀원 - 일부 기술에 능숙하여 특정 역할 담당 + 다른 분야 학습\n")
-            append("40-54: 성장형 팀원 - 기본기가 있어 팀원들과 협업하며 빠르게 성장 가능\n")
-            append("25-39: 학습 의지형 - 현재는 기초적이지만 프로젝트를 통해 실력 향상 기대\n")
-            append("0-24: 현재로서는 참여 어려움 (매우 드문 경우)\n\n")
-            
-            append("💝 특별 고려사항:\n")
-            append("- 프론트엔드 전문가(React/Vue 7점+): 백엔드를 모르더라도 75점 이상\n")
-            append("- 백엔드 전문가(Java/Spring 7점+): 프론트엔드를 모르더라도 75점 이상\n")
-            append("- 풀스택 지향(양쪽 5점+): 다재다능함으로 80점 이상\n")
-            append("- 성장 의지 보이는 초보자도 최소 45점 이상 부여\n\n")
-
-            append("🎯 응답 형식 (긍정적 평가로):\n")
-            append("[점수]|[긍정적 이유]\n\n")
-            append("📋 규칙:\n")
-            append("1. 점수는 40.00-100.00 사이 (팀 프로젝트 특성상 대부분 40점 이상)\n")
-            append("2. | 문자로 점수와 이유를 구분\n")
-            append("3. 이유는 긍정적이고 구체적으로 (기여할 수 있는 부분 강조)\n")
-            append("4. 다른 텍스트 절대 포함 금지\n\n")
-            append("✨ 예시:\n")
-            append("- 78.50|Java/Spring Boot 전문가로 백엔드 개발을 주도할 수 있으며, 팀원과 협업하여 프론트엔드도 학습 가능\n")
-            append("- 72.00|React 숙련자로 프론트엔드 담당 가능, 백엔드 API 연동 경험으로 팀 협업에 유리\n")
-            append("- 58.00|기본기가 탄탄하여 특정 분야 담당하며 다른 기술도 빠르게 습득 가능\n\n")
-            append("응답:")
-        }
+        val pendingAnalysis = readTransaction.execute {
+            val application = applicationService.getApplicationForAnalysis(applicationId)
+            requireNotAnalyzed(application)
+            preparePendingAnalysis(application)
+        }!!
+
+        val (score, reason) = requestAnalysis(pendingAnalysis)
 
-        val aiResponse = chatModel.call(prompt)
-        
-        // 응답 디버깅
-        println("AI 원본 응답: $aiResponse")
+        return writeTransaction.execute {
+            val application = applicationService.getApplicationsForUpdate(listOf(applicationId)).singleOrNull()
+                ?: throw NoSuchElementException("지원서를 찾을 수 없습니다. ID: $applicationId")
 
-        val parts = aiResponse.split("|")
+            // LLM을 기다리는 동안 다른 요청이 먼저 저장했을 수 있으므로 행을 잠근 뒤 다시 확인한다
+            requireNotAnalyzed(application)
 
-        if (parts.size < 2) {
-            println("AI 응답 파싱 실패 - parts 길이: ${parts.size}")
-            println("전체 프롬프트: $prompt")
-            throw IllegalArgumentException("AI 응답 형식이 올바르지 않습니다. 응답: $aiResponse")
+            val result = AnalysisResult.create(
+                application = application,
+                score = score,
+                reason = reason
+            )
+
+            application.setAnalysisResult(result)
+            publishCompleted(application, score)
+
+            analysisRepository.save(result)
+        }!!
+    }
+
+    // 프로젝트의 분석 대상 지원서들과 각 프롬프트를 한 번의 읽기 트랜잭션에서 준비
+    fun preparePendingAnalyses(projectId: Long): List<PendingAnalysis> =
+        readTransaction.execute {
+            projectService.getProject(projectId)
+
+            applicationService.findUnanalyzedPendingApplications(projectId)
+                .map { preparePendingAnalysis(it) }
+        }!!
+
+    // 트랜잭션 없이 LLM을 호출하고 응답을 점수와 이유로 파싱
+    // 같은 입력값으로 이미 받은 응답이 있으면 LLM을 호출하지 않는다. 어느 쪽이든 프롬프트 규칙의 점수 하한을 적용한다
+    fun requestAnalysis(pendingAnalysis: PendingAnalysis): Pair<BigDecimal, String> {
+        val (score, reason) = requestLlmAnalysis(pendingAnalysis)
+
+        return compatibilityPreScorer.apply(pendingAnalysis.scoreFloor, score) to reason
+    }
+
+    private fun requestLlmAnalysis(pendingAnalysis: PendingAnalysis): Pair<BigDecimal, String> {
+        val cacheKey = pendingAnalysis.cacheKey
+
+        analysisResponseCache.get(cacheKey)?.let { cached ->
+            analysisResponseParser.parse(cached)
+                ?.let { return it.score to it.reason }
+                ?: analysisResponseCache.evict(cacheKey)
         }
 
-        val score = try {
-            BigDecimal(parts[0].trim()).also { s ->
-                require(s in BigDecimal.ZERO..BigDecimal("100")) {
-                    "점수는 0에서 100 사이여야 합니다. 받은 점수: $s"
-                }
-            }
-        } catch (e: NumberFormatException) {
-            throw IllegalArgumentException("점수 형식이 올바르지 않습니다. 응답: ${parts[0].trim()}", e)
-        }.let { rawScore ->
-            // 관대한 평가 권장 - 너무 낮은 점수일 경우 최소 점수로 조정
-            if (rawScore < BigDecimal("25")) {
-                println("⚠️ AI가 너무 낮은 점수($rawScore)를 부여했습니다. 팀 프로젝트 특성을 고려하여 최소 점수로 조정합니다.")
-                BigDecimal("45.00")
-            } else {
-                rawScore
+        val aiResponse = chatModel.call(pendingAnalysis.prompt)
+        llmPayloadLogger.log("compatibility", pendingAnalysis.prompt, aiResponse)
+
+        // 로컬에서 고칠 수 없을 때만 응답 형식만 바로잡는 짧은 재요청을 한 번 보낸다
+        val (parsed, parsedResponse) = analysisResponseParser.parse(aiResponse)?.let { it to aiResponse }
+            ?: reaskForFormat(aiResponse)
+
+        analysisResponseParser.record(parsed.outcome)
+
+        // 파싱에 성공한 응답만 캐시
+        analysisResponseCache.put(cacheKey, parsedResponse)
+
+        return parsed.score to parsed.reason
+    }
+
+    private fun reaskForFormat(aiResponse: String): Pair<AnalysisResponseParser.Parsed, String> {
+        val repairedResponse = chatModel.call(analysisResponseParser.buildRepairPrompt(aiResponse))
+
+        val parsed = analysisResponseParser.parse(repairedResponse)
+            ?: run {
+                analysisResponseParser.record(AnalysisResponseParser.Outcome.FAILED)
+                throw IllegalArgumentException("AI 응답 형식이 올바르지 않습니다. 응답: $aiResponse")
             }
-        }
 
-        val reason = parts[1].trim().takeIf { it.isNotEmpty() }
-            ?: throw IllegalArgumentException("이유가 비어있습니다. 응답: $aiResponse")
+        return parsed.copy(outcome = AnalysisResponseParser.Outcome.REASKED) to repairedResponse
+    }
+
+    // 여러 지원서의 분석 결과를 하나의 쓰기 트랜잭션으로 저장하고, 저장된 지원서 ID를 반환
+    // 지원서 행을 잠근 뒤 확인해서, 그 사이 다른 요청으로 이미 분석된 지원서는 건너뛴다
+    fun saveAnalysisResults(results: Map<Long, Pair<BigDecimal, String>>): Set<Long> =
+        writeTransaction.execute {
+            val analysisResults = applicationService.getApplicationsForUpdate(results.keys)
+                .filter { it.analysisResult == null }
+                .map { application ->
+                    val (score, reason) = results.getValue(application.id!!)
+
+                    AnalysisResult.create(
+                        application = application,
+                        score = score,
+                        reason = reason
+                    ).also {
+                        application.setAnalysisResult(it)
+                        publishCompleted(application, score)
+                    }
+                }
+
+            analysisRepository.saveAll(analysisResults)
+                .mapTo(mutableSetOf()) { it.application!!.id!! }
+        }!!
 
-        val result = AnalysisResult.create(
-            application = application,
-            score = score,
-            reason = reason
+    // 저장과 같은 트랜잭션에 outbox로 남기고, 커밋된 뒤에 프로젝트 생성자에게 알림이 나간다
+    private fun publishCompleted(application: Application, score: BigDecimal) {
+        domainEventPublisher.publish(
+            AnalysisCompletedEvent(application.id!!, application.project.id!!, application.project.creator.id, score)
         )
+    }
+
+    private fun requireNotAnalyzed(application: Application) {
+        require(application.analysisResult == null) {
+            "이미 분석 결과가 존재하는 지원서입니다. applicationId: ${application.id}"
+        }
+    }
+
+    private fun preparePendingAnalysis(application: Application) = PendingAnalysis(
+        applicationId = application.id!!,
+        prompt = AnalysisPrompts.compatibility(application.project, application.skillScore, analysisResponseParser.format),
+        cacheKey = AnalysisCacheKey.of(application.project, application.skillScore, ANALYSIS_PROMPT_VERSION),
+        scoreFloor = compatibilityPreScorer.floor(application.skillScore)
+    )
 
-        applicationService.saveAnalysisResult(result.application!!.id!!, result)
+    // 승인된 팀 구성(기술 점수 포함)이 그대로면 저장된 결과를 돌려주고, 바뀌었거나 regenerate면 새로 생성
+    // 조회(읽기 트랜잭션) → LLM 호출(트랜잭션 없음) → 저장(쓰기 트랜잭션) 순서로 실행
+    fun createTeamRoleAssignment(projectId: Long, regenerate: Boolean): RoleAssignmentResponse {
+        val pending = readTransaction.execute { prepareRoleAssignment(projectId, regenerate) }!!
 
-        return analysisRepository.save(result)
+        pending.stored?.let { return it }
+
+        val content = chatModel.call(pending.prompt).trim()
+        llmPayloadLogger.log("role-assignment", pending.prompt, content)
+
+        return saveRoleAssignment(pending, content)
     }
 
-    @Transactional(readOnly = true)
-    fun createTeamRoleAssignment(projectId: Long): String {
+    // 역할 분배 결과를 생성되는 대로 토큰 단위로 흘려보내고, 끝까지 받으면 전체 내용을 저장하고 프로젝트에도 반영
+    // 프롬프트 준비만 짧은 읽기 트랜잭션에서 하고 스트리밍 동안에는 커넥션을 잡지 않는다
+    fun streamTeamRoleAssignment(projectId: Long, regenerate: Boolean): Flux<String> {
+        val pending = readTransaction.execute { prepareRoleAssignment(projectId, regenerate) }!!
+
+        pending.stored?.let { return Flux.just(it.content) }
+
+        // 버퍼는 구독할 때 만든다. 같은 Flux를 다시 구독해도(재시도 등) 이전 구독의 토큰이 섞이지 않는다
+        return Flux.defer {
+            val content = StringBuilder()
+
+            chatModel.stream(pending.prompt)
+                // 저장(JDBC)이 네트워크 이벤트 루프 스레드를 막지 않도록 이후 처리는 별도 스레드에서
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext { content.append(it) }
+                .doOnComplete {
+                    val result = content.toString().trim()
+                    llmPayloadLogger.log("role-assignment", pending.prompt, result)
+
+                    saveRoleAssignment(pending, result, applyToProject = true)
+                }
+        }
+    }
+
+    private fun prepareRoleAssignment(projectId: Long, regenerate: Boolean): PendingRoleAssignment {
         val project = projectService.getProject(projectId)
 
         val approvedApplications = applicationService.findByProjectIdAndStatus(
@@ -143,44 +245,90 @@ class AnalysisService(
             )
         }
 
-        val prompt = buildString {
-            // 프로젝트 컨텍스트 분석
-            append("🎯 프로젝트 분석 및 팀 역할 배분\n\n")
-            append("📋 프로젝트 정보:\n")
-            append("- 프로젝트: ${project.description}\n")
-            append("- 팀 규모: ${project.teamSize}명\n")
-            append("- 프로젝트 기간: ${project.durationWeeks}주\n\n")
-
-            // 각 팀원의 기술 스택 점수 상세 분석
-            append("👥 팀원 기술 역량 분석:\n")
-            approvedApplications.forEachIndexed { index, application ->
-                append("팀원 ${index + 1}: ${application.user.nickname}\n")
-                
-                application.skillScore.forEach { skill ->
-                    append("  • ${skill.techName}: ${skill.score}/10점\n")
-                }
-                append("\n")
-            }
+        val fingerprint = RoleAssignment.fingerprint(project, approvedApplications, ROLE_ASSIGNMENT_PROMPT_VERSION)
+
+        val stored = if (regenerate) null else {
+            roleAssignmentRepository.findByProjectIdAndFingerprint(projectId, fingerprint)
+                ?.let { RoleAssignmentResponse.from(it, reused = true) }
+        }
 
-            // 🤖 AI 역할 분배 지침 (간결하게)
-            append("🎯 각 팀원의 최고 점수 기술을 기준으로 역할을 배정하세요.\n\n")
-            
-            append("🚨 출력 규칙:\n")
-            append("1. 한국어로만 응답\n")
-            append("2. 서론/설명 없이 바로 결과만 출력\n")
-            append("3. 형식: '팀원명 - 역할 | 이유'\n")
-            append("4. 각 팀원마다 한 줄씩\n\n")
+        return PendingRoleAssignment(
+            projectId = projectId,
+            fingerprint = fingerprint,
+            members = approvedApplications.map {
+                PendingRoleAssignment.Member(it.user.id!!, it.user.nickname)
+            },
+            prompt = AnalysisPrompts.roleAssignment(project, approvedApplications),
+            stored = stored
+        )
+    }
+
+    // 같은 팀 구성의 결과가 이미 있으면(regenerate) 덮어쓰고, 없으면 새로 저장
+    // applyToProject면 프로젝트 내용도 같은 트랜잭션에서 바꿔, 둘 중 하나만 반영되는 일이 없게 한다
+    private fun saveRoleAssignment(
+        pending: PendingRoleAssignment,
+        content: String,
+        applyToProject: Boolean = false
+    ): RoleAssignmentResponse {
+        val members = parseRoleAssignmentMembers(content, pending.members)
+
+        return try {
+            writeTransaction.execute {
+                val roleAssignment = roleAssignmentRepository.findByProjectIdAndFingerprint(pending.projectId, pending.fingerprint)
+                    ?.apply { replace(content, members) }
+                    ?: roleAssignmentRepository.save(
+                        RoleAssignment(projectService.getProject(pending.projectId), pending.fingerprint, content, members)
+                    )
+
+                if (applyToProject) {
+                    projectService.modifyContent(pending.projectId, content)
+                }
 
-            append("역할 분배:")
+                RoleAssignmentResponse.from(roleAssignment, reused = false)
+            }!!
+        } catch (e: DataIntegrityViolationException) {
+            // 같은 팀 구성에 대한 동시 요청이 먼저 저장했으면 그 결과를 사용
+            readTransaction.execute {
+                roleAssignmentRepository.findByProjectIdAndFingerprint(pending.projectId, pending.fingerprint)
+                    ?.let { RoleAssignmentResponse.from(it, reused = true) }
+            } ?: throw e
         }
+    }
+
+    companion object {
+        // 적합도 분석 프롬프트 문구나 응답 형식을 바꾸면 올려서 이전 캐시를 무효화
+        private const val ANALYSIS_PROMPT_VERSION = "v2"
+
+        // 역할 분배 프롬프트를 바꾸면 올려서 저장된 결과 대신 새로 생성하게 한다
+        private const val ROLE_ASSIGNMENT_PROMPT_VERSION = "v1"
+
+        // "[- ]팀원명 - 역할 | 이유"
+        private val MEMBER_LABEL = Regex("^팀원\\s*\\d*\\s*[:.]?\\s*")
+        private val ROLE_ASSIGNMENT_LINE = Regex("^\\s*(?:[-*•]|\\d+[.)])?\\s*(.+?)\\s+-\\s+(.+?)\\s*\\|\\s*(.+)$")
 
-        var aiResponse = chatModel.call(prompt)
-        
-        // 응답 길이 제한 (데이터베이스 VARCHAR(255) 제약 준수)
-        if (aiResponse.length > 250) {
-            aiResponse = aiResponse.substring(0, 250) + "..."
+        // '팀원명 - 역할 | 이유' 형식의 줄을 승인된 팀원과 짝지어 팀원별 행으로 변환
+        // 형식을 벗어난 줄이나 팀원을 찾을 수 없는 줄은 건너뛰고, 원문은 content에 그대로 남는다
+        internal fun parseRoleAssignmentMembers(
+            content: String,
+            members: List<PendingRoleAssignment.Member>
+        ): List<RoleAssignmentMember> {
+            val remaining = members.associateByTo(linkedMapOf()) { it.nickname }
+
+            return content.lines().mapNotNull { line ->
+                val match = ROLE_ASSIGNMENT_LINE.find(line) ?: return@mapNotNull null
+                val name = match.groupValues[1].trim('*', ' ').replace(MEMBER_LABEL, "").trim()
+
+                val member = remaining.remove(name)
+                    ?: remaining.keys.firstOrNull { name.contains(it) }?.let { remaining.remove(it) }
+                    ?: return@mapNotNull null
+
+                RoleAssignmentMember(
+                    userId = member.userId,
+                    nickname = member.nickname,
+                    role = match.groupValues[2].trim('*', ' '),
+                    reason = match.groupValues[3].trim()
+                )
+            }
         }
-        
-        return aiResponse
     }
 }
\ No newline at end of file
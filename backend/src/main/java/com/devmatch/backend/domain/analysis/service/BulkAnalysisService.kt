@@ -0,0 +1,112 @@
+package com.devmatch.backend.domain.analysis.service
+
+import com.devmatch.backend.domain.analysis.dto.BulkAnalysisResponse
+import com.devmatch.backend.domain.analysis.dto.PendingAnalysis
+import io.micrometer.context.ContextExecutorService
+import io.micrometer.context.ContextSnapshotFactory
+import jakarta.annotation.PreDestroy
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.stereotype.Service
+import java.math.BigDecimal
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.Executors
+import java.util.concurrent.Future
+import java.util.concurrent.Semaphore
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.TimeoutException
+
+// 프로젝트의 미분석 지원서들을 한 번에 분석하는 서비스. AnalysisJobService의 워커에서 일괄 분석 작업으로 실행된다
+// LLM 호출은 동시 실행 수를 제한해 병렬로 보내고, 결과는 배치 단위로 저장한다
+@Service
+class BulkAnalysisService(
+    private val analysisService: AnalysisService,
+    @param:Value("\${custom.analysis.bulk.concurrency}")
+    private val concurrency: Int,
+    @param:Value("\${custom.analysis.bulk.timeoutSeconds}")
+    private val timeoutSeconds: Long,
+    @param:Value("\${custom.analysis.bulk.batchSize}")
+    private val batchSize: Int
+) {
+    // 작업을 등록한 요청의 트레이스 컨텍스트를 넘겨 지원서별 LLM 호출 span이 요청 span 아래에 붙게 한다
+    private val executor = ContextExecutorService.wrap(Executors.newVirtualThreadPerTaskExecutor()) {
+        ContextSnapshotFactory.builder().build().captureAll()
+    }
+
+    fun analyzePendingApplications(projectId: Long): BulkAnalysisResponse {
+        val pendingAnalyses = analysisService.preparePendingAnalyses(projectId)
+
+        // 작업 하나가 LLM 호출을 무제한으로 늘리지 않도록 작업 단위로 동시 실행 수를 제한
+        val permits = Semaphore(concurrency)
+
+        val futures = pendingAnalyses.map { pending ->
+            pending.applicationId to executor.submit<Pair<BigDecimal, String>> { analyze(pending, permits) }
+        }
+
+        val analyzed = mutableMapOf<Long, Pair<BigDecimal, String>>()
+        val failures = mutableMapOf<Long, String>()
+
+        futures.forEach { (applicationId, future) ->
+            try {
+                analyzed[applicationId] = future.get()
+            } catch (e: ExecutionException) {
+                failures[applicationId] = e.cause?.message ?: "분석 중 오류가 발생했습니다"
+            }
+        }
+
+        // 지원서마다 트랜잭션을 여는 대신 batchSize 개씩 묶어서 저장
+        analyzed.entries.chunked(batchSize).forEach { batch ->
+            val results = batch.associate { it.key to it.value }
+
+            try {
+                val saved = analysisService.saveAnalysisResults(results)
+
+                (results.keys - saved).forEach { failures[it] = "이미 분석 결과가 존재하는 지원서입니다" }
+            } catch (e: Exception) {
+                results.keys.forEach { failures[it] = e.message ?: "분석 결과 저장에 실패했습니다" }
+            }
+        }
+
+        val items = pendingAnalyses.map { pending ->
+            val applicationId = pending.applicationId
+
+            failures[applicationId]
+                ?.let { BulkAnalysisResponse.Item(applicationId, success = false, errorMessage = it) }
+                ?: analyzed.getValue(applicationId).let { (score, reason) ->
+                    BulkAnalysisResponse.Item(
+                        applicationId,
+                        success = true,
+                        compatibilityScore = score,
+                        compatibilityReason = reason
+                    )
+                }
+        }
+
+        return BulkAnalysisResponse.of(projectId, items)
+    }
+
+    private fun analyze(pending: PendingAnalysis, permits: Semaphore): Pair<BigDecimal, String> {
+        permits.acquire()
+
+        try {
+            // 타임아웃은 대기 시간을 제외한 LLM 호출 자체에만 적용
+            val call: Future<Pair<BigDecimal, String>> =
+                executor.submit<Pair<BigDecimal, String>> { analysisService.requestAnalysis(pending) }
+
+            return try {
+                call.get(timeoutSeconds, TimeUnit.SECONDS)
+            } catch (e: TimeoutException) {
+                call.cancel(true)
+                throw IllegalStateException("AI 분석 응답 시간(${timeoutSeconds}초)을 초과했습니다", e)
+            } catch (e: ExecutionException) {
+                throw e.cause ?: e
+            }
+        } finally {
+            permits.release()
+        }
+    }
+
+    @PreDestroy
+    fun shutdown() {
+        executor.shutdown()
+    }
+}
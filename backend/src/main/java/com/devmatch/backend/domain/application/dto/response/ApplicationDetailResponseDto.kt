@@ -1,6 +1,7 @@
 package com.devmatch.backend.domain.application.dto.response
 
 import com.devmatch.backend.domain.application.entity.Application
+import com.devmatch.backend.domain.application.entity.SkillScore
 import com.devmatch.backend.domain.application.enums.ApplicationStatus
 import java.time.LocalDateTime
 
@@ -12,12 +13,15 @@ data class ApplicationDetailResponseDto(
     val techName: List<String>,     // 지원자의 기술명
     val score: List<Int>            // 지원자의 기술 점수
 ) {
-    constructor(application: Application) : this(
+    constructor(application: Application) : this(application, application.skillScore)
+
+    // 목록 조회에서는 지연 로딩 대신 따로 한 번에 조회한 기술 점수를 넘겨받는다
+    constructor(application: Application, skillScores: List<SkillScore>) : this(
         application.id ?: throw IllegalStateException("지원서 ID가 존재하지 않습니다"),
         application.user.nickname,
         application.status,
         application.appliedAt,
-        application.skillScore.map { it.techName },
-        application.skillScore.map { it.score }
+        skillScores.map { it.techName },
+        skillScores.map { it.score }
     )
 }
\ No newline at end of file
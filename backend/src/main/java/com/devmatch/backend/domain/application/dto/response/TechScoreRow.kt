@@ -0,0 +1,7 @@
+package com.devmatch.backend.domain.application.dto.response
+
+// 사용자의 기술별 최고 점수. techName은 소문자로 정규화된 값
+class TechScoreRow(
+    val techName: String,
+    val score: Int
+)
@@ -0,0 +1,8 @@
+package com.devmatch.backend.domain.application.event
+
+data class ApplicationCreatedEvent(
+    val applicationId: Long,
+    val projectId: Long,
+    val projectCreatorId: Long,
+    val applicantId: Long
+)
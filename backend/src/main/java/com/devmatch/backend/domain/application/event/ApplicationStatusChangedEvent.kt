@@ -0,0 +1,11 @@
+package com.devmatch.backend.domain.application.event
+
+import com.devmatch.backend.domain.application.enums.ApplicationStatus
+
+// 프로젝트 생성자가 지원서를 승인/거절했을 때 발행
+data class ApplicationStatusChangedEvent(
+    val applicationId: Long,
+    val projectId: Long,
+    val applicantId: Long,
+    val status: ApplicationStatus
+)
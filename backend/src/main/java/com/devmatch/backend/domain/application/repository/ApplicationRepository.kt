@@ -2,15 +2,94 @@ package com.devmatch.backend.domain.application.repository
 
 import com.devmatch.backend.domain.application.entity.Application
 import com.devmatch.backend.domain.application.enums.ApplicationStatus
+import jakarta.persistence.LockModeType
+import org.springframework.data.domain.Pageable
+import org.springframework.data.jpa.repository.EntityGraph
 import org.springframework.data.jpa.repository.JpaRepository
+import org.springframework.data.jpa.repository.Lock
+import org.springframework.data.jpa.repository.Modifying
+import org.springframework.data.jpa.repository.Query
+import org.springframework.data.repository.query.Param
 
 interface ApplicationRepository : JpaRepository<Application, Long> {
     fun findAllByUserId(id: Long): List<Application>
 
     fun findAllByProjectId(id: Long): List<Application>
 
+    // 목록 조회용: 지원자를 함께 fetch join 하고, 기술 점수는 SkillScoreRepository에서 ID 목록으로 한 번에 조회
+    // to-one 관계만 fetch join 하므로 페이지네이션이 DB에서 그대로 적용된다
+    @Query(
+        """
+        select a from Application a
+        join fetch a.user
+        where a.project.id = :projectId
+        order by a.id
+        """
+    )
+    fun findPageByProjectIdWithUser(
+        @Param("projectId") projectId: Long,
+        pageable: Pageable
+    ): List<Application>
+
+    @Query(
+        """
+        select a from Application a
+        join fetch a.user
+        where a.user.id = :userId
+        order by a.id desc
+        """
+    )
+    fun findPageByUserIdWithUser(
+        @Param("userId") userId: Long,
+        pageable: Pageable
+    ): List<Application>
+
+    @Query("select distinct a.project.id from Application a where a.user.id = :userId")
+    fun findProjectIdsByUserId(@Param("userId") userId: Long): List<Long>
+
+    @Query("select distinct a.user.id from Application a where a.project.id = :projectId")
+    fun findUserIdsByProjectId(@Param("projectId") projectId: Long): List<Long>
+
+    // 상태가 아직 from 일 때만 to 로 바꾼다. 같은 지원서를 동시에 처리하면 한 요청만 1을 돌려받는다
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Application a set a.status = :to where a.id = :id and a.status = :from")
+    fun updateStatusIfCurrent(
+        @Param("id") id: Long,
+        @Param("from") from: ApplicationStatus,
+        @Param("to") to: ApplicationStatus
+    ): Int
+
+    // 역할 분배 프롬프트에 지원자 닉네임과 기술 점수가 들어가므로 함께 조회
+    @EntityGraph(attributePaths = ["user", "skillScore"])
     fun findByProjectIdAndStatus(
         projectId: Long,
         status: ApplicationStatus
     ): List<Application>
+
+    // 적합도 분석 프롬프트와 사전 점수 계산에 필요한 프로젝트와 기술 점수를 함께 조회
+    @EntityGraph(attributePaths = ["project", "skillScore"])
+    @Query("select a from Application a where a.id = :id")
+    fun findForAnalysisById(@Param("id") id: Long): Application?
+
+    // 분석 결과 저장용. 행을 잠가 동시에 저장하는 요청이 analysisResult를 차례로 확인하게 하고, id 순서로 잠가 교착을 피한다
+    // 잠그는 쿼리에는 조인을 넣지 않는다 (PostgreSQL은 outer join의 nullable 쪽을 FOR UPDATE로 잠글 수 없다)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from Application a where a.id in :ids order by a.id")
+    fun findAllForUpdateByIdIn(@Param("ids") ids: Collection<Long>): List<Application>
+
+    // 아직 분석 결과가 없는 지원서를 지원자, 기술 점수와 함께 한 번의 쿼리로 조회
+    @Query(
+        """
+        select distinct a from Application a
+        join fetch a.user
+        left join fetch a.skillScore
+        where a.project.id = :projectId
+          and a.status = :status
+          and a.analysisResult is null
+        """
+    )
+    fun findAllUnanalyzedByProjectIdAndStatus(
+        @Param("projectId") projectId: Long,
+        @Param("status") status: ApplicationStatus
+    ): List<Application>
 }
\ No newline at end of file
@@ -1,6 +1,23 @@
 package com.devmatch.backend.domain.application.repository
 
+import com.devmatch.backend.domain.application.dto.response.TechScoreRow
 import com.devmatch.backend.domain.application.entity.SkillScore
 import org.springframework.data.jpa.repository.JpaRepository
+import org.springframework.data.jpa.repository.Query
+import org.springframework.data.repository.query.Param
 
-interface SkillScoreRepository : JpaRepository<SkillScore, Long>
+interface SkillScoreRepository : JpaRepository<SkillScore, Long> {
+    // 지원서 목록의 기술 점수를 IN 절 한 번으로 조회
+    fun findAllByApplicationIdIn(applicationIds: Collection<Long>): List<SkillScore>
+
+    // 사용자가 지금까지 지원서에 적은 기술별 최고 점수. 추천 엔진의 사용자 벡터로 쓴다
+    @Query(
+        """
+        select new com.devmatch.backend.domain.application.dto.response.TechScoreRow(lower(trim(s.techName)), max(s.score))
+        from SkillScore s
+        where s.application.user.id = :userId
+        group by lower(trim(s.techName))
+        """
+    )
+    fun findBestScoresByUserId(@Param("userId") userId: Long): List<TechScoreRow>
+}
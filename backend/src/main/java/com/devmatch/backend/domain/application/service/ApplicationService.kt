@@ -6,11 +6,17 @@ import com.devmatch.backend.domain.application.dto.response.ApplicationDetailRes
 import com.devmatch.backend.domain.application.entity.Application
 import com.devmatch.backend.domain.application.entity.SkillScore
 import com.devmatch.backend.domain.application.enums.ApplicationStatus
+import com.devmatch.backend.domain.application.event.ApplicationCreatedEvent
+import com.devmatch.backend.domain.application.event.ApplicationStatusChangedEvent
 import com.devmatch.backend.domain.application.repository.ApplicationRepository
+import com.devmatch.backend.domain.application.repository.SkillScoreRepository
 import com.devmatch.backend.domain.project.dto.ProjectApplyRequest
 import com.devmatch.backend.domain.project.service.ProjectService
 import com.devmatch.backend.global.rq.Rq
+import com.devmatch.backend.global.outbox.DomainEventPublisher
+import com.devmatch.backend.global.web.ResourceVersions
 import lombok.RequiredArgsConstructor
+import org.springframework.data.domain.PageRequest
 import org.springframework.stereotype.Service
 import org.springframework.transaction.annotation.Transactional
 
@@ -18,7 +24,10 @@ import org.springframework.transaction.annotation.Transactional
 @RequiredArgsConstructor
 class ApplicationService(
     private val applicationRepository: ApplicationRepository,
+    private val skillScoreRepository: SkillScoreRepository,
     private val projectService: ProjectService,
+    private val resourceVersions: ResourceVersions,
+    private val domainEventPublisher: DomainEventPublisher,
     private val rq: Rq
 ) {
     // 지원서 작성 로직
@@ -46,24 +55,34 @@ class ApplicationService(
             }
 
         application.skillScore.addAll(skillScores)
+        applicationsChanged(projectId, user.id)
 
-        return ApplicationDetailResponseDto(applicationRepository.save(application))
+        val saved = applicationRepository.save(application)
+        domainEventPublisher.publish(ApplicationCreatedEvent(saved.id!!, projectId, project.creator.id, user.id))
+
+        return ApplicationDetailResponseDto(saved)
     }
 
     // 프로젝트 ID로 해당 프로젝트에 지원한 모든 지원서들을 가져오는 지원서 전체 조회 로직
     @Transactional(readOnly = true)
-    fun getApplicationsByProjectId(projectId: Long): List<ApplicationDetailResponseDto> {
+    fun getApplicationsByProjectId(
+        projectId: Long,
+        page: Int,
+        size: Int
+    ): List<ApplicationDetailResponseDto> {
         projectService.getProject(projectId)
 
-        return applicationRepository.findAllByProjectId(projectId)
-            .map { ApplicationDetailResponseDto(it) }
+        return toResponses(applicationRepository.findPageByProjectIdWithUser(projectId, pageRequest(page, size)))
     }
 
     // 사용자 ID로 사용자가 작성한 모든 지원서들을 가져오는 지원서 전체 조회 로직
     @Transactional(readOnly = true)
-    fun getApplicationsByUserId(userId: Long): List<ApplicationDetailResponseDto> {
-        return applicationRepository.findAllByUserId(userId)
-            .map { ApplicationDetailResponseDto(it) }
+    fun getApplicationsByUserId(
+        userId: Long,
+        page: Int,
+        size: Int
+    ): List<ApplicationDetailResponseDto> {
+        return toResponses(applicationRepository.findPageByUserIdWithUser(userId, pageRequest(page, size)))
     }
 
     // 지원서 상세 조회 로직
@@ -79,16 +98,30 @@ class ApplicationService(
         reqBody: ApplicationStatusUpdateRequestDto
     ) {
         val application = getApplicationByApplicationId(applicationId)
+        val currentStatus = application.status
+        val projectId = application.project.id!!
+
+        require(reqBody.status != currentStatus) {
+            "현재 상태(${currentStatus})와 동일한 상태(${reqBody.status})로 변경할 수 없습니다"
+        }
+
+        // 읽은 뒤 검사하고 더티 체킹으로 쓰면 동시 요청이 같은 값을 보고 둘 다 통과하므로, 조건부 UPDATE로 처리
+        // 다른 요청이 먼저 상태를 바꿨다면 0건이 갱신된다
+        require(applicationRepository.updateStatusIfCurrent(applicationId, currentStatus, reqBody.status) == 1) {
+            "다른 요청에서 이미 지원서 상태가 변경되었습니다. 새로고침 후 다시 시도해주세요"
+        }
 
-        // 지원서의 상태를 업데이트 하면서 프로젝트에도 반영
-        if (application.status == ApplicationStatus.PENDING &&
+        // 지원서의 상태를 업데이트 하면서 프로젝트에도 반영. 정원 초과면 예외로 지원서 상태 변경까지 롤백
+        if (currentStatus == ApplicationStatus.PENDING &&
             reqBody.status == ApplicationStatus.APPROVED
         ) {
-            application.project.increaseCurTeamSize()
+            projectService.increaseCurrentTeamSize(projectId)
         }
 
-        // 엔티티가 영속성 컨텍스트 안에 있으면, 트랜잭션 종료 시점에 자동으로 DB에 반영 (Dirty Checking)
-        application.changeStatus(reqBody.status) // 상태 업데이트
+        applicationsChanged(projectId, application.user.id)
+        domainEventPublisher.publish(
+            ApplicationStatusChangedEvent(applicationId, projectId, application.user.id, reqBody.status)
+        )
     }
 
     // 지원서와 프로젝트간의 적합도 분석 결과를 저장하는 로직
@@ -102,12 +135,17 @@ class ApplicationService(
     @Transactional
     fun deleteApplication(applicationId: Long) {
         val application = getApplicationByApplicationId(applicationId)
+        val wasApproved = application.status == ApplicationStatus.APPROVED
+        val projectId = application.project.id!!
 
-        if (application.status == ApplicationStatus.APPROVED) {
-            application.project.decreaseCurTeamSize()
+        applicationRepository.delete(application) // DB 에서 삭제
+
+        // 정원 감소도 조건부 UPDATE로 처리 (삭제가 먼저 flush 된 뒤 실행됨)
+        if (wasApproved) {
+            projectService.decreaseCurrentTeamSize(projectId)
         }
 
-        applicationRepository.delete(application) // DB 에서 삭제
+        applicationsChanged(projectId, application.user.id)
     }
 
     // 지원서 ID로 지원서를 가져오는 함수
@@ -116,6 +154,12 @@ class ApplicationService(
             .orElseThrow{ NoSuchElementException("지원서를 찾을 수 없습니다. ID: $applicationId") }
     }
 
+    // 적합도 분석용. 프로젝트와 기술 점수를 함께 가져온다
+    fun getApplicationForAnalysis(applicationId: Long): Application {
+        return applicationRepository.findForAnalysisById(applicationId)
+            ?: throw NoSuchElementException("지원서를 찾을 수 없습니다. ID: $applicationId")
+    }
+
     // 프로젝트 ID와 상태로 지원서를 조회하는 함수
     fun findByProjectIdAndStatus(
         projectId: Long,
@@ -123,4 +167,64 @@ class ApplicationService(
     ): List<Application> {
         return applicationRepository.findByProjectIdAndStatus(projectId, status)
     }
+
+    // 프로젝트에서 아직 분석되지 않은 대기중 지원서들을 조회하는 함수
+    fun findUnanalyzedPendingApplications(projectId: Long): List<Application> {
+        return applicationRepository.findAllUnanalyzedByProjectIdAndStatus(projectId, ApplicationStatus.PENDING)
+    }
+
+    // 분석 결과를 저장할 지원서들을 잠가서 가져오는 함수. 호출한 트랜잭션이 끝날 때까지 다른 저장 요청은 기다린다
+    fun getApplicationsForUpdate(applicationIds: Collection<Long>): List<Application> {
+        return applicationRepository.findAllForUpdateByIdIn(applicationIds)
+    }
+
+    // 사용자의 기술별 숙련도(최고 점수 / 10)
+    @Transactional(readOnly = true)
+    fun getSkillProfile(userId: Long): Map<String, Double> {
+        return skillScoreRepository.findBestScoresByUserId(userId)
+            .associate { it.techName to it.score / 10.0 }
+    }
+
+    // 프로젝트에 지원한 사용자 ID 목록 (알림 대상)
+    @Transactional(readOnly = true)
+    fun getApplicantIds(projectId: Long): List<Long> {
+        return applicationRepository.findUserIdsByProjectId(projectId)
+    }
+
+    // 사용자가 이미 지원한 프로젝트 ID 목록
+    @Transactional(readOnly = true)
+    fun getAppliedProjectIds(userId: Long): Set<Long> {
+        return applicationRepository.findProjectIdsByUserId(userId).toSet()
+    }
+
+    // 지원서(+지원자) 1회, 기술 점수 1회로 목록 응답을 만든다. 지원서마다 skillScore를 지연 로딩하지 않기 위함
+    private fun toResponses(applications: List<Application>): List<ApplicationDetailResponseDto> {
+        if (applications.isEmpty()) return emptyList()
+
+        val skillScoresByApplicationId = skillScoreRepository
+            .findAllByApplicationIdIn(applications.map { it.id!! })
+            .groupBy { it.application.id }
+
+        return applications.map {
+            ApplicationDetailResponseDto(it, skillScoresByApplicationId[it.id].orEmpty())
+        }
+    }
+
+    // 프로젝트의 지원서 목록과 지원자의 지원서 목록 ETag를 갱신 (커밋 후에 반영됨)
+    private fun applicationsChanged(projectId: Long, userId: Long) {
+        resourceVersions.touch(
+            ResourceVersions.projectApplications(projectId),
+            ResourceVersions.userApplications(userId)
+        )
+    }
+
+    private fun pageRequest(page: Int, size: Int): PageRequest {
+        require(page >= 0) { "페이지 번호는 0 이상이어야 합니다" }
+
+        return PageRequest.of(page, size.coerceIn(1, MAX_PAGE_SIZE))
+    }
+
+    companion object {
+        const val MAX_PAGE_SIZE = 100
+    }
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.devmatch.backend.domain.notification.controller
+
+import com.devmatch.backend.domain.notification.service.NotificationService
+import com.devmatch.backend.global.rq.Rq
+import org.springframework.http.HttpStatus
+import org.springframework.http.MediaType
+import org.springframework.http.ResponseEntity
+import org.springframework.http.codec.ServerSentEvent
+import org.springframework.web.bind.annotation.ExceptionHandler
+import org.springframework.web.bind.annotation.GetMapping
+import org.springframework.web.bind.annotation.RequestMapping
+import org.springframework.web.bind.annotation.RestController
+import reactor.core.publisher.Flux
+import java.util.concurrent.RejectedExecutionException
+
+// 로그인한 사용자에게 오는 알림을 SSE로 전달. 지원서 목록을 폴링하는 대신 알림을 받았을 때만 다시 조회한다
+// 이벤트: application-created, application-status-changed, analysis-completed, project-team-filled
+@RestController
+@RequestMapping("/users/notifications")
+class NotificationController(
+    private val rq: Rq,
+    private val notificationService: NotificationService
+) {
+    @GetMapping(produces = [MediaType.TEXT_EVENT_STREAM_VALUE])
+    fun subscribe(): Flux<ServerSentEvent<String>> =
+        notificationService.subscribe(rq.actor.id)
+
+    // 연결 수 상한 초과. 응답 형식이 text/event-stream이라 ApiResponse 본문 없이 상태 코드만 보낸다
+    // EventSource는 200이 아닌 응답을 받으면 재연결하지 않고 닫힌다
+    @ExceptionHandler(RejectedExecutionException::class)
+    fun handleRejected(): ResponseEntity<Void> =
+        ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build()
+}
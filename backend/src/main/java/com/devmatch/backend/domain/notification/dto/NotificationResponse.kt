@@ -0,0 +1,15 @@
+package com.devmatch.backend.domain.notification.dto
+
+import com.devmatch.backend.domain.application.enums.ApplicationStatus
+import com.fasterxml.jackson.annotation.JsonInclude
+import java.math.BigDecimal
+
+// 알림 본문. 클라이언트는 이 값으로 바뀐 목록만 다시 조회한다
+@JsonInclude(JsonInclude.Include.NON_NULL)
+data class NotificationResponse(
+    val type: NotificationType,
+    val projectId: Long,
+    val applicationId: Long? = null,
+    val status: ApplicationStatus? = null,
+    val score: BigDecimal? = null
+)
@@ -0,0 +1,9 @@
+package com.devmatch.backend.domain.notification.dto
+
+// SSE 이벤트 이름으로 그대로 쓰인다
+enum class NotificationType(val eventName: String) {
+    APPLICATION_CREATED("application-created"),
+    APPLICATION_STATUS_CHANGED("application-status-changed"),
+    ANALYSIS_COMPLETED("analysis-completed"),
+    PROJECT_TEAM_FILLED("project-team-filled")
+}
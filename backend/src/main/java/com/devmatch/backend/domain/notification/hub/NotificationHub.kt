@@ -0,0 +1,104 @@
+package com.devmatch.backend.domain.notification.hub
+
+import io.micrometer.core.instrument.Gauge
+import io.micrometer.core.instrument.MeterRegistry
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.http.codec.ServerSentEvent
+import org.springframework.stereotype.Component
+import reactor.core.publisher.Flux
+import reactor.core.publisher.Sinks
+import java.time.Duration
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.RejectedExecutionException
+import java.util.concurrent.atomic.AtomicInteger
+
+// 사용자별 SSE 연결을 관리하는 허브
+// 연결 하나는 사용자 채널(Sinks) 구독 하나뿐이라 스레드나 버퍼를 따로 잡지 않는다
+// heartbeat는 모든 연결이 타이머 하나를 공유하고, 끊긴 연결은 heartbeat 쓰기 실패로 정리된다
+@Component
+class NotificationHub(
+    meterRegistry: MeterRegistry,
+    @param:Value("\${custom.notification.maxConnectionsPerUser}")
+    private val maxConnectionsPerUser: Int,
+    @param:Value("\${custom.notification.heartbeatSeconds}")
+    heartbeatSeconds: Long,
+    @param:Value("\${custom.notification.connectionSeconds}")
+    connectionSeconds: Long
+) {
+    private class Channel {
+        // 구독자가 준비되지 않았으면 그 구독자에게만 버린다. 알림은 "다시 조회하라"는 신호라 유실되어도 다음 조회에 반영된다
+        val sink: Sinks.Many<ServerSentEvent<String>> = Sinks.many().multicast().directBestEffort()
+
+        // channels.compute/computeIfPresent 안에서만 바꾼다
+        var subscribers = 0
+    }
+
+    private val channels = ConcurrentHashMap<Long, Channel>()
+    private val connections = AtomicInteger()
+
+    // 프록시가 유휴 연결을 끊지 않도록 주기적으로 주석 한 줄을 보낸다
+    private val heartbeat: Flux<ServerSentEvent<String>> = Flux.interval(Duration.ofSeconds(heartbeatSeconds))
+        .map { ServerSentEvent.builder<String>().comment("heartbeat").build() }
+        .share()
+
+    // 비동기 요청 제한 시간(spring.mvc.async.request-timeout)보다 먼저 스스로 닫는다
+    // 클라이언트는 EventSource 기본 동작으로 재연결하고, 이때 인증도 다시 확인된다
+    private val connectionLifetime: Duration = Duration.ofSeconds(connectionSeconds)
+
+    init {
+        Gauge.builder("notification.connections", connections) { it.get().toDouble() }
+            .description("열려 있는 알림(SSE) 연결 수")
+            .register(meterRegistry)
+    }
+
+    // 자리는 구독할 때 차지하고 구독이 끝날 때(완료, 취소, 오류) 반납한다
+    // 만들기만 하고 구독하지 않은 Flux는 자리를 차지하지 않는다. 상한을 넘으면 구독하자마자 오류로 끝난다
+    fun subscribe(userId: Long): Flux<ServerSentEvent<String>> =
+        Flux.using(
+            { reserve(userId) },
+            { channel ->
+                Flux.merge(Flux.just(CONNECTED), channel.sink.asFlux(), heartbeat)
+                    .take(connectionLifetime)
+            },
+            { channel -> release(userId, channel) }
+        )
+
+    // 연결이 없는 사용자에게는 아무것도 하지 않는다
+    fun send(userId: Long, event: ServerSentEvent<String>) {
+        channels[userId]?.sink?.emitNext(event, Sinks.EmitFailureHandler.busyLooping(EMIT_TIMEOUT))
+    }
+
+    // 상한 확인과 연결 수 증가를 한 compute 안에서 해서, 동시에 들어온 연결이 함께 상한을 넘지 못하게 한다
+    // compute 안에서 던진 예외는 매핑을 바꾸지 않고 그대로 호출자에게 전파된다
+    private fun reserve(userId: Long): Channel {
+        val channel = channels.compute(userId) { _, current ->
+            (current ?: Channel()).also {
+                if (it.subscribers >= maxConnectionsPerUser) {
+                    throw RejectedExecutionException("알림 연결이 너무 많습니다. 사용하지 않는 탭을 닫아주세요.")
+                }
+                it.subscribers++
+            }
+        }!!
+        connections.incrementAndGet()
+
+        return channel
+    }
+
+    // Flux.using이 구독마다 한 번만 호출한다
+    private fun release(userId: Long, channel: Channel) {
+        connections.decrementAndGet()
+
+        channels.computeIfPresent(userId) { _, current ->
+            if (current !== channel) return@computeIfPresent current
+
+            current.subscribers--
+            if (current.subscribers == 0) null else current
+        }
+    }
+
+    companion object {
+        private val EMIT_TIMEOUT = Duration.ofMillis(100)
+
+        private val CONNECTED = ServerSentEvent.builder("").event("connected").build()
+    }
+}
@@ -0,0 +1,90 @@
+package com.devmatch.backend.domain.notification.service
+
+import com.devmatch.backend.domain.analysis.event.AnalysisCompletedEvent
+import com.devmatch.backend.domain.application.event.ApplicationCreatedEvent
+import com.devmatch.backend.domain.application.event.ApplicationStatusChangedEvent
+import com.devmatch.backend.domain.application.service.ApplicationService
+import com.devmatch.backend.domain.notification.dto.NotificationResponse
+import com.devmatch.backend.domain.notification.dto.NotificationType
+import com.devmatch.backend.domain.notification.hub.NotificationHub
+import com.devmatch.backend.domain.project.event.ProjectTeamFilledEvent
+import com.fasterxml.jackson.databind.ObjectMapper
+import jakarta.annotation.PreDestroy
+import org.springframework.context.event.EventListener
+import org.springframework.http.codec.ServerSentEvent
+import org.springframework.stereotype.Service
+import reactor.core.publisher.Flux
+import java.util.concurrent.Executors
+
+// 도메인 이벤트를 관련 사용자의 알림(SSE)으로 보내는 서비스
+// 이벤트는 outbox 릴레이가 커밋 이후에 전달하며(최소 한 번), 중복 알림은 클라이언트가 다시 조회하는 것으로 끝난다
+// 느린 클라이언트에 쓰는 동안 릴레이가 묶이지 않도록 가상 스레드에서 보낸다
+@Service
+class NotificationService(
+    private val notificationHub: NotificationHub,
+    private val applicationService: ApplicationService,
+    private val objectMapper: ObjectMapper
+) {
+    private val dispatcher = Executors.newVirtualThreadPerTaskExecutor()
+
+    fun subscribe(userId: Long): Flux<ServerSentEvent<String>> = notificationHub.subscribe(userId)
+
+    // 프로젝트 생성자에게 새 지원서 알림
+    @EventListener
+    fun onApplicationCreated(event: ApplicationCreatedEvent) {
+        dispatch(
+            listOf(event.projectCreatorId),
+            NotificationResponse(NotificationType.APPLICATION_CREATED, event.projectId, event.applicationId)
+        )
+    }
+
+    // 지원자에게 승인/거절 알림
+    @EventListener
+    fun onApplicationStatusChanged(event: ApplicationStatusChangedEvent) {
+        dispatch(
+            listOf(event.applicantId),
+            NotificationResponse(
+                NotificationType.APPLICATION_STATUS_CHANGED, event.projectId, event.applicationId, status = event.status
+            )
+        )
+    }
+
+    // 분석은 프로젝트 생성자가 요청하므로 생성자에게만 알린다
+    @EventListener
+    fun onAnalysisCompleted(event: AnalysisCompletedEvent) {
+        dispatch(
+            listOf(event.projectCreatorId),
+            NotificationResponse(
+                NotificationType.ANALYSIS_COMPLETED, event.projectId, event.applicationId, score = event.score
+            )
+        )
+    }
+
+    // 생성자와 모든 지원자에게 모집 마감 알림. 지원자 조회는 릴레이 트랜잭션과 분리해 별도 스레드에서 한다
+    @EventListener
+    fun onProjectTeamFilled(event: ProjectTeamFilledEvent) {
+        val notification = NotificationResponse(NotificationType.PROJECT_TEAM_FILLED, event.projectId)
+
+        dispatcher.execute {
+            send(listOf(event.creatorId) + applicationService.getApplicantIds(event.projectId), notification)
+        }
+    }
+
+    private fun dispatch(userIds: List<Long>, notification: NotificationResponse) {
+        dispatcher.execute { send(userIds, notification) }
+    }
+
+    // 받는 사람이 여러 명이어도 직렬화는 한 번만 한다
+    private fun send(userIds: List<Long>, notification: NotificationResponse) {
+        val event = ServerSentEvent.builder(objectMapper.writeValueAsString(notification))
+            .event(notification.type.eventName)
+            .build()
+
+        userIds.distinct().forEach { notificationHub.send(it, event) }
+    }
+
+    @PreDestroy
+    fun shutdown() {
+        dispatcher.shutdown()
+    }
+}
@@ -0,0 +1,77 @@
+package com.devmatch.backend.domain.project.cache
+
+import com.devmatch.backend.domain.project.dto.ProjectDetailResponse
+import com.devmatch.backend.global.web.ResourceVersions
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.github.benmanes.caffeine.cache.Cache
+import com.github.benmanes.caffeine.cache.Caffeine
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.stereotype.Component
+import org.springframework.transaction.support.TransactionSynchronization
+import org.springframework.transaction.support.TransactionSynchronizationManager
+import java.time.Duration
+import java.util.concurrent.atomic.AtomicLong
+
+// 프로젝트 단건 조회(GET /projects/{id}) 응답 캐시
+// 상태/내용 수정, 삭제, 팀 인원 변경 시 해당 프로젝트만 커밋 후에 지운다. TTL은 놓친 변경에 대한 안전장치
+@Component
+class ProjectDetailCache(
+    meterRegistry: MeterRegistry,
+    private val objectMapper: ObjectMapper,
+    @param:Value("\${custom.project.detailCache.maxSize}")
+    maxSize: Long,
+    @param:Value("\${custom.project.detailCache.ttlSeconds}")
+    ttlSeconds: Long
+) {
+    // 응답 본문과 그 본문의 ETag를 함께 보관해 조건부 요청마다 다시 직렬화하지 않는다
+    data class Entry(
+        val response: ProjectDetailResponse,
+        val etag: String
+    )
+
+    private val entries: Cache<Long, Entry> = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+        .recordStats()
+        .build()
+
+    // 조회하는 동안 무효화가 한 번이라도 있었으면 그 결과는 이전 값일 수 있으므로 캐시하지 않는다
+    private val invalidations = AtomicLong()
+
+    init {
+        CaffeineCacheMetrics.monitor(meterRegistry, entries, "project.detail")
+    }
+
+    fun get(projectId: Long, loader: (Long) -> ProjectDetailResponse): Entry {
+        entries.getIfPresent(projectId)?.let { return it }
+
+        val invalidationsBeforeLoad = invalidations.get()
+        val entry = loader(projectId).let { Entry(it, etagOf(it)) }
+
+        if (invalidations.get() == invalidationsBeforeLoad) entries.put(projectId, entry)
+
+        return entry
+    }
+
+    // 커밋 전에 지우면 다른 요청이 이전 값을 다시 캐시할 수 있으므로, 트랜잭션 안이라면 커밋 후에 지운다
+    fun evict(projectId: Long) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(projectId)
+            return
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(object : TransactionSynchronization {
+            override fun afterCommit() = invalidate(projectId)
+        })
+    }
+
+    private fun invalidate(projectId: Long) {
+        invalidations.incrementAndGet()
+        entries.invalidate(projectId)
+    }
+
+    private fun etagOf(response: ProjectDetailResponse): String =
+        ResourceVersions.weakEtag(objectMapper.writeValueAsBytes(response))
+}
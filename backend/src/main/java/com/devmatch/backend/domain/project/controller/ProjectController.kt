@@ -6,17 +6,21 @@ import com.devmatch.backend.domain.project.dto.*
 import com.devmatch.backend.domain.project.service.ProjectService
 import com.devmatch.backend.global.ApiResponse
 import com.devmatch.backend.global.rq.Rq
+import com.devmatch.backend.global.web.ResourceVersions
 import jakarta.validation.Valid
+import org.springframework.http.CacheControl
 import org.springframework.http.HttpStatus
 import org.springframework.http.ResponseEntity
 import org.springframework.web.bind.annotation.*
+import org.springframework.web.context.request.WebRequest
 
 @RestController
 @RequestMapping("/projects")
 class ProjectController(
     private val rq: Rq,
     private val projectService: ProjectService,
-    private val applicationService: ApplicationService
+    private val applicationService: ApplicationService,
+    private val resourceVersions: ResourceVersions
 ) {
 
     @PostMapping
@@ -31,13 +35,31 @@ class ProjectController(
         )
     }
 
+    // 프로젝트가 바뀌지 않았으면 검색 조건별 ETag로 304 응답 (목록 조회와 직렬화를 하지 않음)
     @GetMapping
-    fun getAll(): ResponseEntity<ApiResponse<List<ProjectDetailResponse>>> =
-        ResponseEntity.ok(ApiResponse("프로젝트 전체 조회 성공", projectService.getProjects()))
+    fun getAll(
+        @Valid @ModelAttribute projectSearchRequest: ProjectSearchRequest,
+        webRequest: WebRequest
+    ): ResponseEntity<ApiResponse<ProjectPageResponse>> {
+        val etag = resourceVersions.etag(
+            listOf(ResourceVersions.PROJECTS, ResourceVersions.USERS),
+            projectSearchRequest.toString()
+        )
+
+        return ResourceVersions.conditionalOk(webRequest, etag) {
+            ApiResponse("프로젝트 전체 조회 성공", projectService.getProjects(projectSearchRequest))
+        }
+    }
 
+    // 응답에 ETag를 붙이고, 요청의 If-None-Match와 같으면 본문 없이 304로 응답 (HttpEntityMethodProcessor가 처리)
     @GetMapping("/{id}")
     fun get(@PathVariable id: Long): ResponseEntity<ApiResponse<ProjectDetailResponse>> =
-        ResponseEntity.ok(ApiResponse("프로젝트 단일 조회 성공", projectService.getProjectDetail(id)))
+        projectService.getCachedProjectDetail(id).let {
+            ResponseEntity.ok()
+                .eTag(it.etag)
+                .cacheControl(CacheControl.noCache())
+                .body(ApiResponse("프로젝트 단일 조회 성공", it.response))
+        }
 
     @PatchMapping("/{id}/status")
     fun modifyStatus(
@@ -73,14 +95,22 @@ class ProjectController(
 
     @GetMapping("/{id}/applications")
     fun getApplications(
-        @PathVariable id: Long
+        @PathVariable id: Long,
+        @RequestParam(defaultValue = "0") page: Int,
+        @RequestParam(defaultValue = "100") size: Int,
+        webRequest: WebRequest
     ): ResponseEntity<ApiResponse<List<ApplicationDetailResponseDto>>> {
-        return ResponseEntity.ok(
+        val etag = resourceVersions.etag(
+            listOf(ResourceVersions.projectApplications(id), ResourceVersions.USERS),
+            "$id:$page:$size"
+        )
+
+        return ResourceVersions.conditionalOk(webRequest, etag) {
             ApiResponse(
                 "프로젝트의 지원서 전체 목록 조회 성공",
-                applicationService.getApplicationsByProjectId(id)
+                applicationService.getApplicationsByProjectId(id, page, size)
             )
-        )
+        }
     }
 
     @PostMapping("/{id}/applications")
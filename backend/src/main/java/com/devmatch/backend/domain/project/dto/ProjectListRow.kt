@@ -0,0 +1,19 @@
+package com.devmatch.backend.domain.project.dto
+
+import com.devmatch.backend.domain.project.entity.ProjectStatus
+import java.time.LocalDateTime
+
+// 목록 조회용 JPQL 프로젝션. 생성자 닉네임을 같은 쿼리에서 가져와 행마다 creator를 로딩하지 않는다
+// 기술 목록은 ProjectRepository.findTechStacks로 페이지 단위로 따로 조회
+class ProjectListRow(
+    val id: Long,
+    val title: String,
+    val description: String,
+    val teamSize: Int,
+    val currentTeamSize: Int,
+    val creatorNickname: String,
+    val status: ProjectStatus,
+    val content: String,
+    val durationWeeks: Int,
+    val createdAt: LocalDateTime
+)
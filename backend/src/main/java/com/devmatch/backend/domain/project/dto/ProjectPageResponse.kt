@@ -0,0 +1,7 @@
+package com.devmatch.backend.domain.project.dto
+
+data class ProjectPageResponse(
+    val content: List<ProjectDetailResponse>,
+    val nextCursor: String?,
+    val hasNext: Boolean
+)
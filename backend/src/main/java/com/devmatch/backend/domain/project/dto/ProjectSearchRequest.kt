@@ -0,0 +1,19 @@
+package com.devmatch.backend.domain.project.dto
+
+import com.devmatch.backend.domain.project.entity.ProjectStatus
+import jakarta.validation.constraints.Max
+import jakarta.validation.constraints.Min
+
+// GET /projects 쿼리 파라미터. cursor는 이전 페이지 응답의 nextCursor를 그대로 넘긴다
+data class ProjectSearchRequest(
+    val cursor: String? = null,
+    @field:Min(1)
+    @field:Max(50)
+    val size: Int = 20,
+    val status: ProjectStatus? = null,
+    val tech: String? = null,
+    @field:Min(1)
+    val minTeamSize: Int? = null,
+    @field:Min(1)
+    val maxTeamSize: Int? = null
+)
@@ -0,0 +1,7 @@
+package com.devmatch.backend.domain.project.dto
+
+// 목록 조회에서 페이지의 기술 목록을 한 번에 가져오기 위한 JPQL 프로젝션
+class ProjectTechRow(
+    val projectId: Long,
+    val name: String
+)
@@ -1,12 +1,21 @@
 package com.devmatch.backend.domain.project.entity
 
+import com.devmatch.backend.domain.analysis.entity.RoleAssignment
 import com.devmatch.backend.domain.application.entity.Application
 import com.devmatch.backend.domain.user.entity.User
 import jakarta.persistence.*
+import org.hibernate.annotations.BatchSize
 import java.time.LocalDateTime
 
 @Entity
-@Table(name = "projects", indexes = [Index(name = "idx_creator_id", columnList = "creator_id")])
+@Table(
+    name = "projects",
+    indexes = [
+        Index(name = "idx_creator_id", columnList = "creator_id"),
+        // 목록 조회의 키셋 페이지네이션(createdAt desc, id desc)용
+        Index(name = "idx_project_created_at_id", columnList = "created_at, id")
+    ]
+)
 class Project(
     val title: String,
     val description: String,
@@ -23,29 +32,37 @@ class Project(
     @Enumerated(EnumType.STRING)
     var status: ProjectStatus = ProjectStatus.RECRUITING
 
+    // AI 역할 분배 결과 전체를 저장하므로 VARCHAR(255)가 아닌 TEXT (이미 만들어진 DB는 db/schema-upgrade.sql이 넓힌다)
+    @Column(columnDefinition = "TEXT")
     var content = ""
     var currentTeamSize = 0
     val createdAt: LocalDateTime = LocalDateTime.now()
 
+    // 기술별 검색을 위해 정규화해서 따로 저장. techStack 문자열은 기존 데이터와 AI 프롬프트용으로 유지
+    @ElementCollection
+    @CollectionTable(
+        name = "project_tech_stack",
+        joinColumns = [JoinColumn(name = "project_id")],
+        indexes = [Index(name = "idx_project_tech_stack_normalized_name", columnList = "normalized_name, project_id")]
+    )
+    @OrderColumn(name = "position")
+    @BatchSize(size = 100)
+    val techStacks: MutableList<ProjectTech> = ProjectTech.parse(techStack)
+
     @OneToMany(mappedBy = "project", fetch = FetchType.LAZY, orphanRemoval = true)
     private val applications: List<Application> = emptyList()
 
-    fun changeStatus(newStatus: ProjectStatus) {
-        require(newStatus != status) { "현재 상태(${status})와 동일한 상태(${newStatus})로 변경할 수 없습니다" }
-        status = newStatus
-    }
-
-    fun increaseCurTeamSize() {
-        require(currentTeamSize < teamSize) { "정원이 가득 차서 지원서를 더 이상 승인할 수 없습니다" }
-        currentTeamSize++
+    @OneToMany(mappedBy = "project", fetch = FetchType.LAZY, orphanRemoval = true)
+    private val roleAssignments: List<RoleAssignment> = emptyList()
 
-        if (currentTeamSize == teamSize) {
-            status = ProjectStatus.COMPLETED
-        }
+    // 기술 목록이 비어 있는 기존 데이터를 techStack 문자열로부터 채운다
+    fun syncTechStacks() {
+        techStacks.clear()
+        techStacks.addAll(ProjectTech.parse(techStack))
     }
 
-    fun decreaseCurTeamSize() {
-        currentTeamSize--
-        status = ProjectStatus.RECRUITING
+    fun changeStatus(newStatus: ProjectStatus) {
+        require(newStatus != status) { "현재 상태(${status})와 동일한 상태(${newStatus})로 변경할 수 없습니다" }
+        status = newStatus
     }
 }
\ No newline at end of file
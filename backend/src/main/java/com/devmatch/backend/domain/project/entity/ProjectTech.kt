@@ -0,0 +1,26 @@
+package com.devmatch.backend.domain.project.entity
+
+import jakarta.persistence.Column
+import jakarta.persistence.Embeddable
+
+// 프로젝트가 요구하는 기술 하나. name은 화면 표시용 원문, normalizedName은 검색용(소문자, 공백 제거)
+@Embeddable
+class ProjectTech(
+    @Column(name = "name", nullable = false)
+    val name: String,
+
+    @Column(name = "normalized_name", nullable = false)
+    val normalizedName: String
+) {
+    companion object {
+        fun normalize(name: String): String = name.trim().lowercase()
+
+        // ", "로 구분된 기술 스택 문자열을 기술 목록으로 변환
+        fun parse(techStack: String): MutableList<ProjectTech> =
+            techStack.split(",")
+                .map { it.trim() }
+                .filter { it.isNotEmpty() }
+                .distinctBy { normalize(it) }
+                .mapTo(mutableListOf()) { ProjectTech(it, normalize(it)) }
+    }
+}
@@ -0,0 +1,6 @@
+package com.devmatch.backend.domain.project.event
+
+// 프로젝트 설명, 기술 스택 등 분석 입력값이 바뀌거나 프로젝트가 삭제되었을 때 발행
+data class ProjectChangedEvent(
+    val projectId: Long
+)
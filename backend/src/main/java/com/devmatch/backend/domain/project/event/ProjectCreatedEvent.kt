@@ -0,0 +1,7 @@
+package com.devmatch.backend.domain.project.event
+
+// techStacks는 ProjectTech.normalize로 정규화된 기술명
+data class ProjectCreatedEvent(
+    val projectId: Long,
+    val techStacks: List<String>
+)
@@ -0,0 +1,5 @@
+package com.devmatch.backend.domain.project.event
+
+data class ProjectDeletedEvent(
+    val projectId: Long
+)
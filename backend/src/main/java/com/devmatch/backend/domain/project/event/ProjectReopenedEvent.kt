@@ -0,0 +1,9 @@
+package com.devmatch.backend.domain.project.event
+
+import com.devmatch.backend.domain.project.entity.ProjectStatus
+
+// 승인된 팀원이 빠져 마감(previousStatus)이었던 프로젝트가 다시 모집 중으로 바뀌었을 때 발행
+data class ProjectReopenedEvent(
+    val projectId: Long,
+    val previousStatus: ProjectStatus
+)
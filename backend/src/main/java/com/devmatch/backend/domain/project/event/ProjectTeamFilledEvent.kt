@@ -0,0 +1,7 @@
+package com.devmatch.backend.domain.project.event
+
+// 지원서 승인으로 정원이 가득 차 모집이 끝났을 때 발행
+data class ProjectTeamFilledEvent(
+    val projectId: Long,
+    val creatorId: Long
+)
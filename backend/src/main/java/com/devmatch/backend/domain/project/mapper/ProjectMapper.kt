@@ -1,6 +1,7 @@
 package com.devmatch.backend.domain.project.mapper
 
 import com.devmatch.backend.domain.project.dto.ProjectDetailResponse
+import com.devmatch.backend.domain.project.dto.ProjectListRow
 import com.devmatch.backend.domain.project.entity.Project
 
 object ProjectMapper {
@@ -10,7 +11,7 @@ object ProjectMapper {
             project.id!!,
             project.title,
             project.description,
-            project.techStack.split(", "),
+            project.techStacks.map { it.name },
             project.teamSize,
             project.currentTeamSize,
             project.creator.nickname,
@@ -20,4 +21,20 @@ object ProjectMapper {
             project.createdAt
         )
     }
+
+    fun toProjectDetailResponse(row: ProjectListRow, techStacks: List<String>): ProjectDetailResponse {
+        return ProjectDetailResponse(
+            row.id,
+            row.title,
+            row.description,
+            techStacks,
+            row.teamSize,
+            row.currentTeamSize,
+            row.creatorNickname,
+            row.status.name,
+            row.content,
+            row.durationWeeks,
+            row.createdAt
+        )
+    }
 }
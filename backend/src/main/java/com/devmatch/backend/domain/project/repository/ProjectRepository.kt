@@ -1,8 +1,119 @@
 package com.devmatch.backend.domain.project.repository
 
+import com.devmatch.backend.domain.project.dto.ProjectListRow
+import com.devmatch.backend.domain.project.dto.ProjectTechRow
 import com.devmatch.backend.domain.project.entity.Project
+import com.devmatch.backend.domain.project.entity.ProjectStatus
+import org.springframework.data.domain.Pageable
+import org.springframework.data.jpa.repository.EntityGraph
 import org.springframework.data.jpa.repository.JpaRepository
+import org.springframework.data.jpa.repository.Modifying
+import org.springframework.data.jpa.repository.Query
+import org.springframework.data.repository.query.Param
+import java.time.LocalDateTime
+import java.util.Optional
 
+// open-in-view를 끈 상태라 응답 변환(ProjectMapper)에서 쓰는 연관은 조회할 때 함께 가져온다
+// techStacks는 @BatchSize로 IN 쿼리 한 번에 채워진다
 interface ProjectRepository : JpaRepository<Project, Long> {
+    @EntityGraph(attributePaths = ["creator"])
+    override fun findById(id: Long): Optional<Project>
+
+    @EntityGraph(attributePaths = ["creator"])
     fun findAllByCreatorId(creatorId: Long): List<Project>
-}
\ No newline at end of file
+
+    @Query("select p.id from Project p where p.creator.id = :creatorId")
+    fun findIdsByCreatorId(@Param("creatorId") creatorId: Long): List<Long>
+
+    @EntityGraph(attributePaths = ["creator"])
+    fun findAllByIdIn(ids: Collection<Long>): List<Project>
+
+    // 추천 색인 초기화용. 모든 프로젝트의 (ID, 정규화된 기술명)
+    @Query(
+        """
+        select new com.devmatch.backend.domain.project.dto.ProjectTechRow(p.id, t.normalizedName)
+        from Project p
+        join p.techStacks t
+        """
+    )
+    fun findAllNormalizedTechStacks(): List<ProjectTechRow>
+
+    // (createdAt, id) 내림차순 키셋 페이지네이션. 커서 이전 행만 읽으므로 OFFSET처럼 앞 페이지를 스캔하지 않는다
+    // tech는 ProjectTech.normalize로 정규화한 값. project_tech_stack(normalized_name, project_id) 인덱스를 탄다
+    @Query(
+        """
+        select new com.devmatch.backend.domain.project.dto.ProjectListRow(
+            p.id, p.title, p.description, p.teamSize, p.currentTeamSize,
+            c.nickname, p.status, p.content, p.durationWeeks, p.createdAt
+        )
+        from Project p
+        join p.creator c
+        where (:status is null or p.status = :status)
+          and (:tech is null or p.id in (
+               select tp.id from Project tp join tp.techStacks t where t.normalizedName = :tech
+          ))
+          and (:minTeamSize is null or p.teamSize >= :minTeamSize)
+          and (:maxTeamSize is null or p.teamSize <= :maxTeamSize)
+          and (:cursorCreatedAt is null
+               or p.createdAt < :cursorCreatedAt
+               or (p.createdAt = :cursorCreatedAt and p.id < :cursorId))
+        order by p.createdAt desc, p.id desc
+        """
+    )
+    fun findPage(
+        @Param("status") status: ProjectStatus?,
+        @Param("tech") tech: String?,
+        @Param("minTeamSize") minTeamSize: Int?,
+        @Param("maxTeamSize") maxTeamSize: Int?,
+        @Param("cursorCreatedAt") cursorCreatedAt: LocalDateTime?,
+        @Param("cursorId") cursorId: Long?,
+        pageable: Pageable
+    ): List<ProjectListRow>
+
+    @Query(
+        """
+        select new com.devmatch.backend.domain.project.dto.ProjectTechRow(p.id, t.name)
+        from Project p
+        join p.techStacks t
+        where p.id in :projectIds
+        order by p.id, index(t)
+        """
+    )
+    fun findTechStacks(@Param("projectIds") projectIds: Collection<Long>): List<ProjectTechRow>
+
+    // 기술 목록이 아직 채워지지 않은 기존 프로젝트 (project_tech_stack 도입 이전 데이터)
+    @Query("select p from Project p where p.techStacks is empty order by p.id")
+    fun findAllWithoutTechStacks(pageable: Pageable): List<Project>
+
+    // 정원 확인과 증가를 UPDATE 한 문장으로 처리해 동시 승인에도 정원을 넘지 않게 한다
+    // SET 절의 currentTeamSize는 갱신 전 값으로 평가된다
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(
+        """
+        update Project p
+        set p.currentTeamSize = p.currentTeamSize + 1,
+            p.status = case when p.currentTeamSize + 1 >= p.teamSize then :completed else p.status end
+        where p.id = :projectId
+          and p.currentTeamSize < p.teamSize
+        """
+    )
+    fun increaseCurrentTeamSizeIfAvailable(
+        @Param("projectId") projectId: Long,
+        @Param("completed") completed: ProjectStatus
+    ): Int
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(
+        """
+        update Project p
+        set p.currentTeamSize = p.currentTeamSize - 1,
+            p.status = :recruiting
+        where p.id = :projectId
+          and p.currentTeamSize > 0
+        """
+    )
+    fun decreaseCurrentTeamSize(
+        @Param("projectId") projectId: Long,
+        @Param("recruiting") recruiting: ProjectStatus
+    ): Int
+}
@@ -1,21 +1,44 @@
 package com.devmatch.backend.domain.project.service
 
+import com.back.standard.extensions.base64Decode
+import com.back.standard.extensions.base64Encode
+import com.devmatch.backend.domain.project.cache.ProjectDetailCache
 import com.devmatch.backend.domain.project.dto.ProjectCreateRequest
 import com.devmatch.backend.domain.project.dto.ProjectDetailResponse
+import com.devmatch.backend.domain.project.dto.ProjectPageResponse
+import com.devmatch.backend.domain.project.dto.ProjectSearchRequest
 import com.devmatch.backend.domain.project.entity.Project
 import com.devmatch.backend.domain.project.entity.ProjectStatus
+import com.devmatch.backend.domain.project.entity.ProjectTech
+import com.devmatch.backend.domain.project.event.ProjectChangedEvent
+import com.devmatch.backend.domain.project.event.ProjectCreatedEvent
+import com.devmatch.backend.domain.project.event.ProjectDeletedEvent
+import com.devmatch.backend.domain.project.event.ProjectReopenedEvent
+import com.devmatch.backend.domain.project.event.ProjectTeamFilledEvent
 import com.devmatch.backend.domain.project.mapper.ProjectMapper
 import com.devmatch.backend.domain.project.repository.ProjectRepository
 import com.devmatch.backend.domain.user.service.UserService
+import com.devmatch.backend.global.outbox.DomainEventPublisher
+import com.devmatch.backend.global.web.ResourceVersions
+import org.springframework.data.domain.PageRequest
 import org.springframework.data.repository.findByIdOrNull
 import org.springframework.stereotype.Service
+import org.springframework.transaction.PlatformTransactionManager
 import org.springframework.transaction.annotation.Transactional
+import org.springframework.transaction.support.TransactionTemplate
+import java.time.LocalDateTime
 
 @Service
 class ProjectService(
     private val userService: UserService,
     private val projectRepository: ProjectRepository,
+    private val domainEventPublisher: DomainEventPublisher,
+    private val projectDetailCache: ProjectDetailCache,
+    private val resourceVersions: ResourceVersions,
+    transactionManager: PlatformTransactionManager,
 ) {
+    // 단건 조회 캐시 적중 시에는 트랜잭션(=DB 커넥션)을 열지 않도록 캐시 미스일 때만 읽기 트랜잭션을 연다
+    private val readTransaction = TransactionTemplate(transactionManager).apply { isReadOnly = true }
 
     @Transactional
     fun createProject(
@@ -35,12 +58,46 @@ class ProjectService(
             durationWeeks = projectCreateRequest.durationWeeks
         )
 
-        return ProjectMapper.toProjectDetailResponse(projectRepository.save(project))
+        val saved = projectRepository.save(project)
+        resourceVersions.touch(ResourceVersions.PROJECTS)
+        domainEventPublisher.publish(ProjectCreatedEvent(saved.id!!, saved.techStacks.map { it.normalizedName }))
+
+        return ProjectMapper.toProjectDetailResponse(saved)
     }
 
     @Transactional(readOnly = true)
-    fun getProjects(): List<ProjectDetailResponse> {
-        return projectRepository.findAll().map { ProjectMapper.toProjectDetailResponse(it) }
+    fun getProjects(request: ProjectSearchRequest): ProjectPageResponse {
+        val size = request.size.coerceIn(1, MAX_PAGE_SIZE)
+        val cursor = request.cursor?.let { decodeCursor(it) }
+
+        if (request.minTeamSize != null && request.maxTeamSize != null) {
+            require(request.minTeamSize <= request.maxTeamSize) { "최소 팀 인원이 최대 팀 인원보다 클 수 없습니다" }
+        }
+
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회
+        val rows = projectRepository.findPage(
+            request.status,
+            request.tech?.let { ProjectTech.normalize(it) }?.takeIf { it.isNotEmpty() },
+            request.minTeamSize,
+            request.maxTeamSize,
+            cursor?.first,
+            cursor?.second,
+            PageRequest.of(0, size + 1)
+        )
+
+        val hasNext = rows.size > size
+        val page = rows.take(size)
+
+        // 페이지의 기술 목록은 IN 쿼리 한 번으로 가져온다
+        val techStacksByProjectId = if (page.isEmpty()) emptyMap() else
+            projectRepository.findTechStacks(page.map { it.id })
+                .groupBy({ it.projectId }, { it.name })
+
+        return ProjectPageResponse(
+            page.map { ProjectMapper.toProjectDetailResponse(it, techStacksByProjectId[it.id].orEmpty()) },
+            if (hasNext) page.last().let { encodeCursor(it.createdAt, it.id) } else null,
+            hasNext
+        )
     }
 
     @Transactional(readOnly = true)
@@ -49,15 +106,22 @@ class ProjectService(
             .map { ProjectMapper.toProjectDetailResponse(it) }
     }
 
-    @Transactional(readOnly = true)
     fun getProjectDetail(projectId: Long): ProjectDetailResponse {
-        return ProjectMapper.toProjectDetailResponse(getProject(projectId))
+        return getCachedProjectDetail(projectId).response
+    }
+
+    // 캐시에 있으면 DB를 조회하지 않는다. ETag는 조건부 요청(If-None-Match) 처리에 사용
+    fun getCachedProjectDetail(projectId: Long): ProjectDetailCache.Entry {
+        return projectDetailCache.get(projectId) {
+            readTransaction.execute { _ -> ProjectMapper.toProjectDetailResponse(getProject(it)) }!!
+        }
     }
 
     @Transactional
     fun modifyStatus(projectId: Long, status: ProjectStatus): ProjectDetailResponse {
         val project = getProject(projectId)
         project.changeStatus(status)
+        changed(projectId)
 
         return ProjectMapper.toProjectDetailResponse(project)
     }
@@ -66,18 +130,81 @@ class ProjectService(
     fun modifyContent(projectId: Long, content: String): ProjectDetailResponse {
         val project = getProject(projectId)
         project.content = content
+        changed(projectId)
 
         return ProjectMapper.toProjectDetailResponse(project)
     }
 
+    // 추천 결과처럼 ID 목록으로 여러 프로젝트를 가져올 때 사용. 생성자는 함께 fetch join
+    @Transactional(readOnly = true)
+    fun getProjectsByIds(projectIds: Collection<Long>): List<Project> {
+        return projectRepository.findAllByIdIn(projectIds)
+    }
+
+    @Transactional(readOnly = true)
+    fun getProjectIdsByCreatorId(creatorId: Long): Set<Long> {
+        return projectRepository.findIdsByCreatorId(creatorId).toSet()
+    }
+
+    // 지원서 승인 시 호출. 정원이 가득 찼으면 아무것도 바꾸지 않고 예외를 던진다
+    @Transactional
+    fun increaseCurrentTeamSize(projectId: Long) {
+        require(projectRepository.increaseCurrentTeamSizeIfAvailable(projectId, ProjectStatus.COMPLETED) == 1) {
+            "정원이 가득 차서 지원서를 더 이상 승인할 수 없습니다"
+        }
+        changed(projectId)
+
+        // 이번 승인으로 정원이 찼는지는 갱신된 값을 다시 읽어 확인 (UPDATE 후 영속성 컨텍스트는 비워져 있다)
+        val project = getProject(projectId)
+
+        if (project.currentTeamSize >= project.teamSize) {
+            domainEventPublisher.publish(ProjectTeamFilledEvent(projectId, project.creator.id))
+        }
+    }
+
+    // 승인된 지원서 삭제 시 호출. 정원이 줄면 상태가 모집 중으로 돌아가므로 마감됐던 프로젝트라면 재모집 이벤트를 남긴다
+    @Transactional
+    fun decreaseCurrentTeamSize(projectId: Long) {
+        val previousStatus = getProject(projectId).status
+
+        if (projectRepository.decreaseCurrentTeamSize(projectId, ProjectStatus.RECRUITING) == 1 &&
+            previousStatus != ProjectStatus.RECRUITING
+        ) {
+            domainEventPublisher.publish(ProjectReopenedEvent(projectId, previousStatus))
+        }
+        changed(projectId)
+    }
+
     @Transactional
     fun deleteProject(projectId: Long) {
         getProject(projectId)
         projectRepository.deleteById(projectId)
+        changed(projectId)
+        domainEventPublisher.publish(ProjectChangedEvent(projectId))
+        domainEventPublisher.publish(ProjectDeletedEvent(projectId))
     }
 
     fun getProject(projectId: Long): Project {
         return projectRepository.findByIdOrNull(projectId)
             ?: throw NoSuchElementException("조회하려는 프로젝트가 없습니다")
     }
+
+    // 단건 조회 캐시를 지우고 목록 ETag를 갱신 (둘 다 커밋 후에 반영됨)
+    private fun changed(projectId: Long) {
+        projectDetailCache.evict(projectId)
+        resourceVersions.touch(ResourceVersions.PROJECTS)
+    }
+
+    private fun encodeCursor(createdAt: LocalDateTime, id: Long): String = "$createdAt|$id".base64Encode()
+
+    private fun decodeCursor(cursor: String): Pair<LocalDateTime, Long> {
+        val parts = runCatching { cursor.base64Decode().split("|") }.getOrNull()
+
+        return runCatching { LocalDateTime.parse(parts!![0]) to parts[1].toLong() }
+            .getOrElse { throw IllegalArgumentException("잘못된 커서입니다") }
+    }
+
+    companion object {
+        private const val MAX_PAGE_SIZE = 50
+    }
 }
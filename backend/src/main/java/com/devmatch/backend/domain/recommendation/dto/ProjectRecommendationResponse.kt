@@ -0,0 +1,9 @@
+package com.devmatch.backend.domain.recommendation.dto
+
+import com.devmatch.backend.domain.project.dto.ProjectDetailResponse
+
+data class ProjectRecommendationResponse(
+    val project: ProjectDetailResponse,
+    val score: Double,                 // 코사인 유사도 (0 ~ 1)
+    val matchedTechStacks: List<String> // 사용자가 점수를 가진 기술 중 프로젝트가 요구하는 기술
+)
@@ -0,0 +1,69 @@
+package com.devmatch.backend.domain.recommendation.index
+
+import java.util.*
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicInteger
+import kotlin.math.sqrt
+
+// 프로젝트의 기술 스택을 공통 기술 사전 위의 희소 벡터로 보고, 기술 → 프로젝트 역색인으로 코사인 유사도 상위 K개를 찾는다
+// 프로젝트 벡터는 요구 기술마다 가중치 1, 사용자 벡터는 기술별 숙련도(0~1)
+// 질의 비용은 전체 프로젝트 수가 아니라 사용자 기술의 포스팅 리스트 길이에 비례한다
+class ProjectRecommendationIndex {
+
+    data class Match(val projectId: Long, val score: Double)
+
+    private val vocabulary = ConcurrentHashMap<String, Int>()
+    private val nextTermId = AtomicInteger()
+
+    // 프로젝트 ID → 요구 기술의 용어 ID 목록 (벡터의 0이 아닌 성분)
+    private val projects = ConcurrentHashMap<Long, IntArray>()
+
+    // 용어 ID → 그 기술을 요구하는 프로젝트 ID들
+    private val postings = ConcurrentHashMap<Int, MutableSet<Long>>()
+
+    val size: Int
+        get() = projects.size
+
+    fun put(projectId: Long, techs: Collection<String>) {
+        remove(projectId)
+
+        val termIds = techs.map { termId(it) }.distinct().toIntArray()
+        if (termIds.isEmpty()) return
+
+        projects[projectId] = termIds
+        termIds.forEach { postings.computeIfAbsent(it) { ConcurrentHashMap.newKeySet() }.add(projectId) }
+    }
+
+    fun remove(projectId: Long) {
+        projects.remove(projectId)?.forEach { postings[it]?.remove(projectId) }
+    }
+
+    // userVector: 정규화된 기술명 → 가중치. excluded에 든 프로젝트(본인 프로젝트, 이미 지원한 프로젝트)는 제외
+    fun topK(userVector: Map<String, Double>, k: Int, excluded: Set<Long> = emptySet()): List<Match> {
+        val userNorm = sqrt(userVector.values.sumOf { it * it })
+        if (k <= 0 || userNorm == 0.0) return emptyList()
+
+        val dotProducts = HashMap<Long, Double>()
+
+        userVector.forEach { (tech, weight) ->
+            val termId = vocabulary[tech] ?: return@forEach
+            postings[termId]?.forEach { projectId -> dotProducts.merge(projectId, weight, Double::plus) }
+        }
+
+        // 점수가 가장 낮은 후보가 맨 앞에 오는 크기 K의 힙. 동점이면 최근(ID가 큰) 프로젝트를 우선
+        val comparator = compareBy<Match>({ it.score }, { it.projectId })
+        val heap = PriorityQueue(k + 1, comparator)
+
+        dotProducts.forEach { (projectId, dot) ->
+            if (projectId in excluded) return@forEach
+            val terms = projects[projectId] ?: return@forEach
+
+            heap.add(Match(projectId, dot / (userNorm * sqrt(terms.size.toDouble()))))
+            if (heap.size > k) heap.poll()
+        }
+
+        return heap.sortedWith(comparator.reversed())
+    }
+
+    private fun termId(tech: String): Int = vocabulary.computeIfAbsent(tech) { nextTermId.getAndIncrement() }
+}
@@ -0,0 +1,77 @@
+package com.devmatch.backend.domain.recommendation.service
+
+import com.devmatch.backend.domain.application.service.ApplicationService
+import com.devmatch.backend.domain.project.entity.ProjectStatus
+import com.devmatch.backend.domain.project.entity.ProjectTech
+import com.devmatch.backend.domain.project.event.ProjectCreatedEvent
+import com.devmatch.backend.domain.project.event.ProjectDeletedEvent
+import com.devmatch.backend.domain.project.mapper.ProjectMapper
+import com.devmatch.backend.domain.project.repository.ProjectRepository
+import com.devmatch.backend.domain.project.service.ProjectService
+import com.devmatch.backend.domain.recommendation.dto.ProjectRecommendationResponse
+import com.devmatch.backend.domain.recommendation.index.ProjectRecommendationIndex
+import org.springframework.boot.context.event.ApplicationReadyEvent
+import org.springframework.context.event.EventListener
+import org.springframework.stereotype.Service
+import org.springframework.transaction.annotation.Transactional
+
+// 사용자의 기술 점수와 프로젝트 기술 스택의 코사인 유사도로 "잘 맞는 프로젝트"를 추천하는 서비스
+// LLM을 호출하지 않고 메모리 역색인만으로 계산하며, 색인은 프로젝트 생성/삭제 이벤트로 갱신한다
+@Service
+class ProjectRecommendationService(
+    private val projectRepository: ProjectRepository,
+    private val projectService: ProjectService,
+    private val applicationService: ApplicationService
+) {
+    private val index = ProjectRecommendationIndex()
+
+    @EventListener(ApplicationReadyEvent::class)
+    @Transactional(readOnly = true)
+    fun rebuildIndex() {
+        projectRepository.findAllNormalizedTechStacks()
+            .groupBy({ it.projectId }, { it.name })
+            .forEach { (projectId, techs) -> index.put(projectId, techs) }
+    }
+
+    // outbox 릴레이가 커밋된 이벤트만 전달한다. 같은 이벤트가 다시 와도 put/remove는 결과가 같다
+    @EventListener
+    fun onProjectCreated(event: ProjectCreatedEvent) {
+        index.put(event.projectId, event.techStacks)
+    }
+
+    @EventListener
+    fun onProjectDeleted(event: ProjectDeletedEvent) {
+        index.remove(event.projectId)
+    }
+
+    @Transactional(readOnly = true)
+    fun recommend(userId: Long, size: Int): List<ProjectRecommendationResponse> {
+        val limit = size.coerceIn(1, MAX_SIZE)
+        val skills = applicationService.getSkillProfile(userId)
+
+        if (skills.isEmpty()) return emptyList()
+
+        val excluded = projectService.getProjectIdsByCreatorId(userId) + applicationService.getAppliedProjectIds(userId)
+
+        // 모집이 끝난 프로젝트는 색인에서 거르지 않으므로 여유 있게 후보를 뽑은 뒤 DB에서 상태를 확인
+        val matches = index.topK(skills, limit * CANDIDATE_FACTOR, excluded)
+        val projects = projectService.getProjectsByIds(matches.map { it.projectId }).associateBy { it.id!! }
+
+        return matches
+            .mapNotNull { match -> projects[match.projectId]?.let { it to match.score } }
+            .filter { (project, _) -> project.status == ProjectStatus.RECRUITING }
+            .take(limit)
+            .map { (project, score) ->
+                ProjectRecommendationResponse(
+                    ProjectMapper.toProjectDetailResponse(project),
+                    score,
+                    project.techStacks.filter { ProjectTech.normalize(it.name) in skills }.map { it.name }
+                )
+            }
+    }
+
+    companion object {
+        private const val MAX_SIZE = 50
+        private const val CANDIDATE_FACTOR = 3
+    }
+}
@@ -4,20 +4,27 @@ import com.devmatch.backend.domain.application.dto.response.ApplicationDetailRes
 import com.devmatch.backend.domain.application.service.ApplicationService
 import com.devmatch.backend.domain.project.dto.ProjectDetailResponse
 import com.devmatch.backend.domain.project.service.ProjectService
+import com.devmatch.backend.domain.recommendation.dto.ProjectRecommendationResponse
+import com.devmatch.backend.domain.recommendation.service.ProjectRecommendationService
 import com.devmatch.backend.domain.user.entity.User
 import com.devmatch.backend.global.rq.Rq
+import com.devmatch.backend.global.web.ResourceVersions
 import org.springframework.http.HttpStatus
 import org.springframework.http.ResponseEntity
 import org.springframework.web.bind.annotation.GetMapping
 import org.springframework.web.bind.annotation.RequestMapping
+import org.springframework.web.bind.annotation.RequestParam
 import org.springframework.web.bind.annotation.RestController
+import org.springframework.web.context.request.WebRequest
 
 @RestController
 @RequestMapping("/users")
 class UserController(
     private val rq: Rq,
     private val projectService: ProjectService,
-    private val applicationService: ApplicationService
+    private val applicationService: ApplicationService,
+    private val projectRecommendationService: ProjectRecommendationService,
+    private val resourceVersions: ResourceVersions
 ) {
     @GetMapping("/profile")
     fun currentUser(): ResponseEntity<User> {
@@ -29,21 +36,40 @@ class UserController(
     }
 
 
+    // 목록이 바뀌지 않았으면 304로 응답 (ETag는 사용자별로 다르다)
     @GetMapping("/projects")
-    fun findProjectsById(): ResponseEntity<List<ProjectDetailResponse>> {
+    fun findProjectsById(webRequest: WebRequest): ResponseEntity<List<ProjectDetailResponse>> {
         val actor = rq.actor
         val id: Long = actor.id // 현재 로그인한 사용자의 ID를 가져옴
-        return ResponseEntity
-            .status(HttpStatus.OK)
-            .body(projectService.getProjectsByUserId(id)
-        )
+        val etag = resourceVersions.etag(listOf(ResourceVersions.PROJECTS, ResourceVersions.USERS), "user:$id")
+
+        return ResourceVersions.conditionalOk(webRequest, etag) { projectService.getProjectsByUserId(id) }
     }
 
     @GetMapping("/applications")
-    fun findApplicationsById(): ResponseEntity<List<ApplicationDetailResponseDto>> {
+    fun findApplicationsById(
+        @RequestParam(defaultValue = "0") page: Int,
+        @RequestParam(defaultValue = "100") size: Int,
+        webRequest: WebRequest
+    ): ResponseEntity<List<ApplicationDetailResponseDto>> {
         val actor = rq.actor
         val id: Long = actor.id // 현재 로그인한 사용자의 ID를 가져옴
+        val etag = resourceVersions.etag(
+            listOf(ResourceVersions.userApplications(id), ResourceVersions.USERS),
+            "$page:$size"
+        )
+
+        return ResourceVersions.conditionalOk(webRequest, etag) {
+            applicationService.getApplicationsByUserId(id, page, size)
+        }
+    }
+
+    @GetMapping("/recommendations")
+    fun findRecommendations(
+        @RequestParam(defaultValue = "10") size: Int
+    ): ResponseEntity<List<ProjectRecommendationResponse>> {
+        val actor = rq.actor
         return ResponseEntity.status(HttpStatus.OK)
-            .body(applicationService.getApplicationsByUserId(id))
+            .body(projectRecommendationService.recommend(actor.id, size))
     }
-}
\ No newline at end of file
+}
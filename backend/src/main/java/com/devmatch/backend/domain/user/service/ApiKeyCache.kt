@@ -0,0 +1,101 @@
+package com.devmatch.backend.domain.user.service
+
+import com.devmatch.backend.domain.user.entity.User
+import com.github.benmanes.caffeine.cache.Cache
+import com.github.benmanes.caffeine.cache.Caffeine
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.stereotype.Component
+import org.springframework.transaction.support.TransactionSynchronization
+import org.springframework.transaction.support.TransactionSynchronizationManager
+import java.time.Duration
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicLong
+
+// 액세스 토큰이 없거나 만료됐을 때 쓰는 API 키 → 사용자 조회 캐시
+// 존재하는 키는 TTL 동안, 존재하지 않는 키는 짧은 TTL 동안 기억해 DB 조회를 막는다
+@Component
+class ApiKeyCache(
+    meterRegistry: MeterRegistry,
+    @param:Value("\${custom.apiKey.cache.maxSize}")
+    maxSize: Long,
+    @param:Value("\${custom.apiKey.cache.ttlMinutes}")
+    ttlMinutes: Long,
+    @param:Value("\${custom.apiKey.cache.negativeMaxSize}")
+    negativeMaxSize: Long,
+    @param:Value("\${custom.apiKey.cache.negativeTtlSeconds}")
+    negativeTtlSeconds: Long
+) {
+    // 영속 엔티티 대신 인증에 필요한 값(id, username, nickname)만 담은 사용자 정보를 보관
+    private val users: Cache<String, User> = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+        .recordStats()
+        .build()
+
+    private val unknownKeys: Cache<String, Boolean> = Caffeine.newBuilder()
+        .maximumSize(negativeMaxSize)
+        .expireAfterWrite(Duration.ofSeconds(negativeTtlSeconds))
+        .recordStats()
+        .build()
+
+    // 같은 키에 대한 동시 미스(토큰 만료 직후 몰리는 요청)는 DB 조회 한 번을 함께 기다린다
+    // Caffeine의 compute 안에서 DB를 조회하면 같은 버킷의 다른 키까지 막히므로 별도로 관리
+    private val inFlight = ConcurrentHashMap<String, CompletableFuture<User?>>()
+
+    // 조회하는 동안 무효화가 한 번이라도 있었으면 그 결과는 이전 값일 수 있으므로 캐시하지 않는다
+    private val invalidations = AtomicLong()
+
+    init {
+        CaffeineCacheMetrics.monitor(meterRegistry, users, "auth.apikey")
+        CaffeineCacheMetrics.monitor(meterRegistry, unknownKeys, "auth.apikey.unknown")
+    }
+
+    fun get(apiKey: String, loader: (String) -> User?): User? {
+        users.getIfPresent(apiKey)?.let { return it }
+
+        if (unknownKeys.getIfPresent(apiKey) != null) return null
+
+        val future = CompletableFuture<User?>()
+        inFlight.putIfAbsent(apiKey, future)?.let { return it.join() }
+
+        try {
+            val invalidationsBeforeLoad = invalidations.get()
+            val user = loader(apiKey)?.let { User(it.id, it.username, it.nickname) }
+
+            if (invalidations.get() == invalidationsBeforeLoad) {
+                if (user != null) users.put(apiKey, user) else unknownKeys.put(apiKey, true)
+            }
+
+            future.complete(user)
+            return user
+        } catch (e: Exception) {
+            future.completeExceptionally(e)
+            throw e
+        } finally {
+            inFlight.remove(apiKey, future)
+        }
+    }
+
+    // 커밋 전에 지우면 다른 요청이 이전 값을 다시 캐시할 수 있으므로, 트랜잭션 안이라면 커밋 후에 지운다
+    fun evict(vararg apiKeys: String) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(apiKeys)
+            return
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(object : TransactionSynchronization {
+            override fun afterCommit() = invalidate(apiKeys)
+        })
+    }
+
+    private fun invalidate(apiKeys: Array<out String>) {
+        invalidations.incrementAndGet()
+        // 무효화 이후의 요청이 이전 조회 결과를 함께 기다리지 않고 새로 조회하게 한다
+        apiKeys.forEach { inFlight.remove(it) }
+        users.invalidateAll(apiKeys.toList())
+        unknownKeys.invalidateAll(apiKeys.toList())
+    }
+}
@@ -2,37 +2,96 @@ package com.devmatch.backend.domain.user.service
 
 import com.devmatch.backend.domain.user.entity.User
 import com.devmatch.backend.standard.util.Ut
+import com.github.benmanes.caffeine.cache.Cache
+import com.github.benmanes.caffeine.cache.Caffeine
+import com.github.benmanes.caffeine.cache.Expiry
+import io.jsonwebtoken.JwtParser
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics
 import org.springframework.beans.factory.annotation.Value
 import org.springframework.stereotype.Service
+import java.security.MessageDigest
+import java.util.*
+import javax.crypto.SecretKey
 
 @Service
 class AuthTokenService(
     @param:Value("\${custom.jwt.secretKey}")
-    private val jwtSecretKey: String,
+    jwtSecretKey: String,
 
     @param:Value("\${custom.accessToken.expirationSeconds}")
-    private val accessTokenExpirationSeconds: Int
+    private val accessTokenExpirationSeconds: Int,
+
+    @param:Value("\${custom.accessToken.cache.maxSize}")
+    cacheMaxSize: Long,
+
+    meterRegistry: MeterRegistry
 ) {
+    private val secretKey: SecretKey = Ut.jwt.secretKey(jwtSecretKey)
+
+    private val parser: JwtParser = Ut.jwt.parser(secretKey)
+
+    // 서명 검증을 마친 토큰의 payload. 토큰 원문 대신 SHA-256 해시를 키로 쓰고, 토큰의 exp 시점에 만료시킨다
+    private val verifiedTokens: Cache<String, VerifiedToken> = Caffeine.newBuilder()
+        .maximumSize(cacheMaxSize)
+        .expireAfter(object : Expiry<String, VerifiedToken> {
+            override fun expireAfterCreate(key: String, value: VerifiedToken, currentTime: Long): Long =
+                (value.expiresAtMillis - System.currentTimeMillis()).coerceAtLeast(0) * 1_000_000
+
+            override fun expireAfterUpdate(
+                key: String, value: VerifiedToken, currentTime: Long, currentDuration: Long
+            ): Long = expireAfterCreate(key, value, currentTime)
+
+            override fun expireAfterRead(
+                key: String, value: VerifiedToken, currentTime: Long, currentDuration: Long
+            ): Long = currentDuration
+        })
+        .recordStats()
+        .build()
+
+    init {
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "auth.token")
+    }
+
     fun genAccessToken(user: User): String {
         val id = user.id
         val username: String = user.username
         val nickname: String = user.nickname
 
         return Ut.jwt.toString(
-            jwtSecretKey,
+            secretKey,
             accessTokenExpirationSeconds,
             mapOf<String, Any>("id" to id, "username" to username, "name" to nickname)
         )
     }
 
     fun payload(accessToken: String): Map<String, Any>? {
-        val parsedPayload = Ut.jwt.payload(jwtSecretKey, accessToken)
+        val key = hash(accessToken)
+
+        verifiedTokens.getIfPresent(key)?.let { return it.payload }
+
+        // 검증에 실패한 토큰은 캐시하지 않는다 (위조 토큰으로 캐시를 밀어내지 못하게)
+        val parsedPayload = Ut.jwt.payload(parser, accessToken)
             ?: return null
 
         val id = parsedPayload["id"] as Int
         val username = parsedPayload["username"] as String
         val nickname = parsedPayload["name"] as String
 
-        return mapOf<String, Any>("id" to id, "username" to username, "name" to nickname)
+        val payload = mapOf<String, Any>("id" to id, "username" to username, "name" to nickname)
+
+        (parsedPayload["exp"] as? Number)?.let { exp ->
+            verifiedTokens.put(key, VerifiedToken(payload, exp.toLong() * 1000))
+        }
+
+        return payload
     }
-}
\ No newline at end of file
+
+    private fun hash(token: String): String =
+        HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(token.toByteArray()))
+
+    private class VerifiedToken(
+        val payload: Map<String, Any>,
+        val expiresAtMillis: Long
+    )
+}
@@ -4,6 +4,7 @@ import com.devmatch.backend.domain.user.entity.User
 import com.devmatch.backend.domain.user.repository.UserRepository
 import com.devmatch.backend.exception.ServiceException
 import com.devmatch.backend.global.RsData
+import com.devmatch.backend.global.web.ResourceVersions
 import org.springframework.security.crypto.password.PasswordEncoder
 import org.springframework.stereotype.Service
 import org.springframework.transaction.annotation.Transactional
@@ -13,8 +14,10 @@ import java.util.function.Supplier
 @Transactional
 class UserService(
     private val authTokenService: AuthTokenService,
+    private val apiKeyCache: ApiKeyCache,
     private val userRepository: UserRepository,
-    private val passwordEncoder: PasswordEncoder
+    private val passwordEncoder: PasswordEncoder,
+    private val resourceVersions: ResourceVersions
 ) {
     //이거는 타인의 id를 통해 타인을 가져올 때만 쓰셔야 합니다.
     //로그인 한 사람의 정보를 가져오고 싶다면 Rq.actor를 사용하세요.
@@ -51,8 +54,16 @@ class UserService(
     @Transactional(readOnly = true)
     fun findByUsername(username: String): User? = userRepository.findByUsername(username)
 
+    // 인증 필터 전용. 캐시된 사용자 정보(id, username, nickname)를 돌려주므로 영속 엔티티가 필요하면 getUser를 사용
     @Transactional(readOnly = true)
-    fun findByApiKey(apiKey: String): User? = userRepository.findByApiKey(apiKey)
+    fun findByApiKey(apiKey: String): User? = apiKeyCache.get(apiKey) { userRepository.findByApiKey(it) }
+
+    // API 키를 바꿀 때는 반드시 이 함수를 거쳐야 이전 키의 캐시가 지워진다
+    fun modifyApiKey(user: User, apiKey: String) {
+        val previousApiKey = user.apiKey
+        user.modifyApiKey(apiKey)
+        apiKeyCache.evict(previousApiKey, apiKey)
+    }
 
     fun genAccessToken(user: User): String = authTokenService.genAccessToken(user)
 
@@ -73,6 +84,10 @@ class UserService(
         }
 
     private fun modify(user: User, nickname: String, profileImgUrl: String?) {
+        // 닉네임은 프로젝트/지원서 목록에도 보이므로 바뀌었을 때만 목록 ETag를 갱신
+        if (user.nickname != nickname) resourceVersions.touch(ResourceVersions.USERS)
+
         user.modify(nickname, profileImgUrl)
+        apiKeyCache.evict(user.apiKey)
     }
 }
\ No newline at end of file
@@ -1,6 +1,8 @@
 package com.devmatch.backend.exception
 
 import com.devmatch.backend.global.ApiResponse
+import io.github.resilience4j.bulkhead.BulkheadFullException
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException
 import org.springframework.http.HttpStatus
 import org.springframework.http.converter.HttpMessageNotReadableException
 import org.springframework.validation.FieldError
@@ -8,6 +10,8 @@ import org.springframework.web.bind.MethodArgumentNotValidException
 import org.springframework.web.bind.annotation.ExceptionHandler
 import org.springframework.web.bind.annotation.ResponseStatus
 import org.springframework.web.bind.annotation.RestControllerAdvice
+import java.util.concurrent.RejectedExecutionException
+import java.util.concurrent.TimeoutException
 
 @RestControllerAdvice
 class GlobalExceptionHandler {
@@ -38,4 +42,24 @@ class GlobalExceptionHandler {
     @ResponseStatus(HttpStatus.NOT_FOUND)
     fun handleNoSuchElement(ex: NoSuchElementException): ApiResponse<Void> =
         ApiResponse(ex.message ?: "요청한 리소스를 찾을 수 없습니다")
-}
\ No newline at end of file
+
+    @ExceptionHandler(RejectedExecutionException::class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    fun handleRejectedExecution(ex: RejectedExecutionException): ApiResponse<Void> =
+        ApiResponse(ex.message ?: "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요")
+
+    @ExceptionHandler(CallNotPermittedException::class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    fun handleCallNotPermitted(ex: CallNotPermittedException): ApiResponse<Void> =
+        ApiResponse("AI 서비스가 일시적으로 불안정합니다. 잠시 후 다시 시도해주세요")
+
+    @ExceptionHandler(BulkheadFullException::class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    fun handleBulkheadFull(ex: BulkheadFullException): ApiResponse<Void> =
+        ApiResponse("AI 분석 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요")
+
+    @ExceptionHandler(TimeoutException::class)
+    @ResponseStatus(HttpStatus.GATEWAY_TIMEOUT)
+    fun handleTimeout(ex: TimeoutException): ApiResponse<Void> =
+        ApiResponse("AI 응답 시간이 초과되었습니다. 잠시 후 다시 시도해주세요")
+}
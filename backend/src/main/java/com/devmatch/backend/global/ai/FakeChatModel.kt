@@ -0,0 +1,122 @@
+package com.devmatch.backend.global.ai
+
+import org.springframework.ai.chat.messages.AssistantMessage
+import org.springframework.ai.chat.model.ChatModel
+import org.springframework.ai.chat.model.ChatResponse
+import org.springframework.ai.chat.model.Generation
+import org.springframework.ai.chat.prompt.Prompt
+import org.springframework.ai.retry.TransientAiException
+import reactor.core.publisher.Flux
+import java.time.Duration
+import java.util.concurrent.ThreadLocalRandom
+import kotlin.math.exp
+
+// Groq를 호출하지 않고 분석 서브시스템의 처리량을 측정하기 위한 가짜 ChatModel
+// 지연 시간 분포, 오류율, 형식이 잘못된 응답 비율을 설정으로 조절한다
+class FakeChatModel(
+    private val latency: Latency,
+    private val errorRate: Double,
+    private val malformedRate: Double
+) : ChatModel {
+
+    enum class Distribution { FIXED, UNIFORM, LOGNORMAL }
+
+    // FIXED: medianMs 고정, UNIFORM: minMs~maxMs 균등, LOGNORMAL: 중앙값 medianMs, 꼬리 두께 sigma
+    data class Latency(
+        val distribution: Distribution,
+        val minMs: Long,
+        val maxMs: Long,
+        val medianMs: Long,
+        val sigma: Double
+    ) {
+        fun sample(): Long {
+            val random = ThreadLocalRandom.current()
+
+            return when (distribution) {
+                Distribution.FIXED -> medianMs
+                Distribution.UNIFORM -> random.nextLong(minMs, maxMs + 1)
+                Distribution.LOGNORMAL -> (medianMs * exp(sigma * random.nextGaussian())).toLong()
+                    .coerceIn(minMs, maxMs)
+            }
+        }
+    }
+
+    override fun call(prompt: Prompt): ChatResponse {
+        Thread.sleep(latency.sample())
+        failRandomly()
+
+        return ChatResponse(listOf(Generation(AssistantMessage(respond(prompt.contents)))))
+    }
+
+    // 전체 지연 시간을 첫 토큰 지연과 토큰 간 간격으로 나눠 흉내낸다
+    override fun stream(prompt: Prompt): Flux<ChatResponse> {
+        val total = latency.sample()
+        val tokens = respond(prompt.contents).split(" ").map { "$it " }
+        val firstTokenDelay = Duration.ofMillis(total / 5)
+        val interval = Duration.ofMillis(((total - total / 5) / tokens.size.coerceAtLeast(1)).coerceAtLeast(1))
+
+        return Flux.interval(firstTokenDelay, interval)
+            .take(tokens.size.toLong())
+            .map { index ->
+                if (index == 0L) failRandomly()
+                ChatResponse(listOf(Generation(AssistantMessage(tokens[index.toInt()]))))
+            }
+    }
+
+    private fun failRandomly() {
+        if (ThreadLocalRandom.current().nextDouble() < errorRate) {
+            throw TransientAiException("Fake LLM 오류 (설정된 오류율: $errorRate)")
+        }
+    }
+
+    private fun respond(prompt: String): String = when {
+        prompt.contains("역할 분배:") -> roleAssignment(prompt)
+        prompt.contains("[응답 형식 복구]") -> repairedCompatibility()
+        else -> compatibility()
+    }
+
+    private fun compatibility(): String {
+        val random = ThreadLocalRandom.current()
+        val score = "%.2f".format(random.nextDouble(40.0, 95.0))
+        val reason = REASONS[random.nextInt(REASONS.size)]
+
+        if (random.nextDouble() >= malformedRate) return json(score, reason)
+
+        // 실제 모델이 스키마를 벗어나는 형태들 (앞의 둘은 로컬 복구, 나머지는 형식 복구 재요청 대상)
+        return when (random.nextInt(5)) {
+            0 -> "$score|$reason"                                           // 예전 구분자 형식
+            1 -> "분석 결과입니다.\n```json\n${json(score, reason)}\n```"     // 앞에 설명이 붙은 코드 블록
+            2 -> json("\"높음\"", reason)                                   // 숫자가 아닌 점수
+            3 -> json("150.00", reason)                                      // 범위를 벗어난 점수
+            else -> json(score, "")                                          // 빈 이유
+        }
+    }
+
+    private fun repairedCompatibility(): String {
+        val random = ThreadLocalRandom.current()
+
+        return json("%.2f".format(random.nextDouble(40.0, 95.0)), REASONS[random.nextInt(REASONS.size)])
+    }
+
+    private fun json(score: String, reason: String): String = "{\"score\": $score, \"reason\": \"$reason\"}"
+
+    private fun roleAssignment(prompt: String): String =
+        MEMBER_PATTERN.findAll(prompt)
+            .map { it.groupValues[1].trim() }
+            .mapIndexed { index, nickname ->
+                "$nickname - ${ROLES[index % ROLES.size]} | 가장 높은 점수의 기술을 살릴 수 있는 역할"
+            }
+            .joinToString("\n")
+
+    companion object {
+        private val MEMBER_PATTERN = Regex("팀원 \\d+: (.+)")
+
+        private val ROLES = listOf("백엔드 개발", "프론트엔드 개발", "인프라/배포", "기획 및 QA")
+
+        private val REASONS = listOf(
+            "Java/Spring Boot 전문가로 백엔드 개발을 주도할 수 있으며, 팀원과 협업하여 프론트엔드도 학습 가능",
+            "React 숙련자로 프론트엔드 담당 가능, 백엔드 API 연동 경험으로 팀 협업에 유리",
+            "기본기가 탄탄하여 특정 분야 담당하며 다른 기술도 빠르게 습득 가능"
+        )
+    }
+}
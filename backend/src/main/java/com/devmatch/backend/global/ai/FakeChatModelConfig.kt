@@ -0,0 +1,27 @@
+package com.devmatch.backend.global.ai
+
+import org.springframework.ai.chat.model.ChatModel
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.context.annotation.Bean
+import org.springframework.context.annotation.Configuration
+import org.springframework.context.annotation.Profile
+
+// fake-llm 프로필에서만 등록. OpenAI ChatModel 자동 설정은 application-fake-llm.yml에서 끈다
+@Configuration
+@Profile("fake-llm")
+class FakeChatModelConfig {
+    @Bean
+    fun fakeChatModel(
+        @Value("\${custom.fakeLlm.latency.distribution}") distribution: FakeChatModel.Distribution,
+        @Value("\${custom.fakeLlm.latency.minMs}") minMs: Long,
+        @Value("\${custom.fakeLlm.latency.maxMs}") maxMs: Long,
+        @Value("\${custom.fakeLlm.latency.medianMs}") medianMs: Long,
+        @Value("\${custom.fakeLlm.latency.sigma}") sigma: Double,
+        @Value("\${custom.fakeLlm.errorRate}") errorRate: Double,
+        @Value("\${custom.fakeLlm.malformedRate}") malformedRate: Double
+    ): ChatModel = FakeChatModel(
+        FakeChatModel.Latency(distribution, minMs, maxMs, medianMs, sigma),
+        errorRate,
+        malformedRate
+    )
+}
@@ -0,0 +1,132 @@
+package com.devmatch.backend.global.ai
+
+import io.github.resilience4j.bulkhead.Bulkhead
+import io.github.resilience4j.bulkhead.BulkheadFullException
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException
+import io.github.resilience4j.circuitbreaker.CircuitBreaker
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator
+import io.github.resilience4j.reactor.timelimiter.TimeLimiterOperator
+import io.github.resilience4j.retry.Retry
+import io.github.resilience4j.timelimiter.TimeLimiter
+import io.micrometer.core.instrument.Counter
+import io.micrometer.core.instrument.DistributionSummary
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.observation.Observation
+import io.micrometer.observation.ObservationRegistry
+import org.springframework.ai.chat.model.ChatModel
+import org.springframework.ai.chat.model.ChatResponse
+import org.springframework.ai.chat.prompt.ChatOptions
+import org.springframework.ai.chat.prompt.Prompt
+import reactor.core.publisher.Flux
+import java.util.concurrent.Callable
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.TimeoutException
+
+// 실제 ChatModel 앞에 두는 장애 격리 래퍼
+// 재시도(지터 포함) → 서킷 브레이커 → 벌크헤드 → 호출 제한 시간 순으로 감싼다
+// 벌크헤드를 재시도 안쪽에 두어 재시도 대기 중에는 동시 호출 슬롯을 차지하지 않는다
+// 재시도를 포함한 전체 호출 시간(analysis.llm.call)과 프롬프트/응답 크기, 토큰 사용량을 기록한다
+class ResilientChatModel(
+    private val delegate: ChatModel,
+    private val circuitBreaker: CircuitBreaker,
+    private val retry: Retry,
+    private val bulkhead: Bulkhead,
+    private val timeLimiter: TimeLimiter,
+    private val executor: ExecutorService,
+    meterRegistry: MeterRegistry,
+    private val observationRegistry: ObservationRegistry
+) : ChatModel {
+
+    private val circuitOpenRejections = rejectionCounter(meterRegistry, "circuit_open")
+    private val bulkheadFullRejections = rejectionCounter(meterRegistry, "bulkhead_full")
+    private val timeouts = rejectionCounter(meterRegistry, "timeout")
+
+    private val promptSize = sizeSummary(meterRegistry, "analysis.llm.prompt.size", "LLM에 보낸 프롬프트 길이")
+    private val responseSize = sizeSummary(meterRegistry, "analysis.llm.response.size", "LLM 응답 길이")
+    private val promptTokens = tokenSummary(meterRegistry, "prompt")
+    private val completionTokens = tokenSummary(meterRegistry, "completion")
+
+    // 실제 호출은 executor 스레드에서 일어나므로, 그 안의 span(ChatModel, HTTP)이 이 span 아래에 붙으려면
+    // executor가 트레이스 컨텍스트를 전달해야 한다 (ResilientChatModelConfig 참고)
+    override fun call(prompt: Prompt): ChatResponse {
+        promptSize.record(prompt.contents.length.toDouble())
+
+        val response = Observation.createNotStarted("analysis.llm.call", observationRegistry)
+            .observeChecked<ChatResponse, Exception> { resilientCall(prompt) }!!
+
+        responseSize.record((response.result?.output?.text?.length ?: 0).toDouble())
+        response.metadata.usage?.let { usage ->
+            usage.promptTokens?.takeIf { it > 0 }?.let { promptTokens.record(it.toDouble()) }
+            usage.completionTokens?.takeIf { it > 0 }?.let { completionTokens.record(it.toDouble()) }
+        }
+
+        return response
+    }
+
+    private fun resilientCall(prompt: Prompt): ChatResponse {
+        val attempt = Callable {
+            // 제한 시간을 넘기면 호출 스레드를 인터럽트해 HTTP 요청을 끊는다
+            timeLimiter.executeFutureSupplier { executor.submit<ChatResponse> { delegate.call(prompt) } }
+        }
+
+        val decorated = Retry.decorateCallable(
+            retry,
+            CircuitBreaker.decorateCallable(circuitBreaker, Bulkhead.decorateCallable(bulkhead, attempt))
+        )
+
+        return try {
+            decorated.call()
+        } catch (e: Exception) {
+            throw countRejection(unwrap(e))
+        }
+    }
+
+    // 스트리밍은 이미 클라이언트로 토큰이 나간 뒤일 수 있어 재시도하지 않는다
+    // 제한 시간은 전체 길이가 아니라 다음 토큰이 올 때까지의 간격에 적용된다
+    override fun stream(prompt: Prompt): Flux<ChatResponse> =
+        Flux.defer {
+            promptSize.record(prompt.contents.length.toDouble())
+            delegate.stream(prompt)
+        }
+            .transformDeferred(TimeLimiterOperator.of(timeLimiter))
+            .transformDeferred(BulkheadOperator.of(bulkhead))
+            .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+            .onErrorMap { countRejection(it) }
+
+    override fun getDefaultOptions(): ChatOptions = delegate.defaultOptions
+
+    private fun unwrap(e: Throwable): Throwable =
+        if (e is ExecutionException && e.cause != null) e.cause!! else e
+
+    private fun countRejection(e: Throwable): Throwable {
+        when (e) {
+            is CallNotPermittedException -> circuitOpenRejections.increment()
+            is BulkheadFullException -> bulkheadFullRejections.increment()
+            is TimeoutException -> timeouts.increment()
+        }
+
+        return e
+    }
+
+    private fun sizeSummary(meterRegistry: MeterRegistry, name: String, description: String): DistributionSummary =
+        DistributionSummary.builder(name)
+            .description(description)
+            .baseUnit("chars")
+            .register(meterRegistry)
+
+    // 공급자가 사용량을 돌려줄 때만 기록된다 (FakeChatModel은 기록하지 않음)
+    private fun tokenSummary(meterRegistry: MeterRegistry, type: String): DistributionSummary =
+        DistributionSummary.builder("analysis.llm.tokens")
+            .description("LLM 호출 한 번의 토큰 사용량")
+            .baseUnit("tokens")
+            .tag("type", type)
+            .register(meterRegistry)
+
+    private fun rejectionCounter(meterRegistry: MeterRegistry, reason: String): Counter =
+        Counter.builder("analysis.llm.rejected")
+            .description("LLM을 호출하지 않거나 중간에 끊고 실패 처리한 요청 수")
+            .tag("reason", reason)
+            .register(meterRegistry)
+}
@@ -0,0 +1,57 @@
+package com.devmatch.backend.global.ai
+
+import io.github.resilience4j.bulkhead.BulkheadRegistry
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry
+import io.github.resilience4j.retry.RetryRegistry
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry
+import io.micrometer.context.ContextExecutorService
+import io.micrometer.context.ContextSnapshotFactory
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.observation.ObservationRegistry
+import org.springframework.ai.chat.model.ChatModel
+import org.springframework.beans.factory.ObjectProvider
+import org.springframework.beans.factory.config.BeanPostProcessor
+import org.springframework.context.annotation.Bean
+import org.springframework.context.annotation.Configuration
+import java.util.concurrent.Executors
+
+// 자동 설정된 ChatModel(OpenAI/Groq, fake-llm 프로필에서는 FakeChatModel)을 ResilientChatModel로 감싼다
+// 각 정책은 application.yml의 resilience4j.*.instances.llm 에서 설정하고 actuator로 상태를 확인한다
+@Configuration
+class ResilientChatModelConfig {
+    companion object {
+        const val INSTANCE_NAME = "llm"
+
+        // BeanPostProcessor는 다른 빈보다 먼저 만들어지므로 static 빈으로 등록하고 의존성은 지연 조회
+        @JvmStatic
+        @Bean
+        fun resilientChatModelPostProcessor(
+            circuitBreakerRegistry: ObjectProvider<CircuitBreakerRegistry>,
+            retryRegistry: ObjectProvider<RetryRegistry>,
+            bulkheadRegistry: ObjectProvider<BulkheadRegistry>,
+            timeLimiterRegistry: ObjectProvider<TimeLimiterRegistry>,
+            meterRegistry: ObjectProvider<MeterRegistry>,
+            observationRegistry: ObjectProvider<ObservationRegistry>
+        ): BeanPostProcessor = object : BeanPostProcessor {
+            override fun postProcessAfterInitialization(bean: Any, beanName: String): Any {
+                if (bean !is ChatModel || bean is ResilientChatModel) return bean
+
+                val snapshots = ContextSnapshotFactory.builder().build()
+
+                return ResilientChatModel(
+                    delegate = bean,
+                    circuitBreaker = circuitBreakerRegistry.getObject().circuitBreaker(INSTANCE_NAME),
+                    retry = retryRegistry.getObject().retry(INSTANCE_NAME),
+                    bulkhead = bulkheadRegistry.getObject().bulkhead(INSTANCE_NAME),
+                    timeLimiter = timeLimiterRegistry.getObject().timeLimiter(INSTANCE_NAME),
+                    // 호출 스레드의 트레이스 컨텍스트를 LLM 호출 스레드로 넘긴다
+                    executor = ContextExecutorService.wrap(Executors.newVirtualThreadPerTaskExecutor()) {
+                        snapshots.captureAll()
+                    },
+                    meterRegistry = meterRegistry.getObject(),
+                    observationRegistry = observationRegistry.getIfAvailable { ObservationRegistry.NOOP }
+                )
+            }
+        }
+    }
+}
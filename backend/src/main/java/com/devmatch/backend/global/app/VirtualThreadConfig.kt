@@ -0,0 +1,28 @@
+package com.devmatch.backend.global.app
+
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.java21.instrument.binder.jdk.VirtualThreadMetrics
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty
+import org.springframework.context.annotation.Bean
+import org.springframework.context.annotation.Configuration
+import java.time.Duration
+
+// 가상 스레드가 carrier 스레드를 붙잡은 채 블로킹되는 경우(pinning)를 관측한다. 요청 처리가 가상 스레드로 바뀌는
+// spring.threads.virtual.enabled=true일 때만 JFR 스트림을 연다
+// - jvm.threads.virtual.pinned: 전체 고정 시간 (VirtualThreadMetrics)
+// - jvm.threads.virtual.pinned.app: 애플리케이션 코드가 원인인 고정 (VirtualThreadPinningDetector)
+@Configuration
+@ConditionalOnProperty(name = ["spring.threads.virtual.enabled"], havingValue = "true")
+class VirtualThreadConfig {
+    @Bean(destroyMethod = "close")
+    fun virtualThreadMetrics(): VirtualThreadMetrics = VirtualThreadMetrics()
+
+    @Bean(destroyMethod = "close")
+    fun virtualThreadPinningDetector(meterRegistry: MeterRegistry): VirtualThreadPinningDetector =
+        VirtualThreadPinningDetector(meterRegistry, PINNED_THRESHOLD)
+
+    companion object {
+        // JDK의 jdk.VirtualThreadPinned 기본 임계값과 같다
+        private val PINNED_THRESHOLD: Duration = Duration.ofMillis(20)
+    }
+}
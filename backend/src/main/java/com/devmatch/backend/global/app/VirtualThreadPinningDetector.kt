@@ -0,0 +1,50 @@
+package com.devmatch.backend.global.app
+
+import io.micrometer.core.instrument.Counter
+import io.micrometer.core.instrument.MeterRegistry
+import jdk.jfr.consumer.RecordedEvent
+import jdk.jfr.consumer.RecordedFrame
+import jdk.jfr.consumer.RecordingStream
+import org.slf4j.LoggerFactory
+import java.time.Duration
+
+// JFR jdk.VirtualThreadPinned 이벤트 중 스택에 애플리케이션 코드가 있는 것을 찾아 원인 위치와 함께 기록한다
+// 애플리케이션 코드에는 synchronized를 두지 않는다 (락이 필요하면 ReentrantLock, 예: OutboxRelay).
+// 드라이버 등 라이브러리 안에서만 생긴 고정(H2의 synchronized 등)은 jvm.threads.virtual.pinned에만 잡힌다
+class VirtualThreadPinningDetector(
+    private val meterRegistry: MeterRegistry,
+    threshold: Duration
+) : AutoCloseable {
+    private val stream = RecordingStream().apply {
+        enable(PINNED_EVENT).withThreshold(threshold).withStackTrace()
+        onEvent(PINNED_EVENT, ::record)
+        startAsync()
+    }
+
+    private fun record(event: RecordedEvent) {
+        val frame = event.stackTrace?.frames?.firstOrNull(::isApplicationFrame) ?: return
+        val location = "${frame.method.type.name}.${frame.method.name}"
+
+        Counter.builder("jvm.threads.virtual.pinned.app")
+            .description("애플리케이션 코드에서 가상 스레드가 carrier 스레드에 고정된 횟수")
+            .tag("frame", location)
+            .register(meterRegistry)
+            .increment()
+
+        log.warn("가상 스레드 고정: {}:{} ({}ms)", location, frame.lineNumber, event.duration.toMillis())
+    }
+
+    private fun isApplicationFrame(frame: RecordedFrame): Boolean =
+        frame.isJavaFrame && frame.method.type.name.startsWith(APPLICATION_PACKAGE)
+
+    override fun close() {
+        stream.close()
+    }
+
+    companion object {
+        private const val PINNED_EVENT = "jdk.VirtualThreadPinned"
+        private const val APPLICATION_PACKAGE = "com.devmatch.backend."
+
+        private val log = LoggerFactory.getLogger(VirtualThreadPinningDetector::class.java)
+    }
+}
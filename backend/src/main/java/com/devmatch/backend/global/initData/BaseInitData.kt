@@ -30,18 +30,18 @@ class BaseInitData(
         }
         //테스트용 계정
         val memberSystem = userService.join("system", "1234", "시스템")
-        memberSystem.modifyApiKey(memberSystem.username)
+        userService.modifyApiKey(memberSystem, memberSystem.username)
 
         val memberAdmin = userService.join("admin", "1234", "관리자")
-        memberAdmin.modifyApiKey(memberAdmin.username)
+        userService.modifyApiKey(memberAdmin, memberAdmin.username)
 
         val memberUser1 = userService.join("user1", "1234", "유저1")
-        memberUser1.modifyApiKey(memberUser1.username)
+        userService.modifyApiKey(memberUser1, memberUser1.username)
 
         val memberUser2 = userService.join("user2", "1234", "유저2")
-        memberUser2.modifyApiKey(memberUser2.username)
+        userService.modifyApiKey(memberUser2, memberUser2.username)
 
         val memberUser3 = userService.join("user3", "1234", "유저3")
-        memberUser3.modifyApiKey(memberUser3.username)
+        userService.modifyApiKey(memberUser3, memberUser3.username)
     }
 }
\ No newline at end of file
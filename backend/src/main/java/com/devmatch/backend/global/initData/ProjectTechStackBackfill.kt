@@ -0,0 +1,43 @@
+package com.devmatch.backend.global.initData
+
+import com.devmatch.backend.domain.project.repository.ProjectRepository
+import org.slf4j.LoggerFactory
+import org.springframework.boot.ApplicationArguments
+import org.springframework.boot.ApplicationRunner
+import org.springframework.data.domain.PageRequest
+import org.springframework.stereotype.Component
+import org.springframework.transaction.support.TransactionTemplate
+
+// project_tech_stack 도입 이전에 만들어진 프로젝트의 기술 목록을 techStack 문자열로부터 채운다
+// 채워진 프로젝트는 다시 조회되지 않으므로 여러 번 실행돼도 안전하다
+@Component
+class ProjectTechStackBackfill(
+    private val projectRepository: ProjectRepository,
+    private val transactionTemplate: TransactionTemplate
+) : ApplicationRunner {
+
+    override fun run(args: ApplicationArguments) {
+        var migrated = 0
+
+        while (true) {
+            // 배치마다 트랜잭션을 나눠 긴 트랜잭션과 큰 영속성 컨텍스트를 피한다
+            val (fetched, synced) = transactionTemplate.execute {
+                val projects = projectRepository.findAllWithoutTechStacks(PageRequest.of(0, BATCH_SIZE))
+                projects.forEach { it.syncTechStacks() }
+                projects.size to projects.count { it.techStacks.isNotEmpty() }
+            } ?: (0 to 0)
+
+            migrated += synced
+
+            // 기술 스택 문자열 자체가 비어 있는 프로젝트만 남았다면 더 진행할 수 없다
+            if (fetched < BATCH_SIZE || synced == 0) break
+        }
+
+        if (migrated > 0) log.info("project_tech_stack 백필 완료: {}건", migrated)
+    }
+
+    companion object {
+        private const val BATCH_SIZE = 500
+        private val log = LoggerFactory.getLogger(ProjectTechStackBackfill::class.java)
+    }
+}
@@ -0,0 +1,45 @@
+package com.devmatch.backend.global.logging
+
+import ch.qos.logback.classic.Level
+import ch.qos.logback.classic.Logger
+import ch.qos.logback.classic.turbo.TurboFilter
+import ch.qos.logback.core.spi.FilterReply
+import org.slf4j.Marker
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ThreadLocalRandom
+import java.util.concurrent.atomic.AtomicLong
+
+// 로거 이름(category)으로 시작하는 INFO 이하 로그를 rate 비율만 남긴다 (logback-spring.xml에서 설정)
+// TurboFilter는 로그 이벤트를 만들기 전에 호출되므로 버려지는 로그는 메시지 포맷팅과 큐잉 비용이 없다
+// isInfoEnabled()로 감싼 뒤 info()를 부르면 두 번 샘플링되므로, 샘플링 대상 로그는 fluent API(atInfo())로 남긴다
+class CategorySamplingFilter : TurboFilter() {
+    var category: String = ""
+    var rate: Double = 1.0
+
+    // 아직 버린 로그가 없어도 메트릭이 0으로 보이도록 시작할 때 카테고리를 등록한다
+    override fun start() {
+        sampledOut.computeIfAbsent(category) { AtomicLong() }
+        super.start()
+    }
+
+    override fun decide(
+        marker: Marker?,
+        logger: Logger,
+        level: Level?,
+        format: String?,
+        params: Array<out Any>?,
+        t: Throwable?
+    ): FilterReply {
+        if (rate >= 1.0 || level == null || level.isGreaterOrEqual(Level.WARN)) return FilterReply.NEUTRAL
+        if (!logger.name.startsWith(category)) return FilterReply.NEUTRAL
+        if (ThreadLocalRandom.current().nextDouble() < rate) return FilterReply.NEUTRAL
+
+        sampledOut.computeIfAbsent(category) { AtomicLong() }.incrementAndGet()
+        return FilterReply.DENY
+    }
+
+    companion object {
+        // logback은 스프링 컨텍스트보다 먼저 설정되므로 카운트는 정적으로 두고 LoggingMetrics가 노출한다
+        val sampledOut = ConcurrentHashMap<String, AtomicLong>()
+    }
+}
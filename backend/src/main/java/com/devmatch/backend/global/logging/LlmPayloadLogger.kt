@@ -0,0 +1,35 @@
+package com.devmatch.backend.global.logging
+
+import org.slf4j.LoggerFactory
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.stereotype.Component
+import java.util.function.Supplier
+
+// LLM 프롬프트/응답을 구조화 로그(key-value)로 남긴다
+// 프롬프트는 수 KB라 매번 전부 남기면 로그 처리량을 잡아먹으므로, 길이는 항상 남기고 본문은 maxChars까지만 자른다
+// 어떤 비율로 남길지는 logback-spring.xml의 llm.payload 카테고리 샘플링(custom.logging.sampling.llmPayload)으로 정한다
+// 샘플링에서 빠진 로그는 NOP 빌더가 돌아오므로 자르기(Supplier)도 하지 않는다
+@Component
+class LlmPayloadLogger(
+    @param:Value("\${custom.logging.payloadMaxChars}")
+    private val maxChars: Int
+) {
+    private val log = LoggerFactory.getLogger(CATEGORY)
+
+    fun log(kind: String, prompt: String, response: String) {
+        log.atInfo()
+            .addKeyValue("llm.kind", kind)
+            .addKeyValue("llm.prompt.chars", prompt.length)
+            .addKeyValue("llm.response.chars", response.length)
+            .addKeyValue("llm.prompt", Supplier { truncate(prompt) })
+            .addKeyValue("llm.response", Supplier { truncate(response) })
+            .log("LLM 응답 수신")
+    }
+
+    private fun truncate(text: String): String =
+        if (text.length <= maxChars) text else text.take(maxChars) + "...(${text.length - maxChars}자 생략)"
+
+    companion object {
+        const val CATEGORY = "llm.payload"
+    }
+}
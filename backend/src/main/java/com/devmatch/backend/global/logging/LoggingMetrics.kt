@@ -0,0 +1,38 @@
+package com.devmatch.backend.global.logging
+
+import io.micrometer.core.instrument.FunctionCounter
+import io.micrometer.core.instrument.Gauge
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.binder.MeterBinder
+import org.springframework.stereotype.Component
+
+// 비동기 로그 큐의 처리량/유실/적체와 카테고리별 샘플링으로 버린 로그 수를 메트릭으로 노출한다
+// 레벨별 로그 수는 스프링 부트가 등록하는 logback.events로 볼 수 있다
+@Component
+class LoggingMetrics : MeterBinder {
+
+    override fun bindTo(registry: MeterRegistry) {
+        FunctionCounter.builder("logging.async.events", MeteredAsyncAppender.queued) { it.get().toDouble() }
+            .description("비동기 로그 큐에 들어간 로그 수")
+            .tag("result", "queued")
+            .register(registry)
+
+        FunctionCounter.builder("logging.async.events", MeteredAsyncAppender.dropped) { it.get().toDouble() }
+            .description("큐가 차서 버린 로그 수")
+            .tag("result", "dropped")
+            .register(registry)
+
+        Gauge.builder("logging.async.queue.remaining", MeteredAsyncAppender.instances) { appenders ->
+            appenders.sumOf { it.remainingCapacity }.toDouble()
+        }
+            .description("비동기 로그 큐의 남은 자리")
+            .register(registry)
+
+        CategorySamplingFilter.sampledOut.forEach { (category, count) ->
+            FunctionCounter.builder("logging.sampled.out", count) { it.get().toDouble() }
+                .description("샘플링으로 버린 로그 수")
+                .tag("category", category)
+                .register(registry)
+        }
+    }
+}
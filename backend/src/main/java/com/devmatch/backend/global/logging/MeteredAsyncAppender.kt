@@ -0,0 +1,42 @@
+package com.devmatch.backend.global.logging
+
+import ch.qos.logback.classic.AsyncAppender
+import ch.qos.logback.classic.spi.ILoggingEvent
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.atomic.AtomicLong
+
+// 로그 출력(stdout 쓰기)을 별도 스레드로 넘기는 AsyncAppender에 큐잉/유실 수를 세는 기능을 더한다
+// neverBlock이면 큐가 가득 찼을 때 요청 스레드를 막지 않고 버리고,
+// 큐가 discardingThreshold 아래로 남으면 INFO 이하 로그를 먼저 버린다 (WARN/ERROR는 남긴다)
+// 유실 판단은 AsyncAppenderBase.append()와 같은 조건을 먼저 확인하는 근삿값이다
+class MeteredAsyncAppender : AsyncAppender() {
+
+    override fun start() {
+        super.start()
+        instances.add(this)
+    }
+
+    override fun stop() {
+        instances.remove(this)
+        super.stop()
+    }
+
+    override fun append(eventObject: ILoggingEvent) {
+        val remaining = remainingCapacity
+
+        if ((remaining < discardingThreshold && isDiscardable(eventObject)) || (isNeverBlock && remaining == 0)) {
+            dropped.incrementAndGet()
+        } else {
+            queued.incrementAndGet()
+        }
+
+        super.append(eventObject)
+    }
+
+    companion object {
+        // logback은 스프링 컨텍스트보다 먼저 설정되므로 카운트는 정적으로 두고 LoggingMetrics가 노출한다
+        val queued = AtomicLong()
+        val dropped = AtomicLong()
+        val instances = CopyOnWriteArrayList<MeteredAsyncAppender>()
+    }
+}
@@ -0,0 +1,23 @@
+package com.devmatch.backend.global.observability
+
+import io.micrometer.core.instrument.MeterRegistry
+import org.hibernate.cfg.AvailableSettings
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer
+import org.springframework.boot.web.servlet.FilterRegistrationBean
+import org.springframework.context.annotation.Bean
+import org.springframework.context.annotation.Configuration
+import org.springframework.core.Ordered
+
+@Configuration
+class ObservabilityConfig {
+    @Bean
+    fun queryCountHibernateProperties(): HibernatePropertiesCustomizer =
+        HibernatePropertiesCustomizer { it[AvailableSettings.STATEMENT_INSPECTOR] = QueryCountInspector() }
+
+    // 관측 필터(http.server.requests) 바로 다음, 인증 필터보다 앞에 두어 인증 중 실행한 쿼리도 센다
+    @Bean
+    fun queryCountFilter(meterRegistry: MeterRegistry): FilterRegistrationBean<QueryCountFilter> =
+        FilterRegistrationBean(QueryCountFilter(meterRegistry)).apply {
+            order = Ordered.HIGHEST_PRECEDENCE + 2
+        }
+}
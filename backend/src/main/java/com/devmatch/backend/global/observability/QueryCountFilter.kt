@@ -0,0 +1,32 @@
+package com.devmatch.backend.global.observability
+
+import io.micrometer.core.instrument.DistributionSummary
+import io.micrometer.core.instrument.MeterRegistry
+import jakarta.servlet.FilterChain
+import jakarta.servlet.http.HttpServletRequest
+import jakarta.servlet.http.HttpServletResponse
+import org.springframework.web.filter.OncePerRequestFilter
+import org.springframework.web.servlet.HandlerMapping
+
+// 요청 하나가 실행한 SQL 수를 URI 템플릿별 분포로 기록 (N+1이 생기면 분포가 튄다)
+class QueryCountFilter(
+    private val meterRegistry: MeterRegistry
+) : OncePerRequestFilter() {
+    override fun doFilterInternal(request: HttpServletRequest, response: HttpServletResponse, filterChain: FilterChain) {
+        QueryCounter.start()
+
+        try {
+            filterChain.doFilter(request, response)
+        } finally {
+            val count = QueryCounter.stop()
+
+            DistributionSummary.builder("http.server.requests.queries")
+                .description("요청 하나에서 실행된 SQL 문장 수")
+                .baseUnit("queries")
+                .tag("method", request.method)
+                .tag("uri", request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE) as String? ?: "UNKNOWN")
+                .register(meterRegistry)
+                .record(count.toDouble())
+        }
+    }
+}
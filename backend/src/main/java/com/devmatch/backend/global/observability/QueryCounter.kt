@@ -0,0 +1,31 @@
+package com.devmatch.backend.global.observability
+
+import org.hibernate.resource.jdbc.spi.StatementInspector
+
+// 요청 스레드에서 실행된 SQL 문장 수를 센다. QueryCountFilter가 요청 단위로 시작/종료한다
+// 요청 밖(분석 작업, outbox 릴레이 등)에서 실행된 쿼리는 세지 않는다
+object QueryCounter {
+    private val current = ThreadLocal<IntArray>()
+
+    fun start() {
+        current.set(IntArray(1))
+    }
+
+    fun stop(): Int {
+        val count = current.get()?.get(0) ?: 0
+        current.remove()
+        return count
+    }
+
+    fun increment() {
+        current.get()?.let { it[0]++ }
+    }
+}
+
+// Hibernate가 실행하는 모든 SQL을 지나가므로 문장은 바꾸지 않고 세기만 한다
+class QueryCountInspector : StatementInspector {
+    override fun inspect(sql: String): String {
+        QueryCounter.increment()
+        return sql
+    }
+}
@@ -0,0 +1,45 @@
+package com.devmatch.backend.global.observability
+
+import io.micrometer.observation.Observation
+import io.micrometer.observation.ObservationRegistry
+import org.aspectj.lang.ProceedingJoinPoint
+import org.aspectj.lang.annotation.Around
+import org.aspectj.lang.annotation.Aspect
+import org.aspectj.lang.annotation.Pointcut
+import org.springframework.stereotype.Component
+
+// domain/*/service 의 *Service public 메서드마다 타이머(service.method)와 트레이스 span을 남긴다
+// 컨트롤러는 Spring MVC가 http.server.requests로 이미 기록하므로 여기서 다루지 않는다
+// 같은 클래스 안에서 호출하는 메서드는 프록시를 거치지 않아 따로 기록되지 않는다
+@Aspect
+@Component
+class ServiceObservationAspect(
+    private val observationRegistry: ObservationRegistry
+) {
+    @Pointcut("execution(public * com.devmatch.backend.domain..service.*Service.*(..))")
+    fun serviceMethods() {
+    }
+
+    // 인증 필터(CustomAuthenticationFilter)가 요청마다 부르는 API 키/토큰 조회는 캐시에서 끝나는 경우가 대부분이라
+    // 요청마다 span과 타이머를 만드는 비용이 조회보다 크다. 인증 캐시는 cache.gets(auth.apikey, auth.token)로 관측한다
+    @Pointcut(
+        "execution(* com.devmatch.backend.domain.user.service.AuthTokenService.*(..))" +
+            " || execution(* com.devmatch.backend.domain.user.service.UserService.findByApiKey(..))" +
+            " || execution(* com.devmatch.backend.domain.user.service.UserService.payload(..))" +
+            " || execution(* com.devmatch.backend.domain.user.service.UserService.genAccessToken(..))"
+    )
+    fun authenticationLookups() {
+    }
+
+    @Around("serviceMethods() && !authenticationLookups()")
+    fun observe(joinPoint: ProceedingJoinPoint): Any? {
+        val className = joinPoint.signature.declaringType.simpleName
+        val methodName = joinPoint.signature.name
+
+        return Observation.createNotStarted("service.method", observationRegistry)
+            .contextualName("$className.$methodName")
+            .lowCardinalityKeyValue("class", className)
+            .lowCardinalityKeyValue("method", methodName)
+            .observeChecked<Any?, Throwable> { joinPoint.proceed() }
+    }
+}
@@ -0,0 +1,29 @@
+package com.devmatch.backend.global.outbox
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import org.springframework.stereotype.Component
+import org.springframework.transaction.support.TransactionSynchronization
+import org.springframework.transaction.support.TransactionSynchronizationManager
+
+// 도메인 이벤트를 현재 트랜잭션 안에서 outbox 테이블에 저장한다
+// 상태 변경과 함께 커밋되거나 함께 롤백되므로, 커밋된 변경의 이벤트는 서버가 죽어도 유실되지 않는다
+// 리스너(@EventListener)는 요청 스레드가 아니라 모든 인스턴스의 OutboxRelay에서 커밋 이후에 호출된다
+@Component
+class DomainEventPublisher(
+    private val outboxEventRepository: OutboxEventRepository,
+    private val outboxRelay: OutboxRelay,
+    private val objectMapper: ObjectMapper
+) {
+    fun publish(event: Any) {
+        check(TransactionSynchronizationManager.isActualTransactionActive()) {
+            "도메인 이벤트는 트랜잭션 안에서 발행해야 합니다: ${event.javaClass.simpleName}"
+        }
+
+        outboxEventRepository.save(OutboxEvent(event.javaClass.name, objectMapper.writeValueAsString(event)))
+
+        // 다음 폴링을 기다리지 않도록 커밋 직후 이 인스턴스의 릴레이를 깨운다 (다른 인스턴스는 폴링으로 읽는다)
+        TransactionSynchronizationManager.registerSynchronization(object : TransactionSynchronization {
+            override fun afterCommit() = outboxRelay.wakeUp()
+        })
+    }
+}
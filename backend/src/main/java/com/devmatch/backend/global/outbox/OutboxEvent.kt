@@ -0,0 +1,30 @@
+package com.devmatch.backend.global.outbox
+
+import jakarta.persistence.*
+import java.time.Instant
+
+// 상태 변경과 같은 트랜잭션에 저장되는 도메인 이벤트. 각 인스턴스의 OutboxRelay가 커밋된 것을 읽어 전달한다
+// 전달 여부는 인스턴스마다 다르므로 행에는 기록하지 않는다 (OutboxRelay 참고)
+@Entity
+@Table(
+    name = "outbox_events",
+    indexes = [
+        // 보관 기간이 지난 이벤트를 지울 때 사용 (전달할 이벤트는 id(PK) 순으로 읽는다)
+        Index(name = "idx_outbox_created_at_id", columnList = "created_at, id")
+    ]
+)
+class OutboxEvent(
+    // 이벤트 클래스의 이름 (역직렬화에 사용)
+    @Column(nullable = false)
+    val type: String,
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    val payload: String
+) {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    val id: Long? = null
+
+    @Column(nullable = false)
+    val createdAt: Instant = Instant.now()
+}
@@ -0,0 +1,27 @@
+package com.devmatch.backend.global.outbox
+
+import org.springframework.data.domain.Pageable
+import org.springframework.data.jpa.repository.JpaRepository
+import org.springframework.data.jpa.repository.Modifying
+import org.springframework.data.jpa.repository.Query
+import org.springframework.data.repository.query.Param
+import org.springframework.stereotype.Repository
+import java.time.Instant
+
+@Repository
+interface OutboxEventRepository : JpaRepository<OutboxEvent, Long> {
+    // 모든 인스턴스가 같은 이벤트를 읽어야 하므로 잠그지 않는다. 인스턴스마다 자기 커서 이후만 읽는다
+    @Query("select e from OutboxEvent e where e.id > :afterId order by e.id")
+    fun findAfterId(@Param("afterId") afterId: Long, pageable: Pageable): List<OutboxEvent>
+
+    // 커서가 건너뛴 id 중 그사이 커밋된 이벤트
+    @Query("select e from OutboxEvent e where e.id in :ids order by e.id")
+    fun findAllByIdInOrderById(@Param("ids") ids: Collection<Long>): List<OutboxEvent>
+
+    @Query("select max(e.id) from OutboxEvent e")
+    fun findMaxId(): Long?
+
+    @Modifying
+    @Query("delete from OutboxEvent e where e.createdAt < :threshold")
+    fun deleteCreatedBefore(@Param("threshold") threshold: Instant): Int
+}
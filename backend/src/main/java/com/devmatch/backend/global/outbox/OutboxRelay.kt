@@ -0,0 +1,233 @@
+package com.devmatch.backend.global.outbox
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import io.micrometer.core.instrument.Counter
+import io.micrometer.core.instrument.Gauge
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.Timer
+import jakarta.annotation.PreDestroy
+import org.slf4j.LoggerFactory
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.context.ApplicationEventPublisher
+import org.springframework.data.domain.PageRequest
+import org.springframework.scheduling.annotation.Scheduled
+import org.springframework.stereotype.Component
+import org.springframework.transaction.PlatformTransactionManager
+import org.springframework.transaction.support.TransactionTemplate
+import java.time.Duration
+import java.time.Instant
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.Executors
+import java.util.concurrent.atomic.AtomicBoolean
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.concurrent.atomic.AtomicReference
+import java.util.concurrent.locks.ReentrantLock
+
+// outbox 테이블에 커밋된 이벤트를 인스턴스마다 읽어 이 프로세스의 리스너(@EventListener)에 전달한다 (fan-out)
+// 리스너는 모두 분석 캐시, 추천 인덱스, 알림(SSE) 연결처럼 인스턴스 메모리의 상태를 다루므로
+// 이벤트를 한 인스턴스만 가져가면(SKIP LOCKED 경쟁) 나머지 인스턴스의 상태가 어긋난다. 그래서 행을 잠그거나 표시하지 않고,
+// 어디까지 읽었는지(id 커서)는 인스턴스 메모리에만 둔다
+//
+// 보장: 실행 중인 인스턴스는 커밋된 이벤트를 최소 한 번(at-least-once) 받는다. 리스너가 실패하면 maxAttempts까지 다시 전달하고,
+// 같은 이벤트가 다시 올 수 있으므로 리스너는 멱등이어야 한다
+@Component
+class OutboxRelay(
+    private val outboxEventRepository: OutboxEventRepository,
+    private val eventPublisher: ApplicationEventPublisher,
+    private val objectMapper: ObjectMapper,
+    private val meterRegistry: MeterRegistry,
+    transactionManager: PlatformTransactionManager,
+    @param:Value("\${custom.outbox.batchSize}")
+    private val batchSize: Int,
+    @param:Value("\${custom.outbox.maxAttempts}")
+    private val maxAttempts: Int,
+    @param:Value("\${custom.outbox.retentionHours}")
+    retentionHours: Long,
+    @param:Value("\${custom.outbox.gapTimeoutSeconds}")
+    gapTimeoutSeconds: Long
+) {
+    private val transaction = TransactionTemplate(transactionManager)
+    private val retention: Duration = Duration.ofHours(retentionHours)
+    private val gapTimeoutNanos: Long = Duration.ofSeconds(gapTimeoutSeconds).toNanos()
+
+    // 폴링과 커밋 직후 깨우기가 동시에 돌지 않게 한다. 아래 상태는 모두 이 락 안에서만 다룬다
+    private val lock = ReentrantLock()
+    private val wakeUpPending = AtomicBoolean()
+    private val wakeUpExecutor = Executors.newSingleThreadExecutor(Thread.ofVirtual().name("outbox-relay").factory())
+
+    // 마지막으로 읽은 id. 처음 읽을 때 정한다 (initialCursor)
+    private var cursor: Long? = null
+
+    // IDENTITY id는 커밋 전에 정해지므로 커서보다 작은 id가 나중에 커밋될 수 있다
+    // 커서가 건너뛴 id를 (발견한 시각, System.nanoTime)과 함께 기억해 두고 매번 다시 확인한다
+    // 롤백된 트랜잭션이 쓴 id는 끝내 나타나지 않으므로 gapTimeout이 지나면 잊는다 (이 인스턴스의 시계만 쓴다)
+    private val gaps = LinkedHashMap<Long, Long>()
+    private val gapCount = AtomicInteger()
+
+    private val retries = LinkedHashMap<Long, PendingEvent>()
+
+    private val eventTypes = ConcurrentHashMap<String, Class<*>>()
+    private val oldestPendingAt = AtomicReference<Instant?>()
+
+    private val deliveryTimer: Timer = Timer.builder("outbox.delivery")
+        .description("이벤트가 저장된 뒤 이 인스턴스의 리스너에 전달되기까지 걸린 시간")
+        .register(meterRegistry)
+
+    private val failures: Counter = Counter.builder("outbox.failed")
+        .description("리스너가 실패해 다시 전달할 이벤트 수")
+        .register(meterRegistry)
+
+    private val abandoned: Counter = Counter.builder("outbox.abandoned")
+        .description("maxAttempts만큼 실패해 이 인스턴스에서 전달을 포기한 이벤트 수")
+        .register(meterRegistry)
+
+    init {
+        Gauge.builder("outbox.lag", oldestPendingAt) { ref ->
+            ref.get()?.let { Duration.between(it, Instant.now()).toMillis() / 1000.0 } ?: 0.0
+        }
+            .description("다시 전달을 기다리고 있는 가장 오래된 이벤트의 대기 시간(초)")
+            .baseUnit("seconds")
+            .register(meterRegistry)
+
+        Gauge.builder("outbox.gaps", gapCount) { it.get().toDouble() }
+            .description("커서가 건너뛰어 커밋을 기다리며 다시 확인하고 있는 id 수")
+            .register(meterRegistry)
+    }
+
+    // 같은 인스턴스에서 커밋된 이벤트를 폴링을 기다리지 않고 전달한다. 이미 깨우기가 예약되어 있으면 그 실행이 함께 전달한다
+    fun wakeUp() {
+        if (!wakeUpPending.compareAndSet(false, true)) return
+
+        wakeUpExecutor.execute {
+            wakeUpPending.set(false)
+            lock.lock()
+            try {
+                relay()
+            } finally {
+                lock.unlock()
+            }
+        }
+    }
+
+    // 다른 인스턴스에서 커밋된 이벤트와 다시 전달할 이벤트를 위한 주기적 폴링
+    @Scheduled(fixedDelayString = "\${custom.outbox.pollMillis}")
+    fun poll() {
+        if (!lock.tryLock()) return
+
+        try {
+            relay()
+        } finally {
+            lock.unlock()
+        }
+    }
+
+    // 모든 인스턴스가 같은 조건으로 지우므로 여러 곳에서 실행돼도 결과가 같다
+    @Scheduled(fixedDelayString = "PT1H", initialDelayString = "PT1H")
+    fun purge() {
+        transaction.execute { outboxEventRepository.deleteCreatedBefore(Instant.now().minus(retention)) }
+    }
+
+    private fun relay() {
+        var position = cursor ?: initialCursor()
+
+        // 이전 실행에서 실패한 이벤트를 먼저 다시 전달한다 (이번 실행에서 실패한 이벤트는 다음 실행에서)
+        retries.values.toList().forEach { deliver(it) }
+
+        // 건너뛴 id 중 그사이 커밋된 것을 전달한다
+        if (gaps.isNotEmpty()) {
+            outboxEventRepository.findAllByIdInOrderById(gaps.keys.toList()).forEach {
+                gaps.remove(it.id)
+                deliver(PendingEvent.of(it))
+            }
+
+            val now = System.nanoTime()
+            gaps.values.removeIf { now - it > gapTimeoutNanos }
+        }
+
+        do {
+            val events = outboxEventRepository.findAfterId(position, PageRequest.of(0, batchSize))
+
+            events.forEach {
+                trackGaps(position, it.id!!)
+                deliver(PendingEvent.of(it))
+                position = it.id!!
+            }
+            cursor = position
+        } while (events.size == batchSize)
+
+        gapCount.set(gaps.size)
+        oldestPendingAt.set(retries.values.minOfOrNull { it.createdAt })
+    }
+
+    // 최근 batchSize개 id 구간부터 읽기 시작한다. 시작 시점에 아직 커밋되지 않은 이벤트가 이 구간의 빈 id로 잡히고,
+    // 이미 커밋된 이벤트는 한 번 더 전달되지만 리스너가 멱등이라 문제없다
+    private fun initialCursor(): Long =
+        maxOf((outboxEventRepository.findMaxId() ?: 0L) - batchSize, 0L)
+
+    private fun trackGaps(position: Long, nextId: Long) {
+        val skipped = nextId - position - 1
+        if (skipped <= 0) return
+
+        // 시퀀스가 크게 건너뛴 경우(재시작 후 캐시된 값 유실 등)는 트랜잭션이 잡고 있는 id가 아니다
+        if (skipped > MAX_GAPS) return
+
+        val now = System.nanoTime()
+        (position + 1 until nextId).forEach { gaps[it] = now }
+
+        // 기억하는 id 수를 제한한다. 가장 오래된 것부터 잊는다
+        val iterator = gaps.keys.iterator()
+        while (gaps.size > MAX_GAPS && iterator.hasNext()) {
+            iterator.next()
+            iterator.remove()
+        }
+    }
+
+    private fun deliver(event: PendingEvent) {
+        try {
+            eventPublisher.publishEvent(objectMapper.readValue(event.payload, eventType(event.type)))
+
+            retries.remove(event.id)
+            deliveryTimer.record(Duration.between(event.createdAt, Instant.now()))
+
+            Counter.builder("outbox.delivered")
+                .description("이 인스턴스의 리스너에 전달된 도메인 이벤트 수")
+                .tag("type", event.type.substringAfterLast('.'))
+                .register(meterRegistry)
+                .increment()
+        } catch (e: Exception) {
+            failures.increment()
+            event.attempts++
+
+            if (event.attempts < maxAttempts) {
+                retries[event.id] = event
+                return
+            }
+
+            retries.remove(event.id)
+            abandoned.increment()
+            log.warn("outbox 이벤트 전달 포기: id={}, type={}, attempts={}", event.id, event.type, event.attempts, e)
+        }
+    }
+
+    private fun eventType(type: String): Class<*> =
+        eventTypes.computeIfAbsent(type) { Class.forName(it) }
+
+    @PreDestroy
+    fun shutdown() {
+        wakeUpExecutor.shutdown()
+    }
+
+    private class PendingEvent(val id: Long, val type: String, val payload: String, val createdAt: Instant) {
+        var attempts = 0
+
+        companion object {
+            fun of(event: OutboxEvent) = PendingEvent(event.id!!, event.type, event.payload, event.createdAt)
+        }
+    }
+
+    companion object {
+        private const val MAX_GAPS = 1000
+
+        private val log = LoggerFactory.getLogger(OutboxRelay::class.java)
+    }
+}
@@ -47,11 +47,7 @@ class Rq(
     }
 
     fun getCookieValue(name: String, defaultValue: String): String =
-        req.cookies
-            ?.firstOrNull { it.name == name }
-            ?.value
-            ?.takeIf { it.isNotBlank() }
-            ?: defaultValue
+        cookieValue(req.cookies, name, defaultValue)
 
     fun setCookie(name: String, value: String?) {
         val cookie = Cookie(name, value ?: "").apply {
@@ -69,4 +65,14 @@ class Rq(
     fun deleteCookie(name: String) { setCookie(name, null) }
 
     fun sendRedirect(url: String) { resp.sendRedirect(url) }
+
+    companion object {
+        // 인증 필터가 요청마다 쿠키를 찾을 때 쓰는 부분만 떼어낸 순수 함수 (JMH: AuthRequestBenchmark)
+        fun cookieValue(cookies: Array<Cookie>?, name: String, defaultValue: String): String =
+            cookies
+                ?.firstOrNull { it.name == name }
+                ?.value
+                ?.takeIf { it.isNotBlank() }
+                ?: defaultValue
+    }
 }
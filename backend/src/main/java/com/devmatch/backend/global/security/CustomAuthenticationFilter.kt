@@ -6,6 +6,8 @@ import com.devmatch.backend.exception.ServiceException
 import com.devmatch.backend.global.RsData
 import com.devmatch.backend.global.rq.Rq
 import com.devmatch.backend.standard.util.Ut
+import io.micrometer.observation.Observation
+import io.micrometer.observation.ObservationRegistry
 import jakarta.servlet.FilterChain
 import jakarta.servlet.http.HttpServletRequest
 import jakarta.servlet.http.HttpServletResponse
@@ -21,7 +23,8 @@ import org.springframework.web.filter.OncePerRequestFilter
 @Component
 class CustomAuthenticationFilter(
     private val userService: UserService,
-    private val rq: Rq
+    private val rq: Rq,
+    private val observationRegistry: ObservationRegistry
 ) : OncePerRequestFilter() {
 
     override fun doFilterInternal(
@@ -62,12 +65,17 @@ class CustomAuthenticationFilter(
             return
         }
 
+        // 토큰 검증에 걸린 시간만 따로 기록 (뒤따르는 필터와 컨트롤러 시간은 제외)
+        Observation.createNotStarted("auth.filter", observationRegistry)
+            .observeChecked<Unit, ServiceException> { authenticateFromTokens() }
+
+        filterChain.doFilter(request, response)
+    }
+
+    private fun authenticateFromTokens() {
         //뭐가 됐던 이 시점부터는 로그인 후의 요청이라는 것 -> 토큰들을 가지고 있으니까.
         val (apiKey, accessToken) = extractTokens()
-        if(apiKey.isBlank() && accessToken.isBlank()) {
-            filterChain.doFilter(request, response)
-            return
-        }
+        if(apiKey.isBlank() && accessToken.isBlank()) return
 
         val (member, isAccessTokenValid) = resolveUser(apiKey, accessToken)
 
@@ -80,22 +88,12 @@ class CustomAuthenticationFilter(
         // 이게 어떻게 rq로 들어가는거지? -> 콘텍스트에서 authentication 객체를 꺼내서 User로 캐스팅.
         //로그인 후의 유저 정보다.
         authenticate(member)
-
-        filterChain.doFilter(request, response)
     }
 
-    private fun extractTokens(): Pair<String, String> {
-        val headerAuthorization = rq.getHeader("Authorization", "")
-
-        return if (headerAuthorization.isNotBlank()) {
-            if (!headerAuthorization.startsWith("Bearer "))
-                throw ServiceException("401-2", "Authorization 헤더가 Bearer 형식이 아닙니다.")
-            val bits = headerAuthorization.split(" ", limit = 3)
-            bits.getOrNull(1).orEmpty() to bits.getOrNull(2).orEmpty()
-        } else {
+    private fun extractTokens(): Pair<String, String> =
+        extractTokens(rq.getHeader("Authorization", "")) {
             rq.getCookieValue("apiKey", "") to rq.getCookieValue("accessToken", "")
         }
-    }
 
     private fun resolveUser(apiKey: String, accessToken: String): Pair<User, Boolean> {
         userFromAccessToken(accessToken)?.let { return it to true }
@@ -142,4 +140,25 @@ class CustomAuthenticationFilter(
         SecurityContextHolder.getContext().authentication = authentication
     }
 
+    companion object {
+        private const val BEARER = "Bearer "
+
+        // 요청마다 실행되는 토큰 추출. "Bearer {apiKey} {accessToken}" 헤더가 없으면 쿠키에서 꺼낸다
+        // split 대신 indexOf로 잘라 요청마다 리스트를 만들지 않는다 (JMH: AuthRequestBenchmark)
+        fun extractTokens(
+            headerAuthorization: String,
+            fromCookies: () -> Pair<String, String>
+        ): Pair<String, String> {
+            if (headerAuthorization.isBlank()) return fromCookies()
+
+            if (!headerAuthorization.startsWith(BEARER))
+                throw ServiceException("401-2", "Authorization 헤더가 Bearer 형식이 아닙니다.")
+
+            val tokens = headerAuthorization.substring(BEARER.length)
+            val separator = tokens.indexOf(' ')
+
+            return if (separator < 0) tokens to ""
+            else tokens.substring(0, separator) to tokens.substring(separator + 1)
+        }
+    }
 }
\ No newline at end of file
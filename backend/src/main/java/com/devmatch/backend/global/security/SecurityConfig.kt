@@ -2,6 +2,7 @@ package com.devmatch.backend.global.security
 
 import com.devmatch.backend.global.RsData
 import com.devmatch.backend.standard.util.Ut
+import jakarta.servlet.DispatcherType
 import org.springframework.context.annotation.Bean
 import org.springframework.context.annotation.Configuration
 import org.springframework.security.config.annotation.web.builders.HttpSecurity
@@ -12,6 +13,7 @@ import org.springframework.security.web.SecurityFilterChain
 import org.springframework.security.web.access.AccessDeniedHandler
 import org.springframework.security.web.authentication.AuthenticationSuccessHandler
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter
+import org.springframework.security.web.util.matcher.DispatcherTypeRequestMatcher
 import org.springframework.web.cors.CorsConfiguration
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource
 
@@ -25,12 +27,18 @@ class SecurityConfig(
     fun filterChain(http: HttpSecurity): SecurityFilterChain? {
         http {
             authorizeHttpRequests {
+                // SSE 스트리밍 응답의 비동기 재디스패치는 최초 요청에서 이미 인가를 통과했다
+                authorize(DispatcherTypeRequestMatcher(DispatcherType.ASYNC), permitAll)
                 authorize("/favicon.ico", permitAll)
                 authorize("/h2-console/**", permitAll)
                 authorize("/users/**", authenticated)
                 authorize("/projects/**", authenticated)
                 authorize("/analysis/**", authenticated)
                 authorize("/applications/**", authenticated)
+                // 로드밸런서/오케스트레이터의 헬스 체크만 공개하고, 지표와 resilience4j 상태는 관리자만 본다
+                authorize("/actuator/health", permitAll)
+                authorize("/actuator/health/**", permitAll)
+                authorize("/actuator/**", hasRole("ADMIN"))
                 authorize(anyRequest, permitAll)
             }
             headers {
@@ -0,0 +1,95 @@
+package com.devmatch.backend.global.web
+
+import com.github.benmanes.caffeine.cache.Cache
+import com.github.benmanes.caffeine.cache.Caffeine
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.http.CacheControl
+import org.springframework.http.HttpStatus
+import org.springframework.http.ResponseEntity
+import org.springframework.stereotype.Component
+import org.springframework.transaction.support.TransactionSynchronization
+import org.springframework.transaction.support.TransactionSynchronizationManager
+import org.springframework.web.context.request.WebRequest
+import java.security.MessageDigest
+import java.time.Duration
+import java.util.concurrent.atomic.AtomicLong
+
+// 목록 조회 응답의 ETag를 만들기 위한 집합(aggregate)별 버전 번호
+// 쓰기가 커밋되면 관련 범위의 버전을 올리고, 조회는 버전만으로 ETag를 만들어 바뀐 것이 없으면 본문을 만들지 않는다
+// 버전은 이 인스턴스 메모리에만 있으므로 다른 인스턴스의 쓰기는 maxAgeSeconds 안에 반영된다
+@Component
+class ResourceVersions(
+    @param:Value("\${custom.etag.maxSize}")
+    maxSize: Long,
+    @param:Value("\${custom.etag.maxAgeSeconds}")
+    private val maxAgeSeconds: Long
+) {
+    // 재시작하면 버전이 처음부터 다시 시작하므로, 재시작 전에 발급한 ETag와 겹치지 않게 구분
+    private val bootId = System.currentTimeMillis().toString(36)
+
+    // 모든 범위가 함께 쓰는 증가 번호. 오래 안 쓰여 지워진 범위가 다시 생겨도 그 사이 변경이 있었다면 값이 달라진다
+    private val sequence = AtomicLong()
+
+    private val versions: Cache<String, Long> = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterAccess(Duration.ofHours(1))
+        .build()
+
+    // 데이터를 읽기 전에 호출해야 한다. 읽는 도중 커밋된 변경은 다음 요청의 ETag에 반영된다
+    fun etag(scopes: List<String>, discriminator: String = ""): String {
+        val key = buildString {
+            append(bootId).append('|')
+            scopes.forEach { append(versions.get(it) { sequence.get() }).append('|') }
+            append(System.currentTimeMillis() / 1000 / maxAgeSeconds).append('|')
+            append(discriminator)
+        }
+
+        return weakEtag(key.toByteArray())
+    }
+
+    // 커밋 전에 올리면 다른 요청이 새 ETag로 이전 데이터를 받아갈 수 있으므로, 트랜잭션 안이라면 커밋 후에 올린다
+    fun touch(vararg scopes: String) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            increase(scopes)
+            return
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(object : TransactionSynchronization {
+            override fun afterCommit() = increase(scopes)
+        })
+    }
+
+    private fun increase(scopes: Array<out String>) {
+        scopes.forEach { versions.put(it, sequence.incrementAndGet()) }
+    }
+
+    companion object {
+        // 프로젝트 목록(전체, 사용자별)에 보이는 모든 프로젝트
+        const val PROJECTS = "projects"
+
+        // 목록에 함께 보이는 사용자 닉네임
+        const val USERS = "users"
+
+        fun projectApplications(projectId: Long) = "project:$projectId:applications"
+
+        fun userApplications(userId: Long) = "user:$userId:applications"
+
+        // 응답 압축(gzip)으로 바이트가 달라질 수 있으므로 모든 ETag는 이 함수로 만든 약한(weak) ETag를 쓴다
+        fun weakEtag(content: ByteArray): String {
+            val digest = MessageDigest.getInstance("SHA-256").digest(content)
+
+            return "W/\"" + digest.take(16).joinToString("") { "%02x".format(it) } + "\""
+        }
+
+        // If-None-Match가 현재 ETag와 같으면 본문을 만들지 않고 304로 응답
+        fun <T> conditionalOk(request: WebRequest, etag: String, body: () -> T): ResponseEntity<T> {
+            // checkNotModified가 304 상태와 ETag 헤더를 이미 설정한다
+            if (request.checkNotModified(etag)) return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build()
+
+            return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(body())
+        }
+    }
+}
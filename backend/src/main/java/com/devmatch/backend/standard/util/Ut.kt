@@ -1,18 +1,26 @@
 package com.devmatch.backend.standard.util
 
 import com.fasterxml.jackson.databind.ObjectMapper
+import io.jsonwebtoken.JwtParser
 import io.jsonwebtoken.Jwts
 import io.jsonwebtoken.security.Keys
 import java.util.*
+import javax.crypto.SecretKey
 
 class Ut {
     object jwt {
-        fun toString(secret: String, expireSeconds: Int, body: Map<String, Any>): String {
+        // 키와 파서는 생성 비용이 있으므로 매 요청마다 만들지 말고 한 번 만들어 재사용
+        fun secretKey(secret: String): SecretKey = Keys.hmacShaKeyFor(secret.toByteArray())
+
+        fun parser(secretKey: SecretKey): JwtParser = Jwts.parser().verifyWith(secretKey).build()
+
+        fun toString(secret: String, expireSeconds: Int, body: Map<String, Any>): String =
+            toString(secretKey(secret), expireSeconds, body)
+
+        fun toString(secretKey: SecretKey, expireSeconds: Int, body: Map<String, Any>): String {
             val issuedAt = Date()
             val expiration = Date(issuedAt.time + 1000L * expireSeconds)
 
-            val secretKey = Keys.hmacShaKeyFor(secret.toByteArray())
-
             val jwt = Jwts.builder()
                 .claims(body)
                 .issuedAt(issuedAt)
@@ -39,14 +47,12 @@ class Ut {
             }
         }
 
-        fun payload(secret: String, jwtStr: String): Map<String, Any>? {
-            return try {
-                val secretKey = Keys.hmacShaKeyFor(secret.toByteArray())
+        fun payload(secret: String, jwtStr: String): Map<String, Any>? =
+            payload(parser(secretKey(secret)), jwtStr)
 
-                Jwts
-                    .parser()
-                    .verifyWith(secretKey)
-                    .build()
+        fun payload(parser: JwtParser, jwtStr: String): Map<String, Any>? {
+            return try {
+                parser
                     .parse(jwtStr)
                     .payload as Map<String, Any>
             } catch (e: Exception) {
@@ -0,0 +1,6 @@
+-- ddl-auto: update는 테이블/컬럼 추가만 하고 기존 컬럼의 타입은 바꾸지 않는다
+-- 이미 만들어진 스키마를 엔티티에 맞추는 변경을 여기에 둔다. JPA 초기화 전에 매번 실행되므로 모두 여러 번 실행돼도 안전해야 한다
+-- (새 DB에서는 테이블이 아직 없으므로 IF EXISTS로 건너뛰고, 이후 Hibernate가 엔티티대로 만든다)
+
+-- 역할 분배 결과 전체를 저장하도록 VARCHAR(255)였던 projects.content를 TEXT로 넓힌다 (PostgreSQL은 재작성 없이 바뀐다)
+ALTER TABLE IF EXISTS projects ALTER COLUMN content SET DATA TYPE TEXT;
@@ -0,0 +1,69 @@
+package com.devmatch.backend.domain.analysis.cache
+
+import com.github.benmanes.caffeine.cache.Ticker
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import java.time.Duration
+import java.util.concurrent.atomic.AtomicLong
+
+class AnalysisResponseCacheTest {
+    private val nanos = AtomicLong()
+    private val cache = AnalysisResponseCache(
+        SimpleMeterRegistry(), 100, 10, false, "unused", Ticker { nanos.get() }
+    )
+
+    @Test
+    @DisplayName("저장한 응답은 같은 키로 다시 조회된다")
+    fun t1() {
+        val key = AnalysisCacheKey(1, "a")
+
+        cache.put(key, "응답")
+
+        assertThat(cache.get(key)).isEqualTo("응답")
+        assertThat(cache.get(AnalysisCacheKey(1, "b"))).isNull()
+    }
+
+    @Test
+    @DisplayName("프로젝트 무효화는 그 프로젝트의 키만 지운다 (id가 접두사로 겹치는 프로젝트는 남는다)")
+    fun t2() {
+        cache.put(AnalysisCacheKey(1, "a"), "1-a")
+        cache.put(AnalysisCacheKey(1, "b"), "1-b")
+        cache.put(AnalysisCacheKey(11, "a"), "11-a")
+
+        cache.invalidateProject(1)
+
+        assertThat(cache.get(AnalysisCacheKey(1, "a"))).isNull()
+        assertThat(cache.get(AnalysisCacheKey(1, "b"))).isNull()
+        assertThat(cache.get(AnalysisCacheKey(11, "a"))).isEqualTo("11-a")
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 응답은 조회되지 않고, 만료 뒤 무효화와 다시 저장도 정상 동작한다")
+    fun t3() {
+        val key = AnalysisCacheKey(2, "a")
+        cache.put(key, "오래된 응답")
+
+        nanos.addAndGet(Duration.ofMinutes(11).toNanos())
+
+        assertThat(cache.get(key)).isNull()
+
+        cache.invalidateProject(2)
+        cache.put(key, "새 응답")
+
+        assertThat(cache.get(key)).isEqualTo("새 응답")
+    }
+
+    @Test
+    @DisplayName("키 하나만 지우면 같은 프로젝트의 다른 키는 남는다")
+    fun t4() {
+        cache.put(AnalysisCacheKey(3, "a"), "3-a")
+        cache.put(AnalysisCacheKey(3, "b"), "3-b")
+
+        cache.evict(AnalysisCacheKey(3, "a"))
+
+        assertThat(cache.get(AnalysisCacheKey(3, "a"))).isNull()
+        assertThat(cache.get(AnalysisCacheKey(3, "b"))).isEqualTo("3-b")
+    }
+}
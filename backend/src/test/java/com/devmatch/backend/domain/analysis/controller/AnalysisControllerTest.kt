@@ -1,6 +1,13 @@
 package com.devmatch.backend.domain.analysis.controller
 
+import com.devmatch.backend.domain.analysis.dto.AnalysisJobResponse
+import com.devmatch.backend.domain.analysis.dto.AnalysisResultResponse
+import com.devmatch.backend.domain.analysis.dto.BulkAnalysisResponse
+import com.devmatch.backend.domain.analysis.dto.RoleAssignmentResponse
 import com.devmatch.backend.domain.analysis.entity.AnalysisResult
+import com.devmatch.backend.domain.analysis.job.AnalysisJob
+import com.devmatch.backend.domain.analysis.job.AnalysisJobType
+import com.devmatch.backend.domain.analysis.service.AnalysisJobService
 import com.devmatch.backend.domain.analysis.service.AnalysisService
 import com.devmatch.backend.domain.application.entity.Application
 import com.devmatch.backend.domain.application.repository.ApplicationRepository
@@ -8,6 +15,7 @@ import com.devmatch.backend.domain.project.entity.Project
 import com.devmatch.backend.domain.project.repository.ProjectRepository
 import com.devmatch.backend.domain.user.entity.User
 import com.devmatch.backend.domain.user.repository.UserRepository
+import org.hamcrest.Matchers.containsString
 import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.DisplayName
 import org.mockito.BDDMockito.given
@@ -15,16 +23,23 @@ import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc
 import org.springframework.boot.test.context.SpringBootTest
 import org.springframework.boot.test.mock.mockito.MockBean
+import org.springframework.http.MediaType
 import org.springframework.security.test.context.support.WithMockUser
 import org.springframework.test.context.ActiveProfiles
 import org.springframework.test.web.servlet.MockMvc
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post
 import org.springframework.test.web.servlet.result.MockMvcResultHandlers.print
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers.content
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers.header
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers.request
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers.status
+import reactor.core.publisher.Flux
 import kotlin.test.Test
 import java.math.BigDecimal
+import java.time.LocalDateTime
 
 @ActiveProfiles("test")
 @SpringBootTest
@@ -37,7 +52,10 @@ class AnalysisControllerTest {
     
     @MockBean
     private lateinit var analysisService: AnalysisService
-    
+
+    @MockBean
+    private lateinit var analysisJobService: AnalysisJobService
+
     @Autowired
     private lateinit var userRepository: UserRepository
     
@@ -117,46 +135,170 @@ class AnalysisControllerTest {
     }
     
     @Test
-    @DisplayName("분석 결과 생성 - 성공")
+    @DisplayName("분석 작업 등록 - 성공")
     fun createAnalysisResult_Success() {
         // Given
-        val mockResult = AnalysisResult.create(
+        val job = AnalysisJob("job-1", AnalysisJobType.APPLICATION, testApplication.id!!)
+        given(analysisJobService.submit(testApplication.id!!)).willReturn(job)
+        
+        // When & Then
+        mockMvc.perform(
+            post("/analysis/application/${testApplication.id}")
+        ).andDo(print())
+            .andExpect(status().isAccepted)
+            .andExpect(header().string("Location", "/analysis/jobs/job-1"))
+            .andExpect(jsonPath("$.data.jobId").value("job-1"))
+            .andExpect(jsonPath("$.data.applicationId").value(testApplication.id))
+            .andExpect(jsonPath("$.data.status").value("QUEUED"))
+    }
+
+    @Test
+    @DisplayName("분석 작업 조회 - 완료")
+    fun getAnalysisJob_Completed() {
+        // Given
+        val job = AnalysisJob("job-2", AnalysisJobType.APPLICATION, testApplication.id!!)
+        val result = AnalysisResult.create(
             application = testApplication,
             score = 90.toBigDecimal(),
             reason = "Great match for the project"
         )
-        given(analysisService.createAnalysisResult(testApplication.id!!)).willReturn(mockResult)
-        
+        job.start()
+        job.complete()
+        given(analysisJobService.getJob("job-2")).willReturn(AnalysisJobResponse.from(job, AnalysisResultResponse.from(result)))
+
         // When & Then
         mockMvc.perform(
-            post("/analysis/application/${testApplication.id}")
+            get("/analysis/jobs/job-2")
         ).andDo(print())
-            .andExpect(status().isCreated)
-            .andExpect(jsonPath("$.data.applicationId").value(testApplication.id))
-            .andExpect(jsonPath("$.data.compatibilityScore").value(90))
-            .andExpect(jsonPath("$.data.compatibilityReason").value("Great match for the project"))
+            .andExpect(status().isOk)
+            .andExpect(jsonPath("$.data.status").value("COMPLETED"))
+            .andExpect(jsonPath("$.data.result.applicationId").value(testApplication.id))
+            .andExpect(jsonPath("$.data.result.compatibilityScore").value(90))
+            .andExpect(jsonPath("$.data.result.compatibilityReason").value("Great match for the project"))
+    }
+
+    @Test
+    @DisplayName("분석 작업 조회 - 존재하지 않는 작업")
+    fun getAnalysisJob_NotFound() {
+        // Given
+        given(analysisJobService.getJob("unknown")).willThrow(NoSuchElementException("분석 작업을 찾을 수 없습니다. jobId: unknown"))
+
+        // When & Then
+        mockMvc.perform(
+            get("/analysis/jobs/unknown")
+        ).andDo(print())
+            .andExpect(status().isNotFound)
     }
     
+    @Test
+    @DisplayName("프로젝트 지원서 일괄 분석 - 작업 등록 후 202 반환")
+    fun analyzePendingApplications_Accepted() {
+        // Given
+        val job = AnalysisJob("job-3", AnalysisJobType.PROJECT, testProject.id!!)
+        given(analysisJobService.submitBulk(testProject.id!!)).willReturn(job)
+
+        // When & Then
+        mockMvc.perform(
+            post("/analysis/project/${testProject.id}/applications")
+        ).andDo(print())
+            .andExpect(status().isAccepted)
+            .andExpect(header().string("Location", "/analysis/jobs/job-3"))
+            .andExpect(jsonPath("$.data.type").value("PROJECT"))
+            .andExpect(jsonPath("$.data.projectId").value(testProject.id))
+            .andExpect(jsonPath("$.data.status").value("QUEUED"))
+    }
+
+    @Test
+    @DisplayName("일괄 분석 작업 조회 - 완료되면 지원서별 성공/실패 반환")
+    fun getBulkAnalysisJob_Completed() {
+        // Given
+        val bulkResult = BulkAnalysisResponse.of(
+            testProject.id!!,
+            listOf(
+                BulkAnalysisResponse.Item(1L, success = true, compatibilityScore = 80.toBigDecimal(), compatibilityReason = "Good"),
+                BulkAnalysisResponse.Item(2L, success = false, errorMessage = "timeout")
+            )
+        )
+        val job = AnalysisJob("job-4", AnalysisJobType.PROJECT, testProject.id!!)
+        job.start()
+        job.complete()
+        given(analysisJobService.getJob("job-4")).willReturn(AnalysisJobResponse.from(job, bulkResult = bulkResult))
+
+        // When & Then
+        mockMvc.perform(
+            get("/analysis/jobs/job-4")
+        ).andDo(print())
+            .andExpect(status().isOk)
+            .andExpect(jsonPath("$.data.status").value("COMPLETED"))
+            .andExpect(jsonPath("$.data.bulkResult.requested").value(2))
+            .andExpect(jsonPath("$.data.bulkResult.succeeded").value(1))
+            .andExpect(jsonPath("$.data.bulkResult.failed").value(1))
+            .andExpect(jsonPath("$.data.bulkResult.results[0].success").value(true))
+            .andExpect(jsonPath("$.data.bulkResult.results[1].errorMessage").value("timeout"))
+    }
+
     @Test
     @DisplayName("팀 역할 할당 생성 - 성공")
     fun createTeamRoleAssignment_Success() {
         // Given
-        val mockAssignment = """
-            {
-                "projectId": ${testProject.id},
-                "assignments": {
-                    "Backend Developer": ["user1", "user2"],
-                    "Frontend Developer": ["user3"]
-                }
-            }
-        """.trimIndent()
-        given(analysisService.createTeamRoleAssignment(testProject.id!!)).willReturn(mockAssignment)
+        val mockAssignment = RoleAssignmentResponse(
+            projectId = testProject.id!!,
+            content = "user1 - 백엔드 개발 | Java 9점",
+            members = listOf(RoleAssignmentResponse.Member(testUser.id!!, "user1", "백엔드 개발", "Java 9점")),
+            createdAt = LocalDateTime.now(),
+            reused = false
+        )
+        given(analysisService.createTeamRoleAssignment(testProject.id!!, false)).willReturn(mockAssignment)
         
         // When & Then
         mockMvc.perform(
             post("/analysis/project/${testProject.id}/role-assignment")
         ).andDo(print())
             .andExpect(status().isCreated)
-            .andExpect(jsonPath("$.data").exists())
+            .andExpect(jsonPath("$.data.content").value("user1 - 백엔드 개발 | Java 9점"))
+            .andExpect(jsonPath("$.data.members[0].role").value("백엔드 개발"))
+    }
+
+    @Test
+    @DisplayName("팀 역할 할당 - 팀 구성이 그대로면 저장된 결과를 200으로 반환")
+    fun createTeamRoleAssignment_Reused() {
+        // Given
+        val storedAssignment = RoleAssignmentResponse(
+            projectId = testProject.id!!,
+            content = "user1 - 백엔드 개발 | Java 9점",
+            members = emptyList(),
+            createdAt = LocalDateTime.now(),
+            reused = true
+        )
+        given(analysisService.createTeamRoleAssignment(testProject.id!!, false)).willReturn(storedAssignment)
+
+        // When & Then
+        mockMvc.perform(
+            post("/analysis/project/${testProject.id}/role-assignment")
+        ).andDo(print())
+            .andExpect(status().isOk)
+            .andExpect(jsonPath("$.data.reused").value(true))
+    }
+
+    @Test
+    @DisplayName("팀 역할 할당 스트리밍 - 토큰을 SSE 이벤트로 전달")
+    fun streamTeamRoleAssignment_Success() {
+        // Given
+        given(analysisService.streamTeamRoleAssignment(testProject.id!!, false))
+            .willReturn(Flux.just("user1 - 백엔드", " | Java 9점"))
+
+        // When
+        val result = mockMvc.perform(
+            post("/analysis/project/${testProject.id}/role-assignment/stream")
+        ).andExpect(request().asyncStarted())
+            .andReturn()
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+            .andDo(print())
+            .andExpect(status().isOk)
+            .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM))
+            .andExpect(content().string(containsString("data:user1 - 백엔드")))
+            .andExpect(content().string(containsString("event:done")))
     }
 }
\ No newline at end of file
@@ -0,0 +1,58 @@
+package com.devmatch.backend.domain.analysis.entity
+
+import com.devmatch.backend.domain.application.entity.Application
+import com.devmatch.backend.domain.application.entity.SkillScore
+import com.devmatch.backend.domain.project.entity.Project
+import com.devmatch.backend.domain.user.entity.User
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+
+// 팀 구성 지문: 같은 구성이면 순서와 상관없이 같고, 구성이나 기술 점수가 바뀌면 달라져야 저장된 결과를 재사용할 수 있다
+class RoleAssignmentTest {
+    private val project = Project("프로젝트", "스터디 매칭 서비스", "Java, React", 3, User(1L, "creator", "생성자"), 8)
+
+    @Test
+    @DisplayName("팀원과 기술의 나열 순서, 기술명 대소문자가 달라도 지문은 같다")
+    fun t1() {
+        val first = listOf(
+            application(2L, "김철수", "Java" to 7, "Spring" to 6),
+            application(3L, "이영희", "React" to 8)
+        )
+        val reordered = listOf(
+            application(3L, "이영희", "react" to 8),
+            application(2L, "김철수", "spring" to 6, "JAVA" to 7)
+        )
+
+        assertThat(RoleAssignment.fingerprint(project, reordered, "v1"))
+            .isEqualTo(RoleAssignment.fingerprint(project, first, "v1"))
+    }
+
+    @Test
+    @DisplayName("팀원의 기술 점수가 하나라도 바뀌면 지문이 달라진다")
+    fun t2() {
+        val before = listOf(application(2L, "김철수", "Java" to 7), application(3L, "이영희", "React" to 8))
+        val after = listOf(application(2L, "김철수", "Java" to 8), application(3L, "이영희", "React" to 8))
+
+        assertThat(RoleAssignment.fingerprint(project, after, "v1"))
+            .isNotEqualTo(RoleAssignment.fingerprint(project, before, "v1"))
+    }
+
+    @Test
+    @DisplayName("팀원이 바뀌거나 프롬프트 버전이 바뀌면 지문이 달라진다")
+    fun t3() {
+        val team = listOf(application(2L, "김철수", "Java" to 7))
+        val grown = team + application(4L, "정민호", "Java" to 7)
+
+        val fingerprint = RoleAssignment.fingerprint(project, team, "v1")
+
+        assertThat(RoleAssignment.fingerprint(project, grown, "v1")).isNotEqualTo(fingerprint)
+        assertThat(RoleAssignment.fingerprint(project, team, "v2")).isNotEqualTo(fingerprint)
+        assertThat(fingerprint).hasSize(64)
+    }
+
+    private fun application(userId: Long, nickname: String, vararg skills: Pair<String, Int>): Application =
+        Application(User(userId, "user$userId", nickname), project).apply {
+            skills.forEach { (techName, score) -> skillScore.add(SkillScore(this, techName, score)) }
+        }
+}
@@ -0,0 +1,72 @@
+package com.devmatch.backend.domain.analysis.parser
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import java.math.BigDecimal
+
+class AnalysisResponseParserTest {
+    private val meterRegistry = SimpleMeterRegistry()
+    private val parser = AnalysisResponseParser(meterRegistry)
+
+    @Test
+    @DisplayName("스키마대로 온 JSON은 그대로 파싱한다")
+    fun t1() {
+        val parsed = parser.parse("""{"score": 78.5, "reason": "백엔드 전문가"}""")
+
+        assertThat(parsed!!.score).isEqualByComparingTo(BigDecimal("78.50"))
+        assertThat(parsed.reason).isEqualTo("백엔드 전문가")
+        assertThat(parsed.outcome).isEqualTo(AnalysisResponseParser.Outcome.STRICT)
+    }
+
+    @Test
+    @DisplayName("설명이 붙은 코드 블록, 작은따옴표, 문자열 점수는 로컬에서 복구한다")
+    fun t2() {
+        val fenced = parser.parse("분석 결과입니다.\n```json\n{\"score\": \"72점\", \"reason\": \"React 숙련자\"}\n```")
+        val singleQuoted = parser.parse("{'score': 65, 'reason': '기본기가 탄탄함',}")
+
+        assertThat(fenced!!.score).isEqualByComparingTo(BigDecimal("72.00"))
+        assertThat(fenced.outcome).isEqualTo(AnalysisResponseParser.Outcome.REPAIRED)
+        assertThat(singleQuoted!!.reason).isEqualTo("기본기가 탄탄함")
+    }
+
+    @Test
+    @DisplayName("예전 \"점수|이유\" 형식과 항목 이름을 붙인 답변도 복구한다")
+    fun t3() {
+        val delimited = parser.parse("분석 결과: 58.00|기본기가 탄탄하여 빠르게 습득 가능")
+        val labeled = parser.parse("점수: 81\n이유: 풀스택 역량")
+
+        assertThat(delimited!!.score).isEqualByComparingTo(BigDecimal("58.00"))
+        assertThat(delimited.reason).isEqualTo("기본기가 탄탄하여 빠르게 습득 가능")
+        assertThat(labeled!!.score).isEqualByComparingTo(BigDecimal("81.00"))
+        assertThat(labeled.reason).isEqualTo("풀스택 역량")
+    }
+
+    @Test
+    @DisplayName("숫자가 아니거나 범위를 벗어난 점수, 빈 이유는 복구하지 않고 재요청 대상으로 남긴다")
+    fun t4() {
+        assertThat(parser.parse("""{"score": "높음", "reason": "좋음"}""")).isNull()
+        assertThat(parser.parse("""{"score": 150.00, "reason": "좋음"}""")).isNull()
+        assertThat(parser.parse("""{"score": -5, "reason": "좋음"}""")).isNull()
+        assertThat(parser.parse("""{"score": 70.00, "reason": ""}""")).isNull()
+        assertThat(parser.parse("잘 모르겠습니다")).isNull()
+    }
+
+    @Test
+    @DisplayName("25점 미만은 최소 점수(45점)로 조정한다")
+    fun t5() {
+        assertThat(parser.parse("""{"score": 10, "reason": "학습 의지"}""")!!.score)
+            .isEqualByComparingTo(BigDecimal("45.00"))
+    }
+
+    @Test
+    @DisplayName("파싱 결과별 횟수를 지표로 남긴다")
+    fun t6() {
+        parser.record(AnalysisResponseParser.Outcome.STRICT)
+        parser.record(AnalysisResponseParser.Outcome.FAILED)
+
+        assertThat(meterRegistry.get("analysis.llm.parse").tag("outcome", "strict").counter().count()).isEqualTo(1.0)
+        assertThat(meterRegistry.get("analysis.llm.parse").tag("outcome", "failed").counter().count()).isEqualTo(1.0)
+    }
+}
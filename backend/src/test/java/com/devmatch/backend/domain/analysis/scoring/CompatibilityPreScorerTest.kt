@@ -0,0 +1,47 @@
+package com.devmatch.backend.domain.analysis.scoring
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import java.math.BigDecimal
+
+class CompatibilityPreScorerTest {
+    @Test
+    @DisplayName("React/Vue와 Java/Spring이 모두 5점 이상이면 하한은 80점이다")
+    fun t1() {
+        val floor = CompatibilityPreScorer.evaluate(listOf("react" to 5, "java" to 6))
+
+        assertThat(floor!!.minimum).isEqualByComparingTo("80")
+    }
+
+    @Test
+    @DisplayName("프론트엔드나 백엔드 한쪽이 7점 이상이면 하한은 75점이다")
+    fun t2() {
+        assertThat(CompatibilityPreScorer.evaluate(listOf("vue" to 8, "java" to 2))!!.minimum).isEqualByComparingTo("75")
+        assertThat(CompatibilityPreScorer.evaluate(listOf("spring" to 7))!!.minimum).isEqualByComparingTo("75")
+    }
+
+    @Test
+    @DisplayName("프롬프트에 없는 기술이나 초보자는 하한 없이 LLM 점수를 그대로 쓴다")
+    fun t3() {
+        assertThat(CompatibilityPreScorer.evaluate(listOf("angular" to 9, "kotlin" to 9))).isNull()
+        assertThat(CompatibilityPreScorer.evaluate(listOf("java" to 1, "react" to 4))).isNull()
+        assertThat(CompatibilityPreScorer.evaluate(emptyList())).isNull()
+    }
+
+    @Test
+    @DisplayName("LLM 점수가 하한보다 낮을 때만 하한으로 올리고, 올렸는지 여부를 지표로 남긴다")
+    fun t4() {
+        val meterRegistry = SimpleMeterRegistry()
+        val scorer = CompatibilityPreScorer(meterRegistry, true)
+        val floor = CompatibilityPreScorer.Floor(BigDecimal("75.00"), "백엔드 전문가(Java/Spring 7점+)")
+
+        assertThat(scorer.apply(floor, BigDecimal("68.50"))).isEqualByComparingTo("75")
+        assertThat(scorer.apply(floor, BigDecimal("82.00"))).isEqualByComparingTo("82")
+        assertThat(scorer.apply(null, BigDecimal("50.00"))).isEqualByComparingTo("50")
+
+        assertThat(meterRegistry.get("analysis.prescore").tag("outcome", "raised").counter().count()).isEqualTo(1.0)
+        assertThat(meterRegistry.get("analysis.prescore").tag("outcome", "satisfied").counter().count()).isEqualTo(1.0)
+    }
+}
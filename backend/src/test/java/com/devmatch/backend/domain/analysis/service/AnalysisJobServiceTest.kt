@@ -0,0 +1,229 @@
+package com.devmatch.backend.domain.analysis.service
+
+import com.devmatch.backend.domain.analysis.dto.BulkAnalysisResponse
+import com.devmatch.backend.domain.analysis.job.AnalysisJob
+import com.devmatch.backend.domain.analysis.job.AnalysisJobStatus
+import com.devmatch.backend.domain.analysis.repository.AnalysisJobRepository
+import com.devmatch.backend.domain.analysis.repository.AnalysisRepository
+import com.fasterxml.jackson.databind.ObjectMapper
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.assertj.core.api.Assertions.assertThat
+import org.assertj.core.api.Assertions.assertThatThrownBy
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.mockito.BDDMockito.given
+import org.mockito.Mockito.mock
+import org.mockito.Mockito.times
+import org.mockito.Mockito.verify
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.context.SpringBootTest
+import org.springframework.test.context.ActiveProfiles
+import org.springframework.transaction.PlatformTransactionManager
+import java.math.BigDecimal
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.RejectedExecutionException
+import java.util.concurrent.TimeUnit
+
+// LLM 호출(AnalysisService, BulkAnalysisService)은 목으로 막아 두고 대기열 제한, 중복 요청 처리, 인스턴스 간 상태 공유, 중단된 작업 정리를 검증
+// 작업 상태는 DB에 있으므로 서비스를 여러 개 만들어 인스턴스 여러 개를 흉내 낸다
+@ActiveProfiles("test")
+@SpringBootTest
+class AnalysisJobServiceTest {
+    @Autowired
+    private lateinit var analysisJobRepository: AnalysisJobRepository
+    @Autowired
+    private lateinit var analysisRepository: AnalysisRepository
+    @Autowired
+    private lateinit var transactionManager: PlatformTransactionManager
+
+    @Autowired
+    private lateinit var objectMapper: ObjectMapper
+
+    private val analysisService: AnalysisService = mock(AnalysisService::class.java)
+    private val bulkAnalysisService: BulkAnalysisService = mock(BulkAnalysisService::class.java)
+
+    // 워커가 이 래치를 기다리는 동안 작업은 RUNNING/QUEUED 상태로 남는다
+    private val release = CountDownLatch(1)
+
+    private val services = mutableListOf<AnalysisJobService>()
+
+    @AfterEach
+    fun cleanup() {
+        release.countDown()
+        services.forEach { it.shutdown() }
+        analysisJobRepository.deleteAll()
+    }
+
+    @Test
+    @DisplayName("워커와 대기열이 모두 차면 RejectedExecutionException(503)으로 거절하고, 거절된 지원서는 나중에 다시 요청할 수 있다")
+    fun t1() {
+        blockAnalysis(1, 2, 3)
+        val service = service(workers = 1, queueCapacity = 1)
+
+        service.submit(1) // 워커에서 실행
+        val queued = service.submit(2) // 대기열
+
+        assertThatThrownBy { service.submit(3) }
+            .isInstanceOf(RejectedExecutionException::class.java)
+            .hasMessageContaining("대기열이 가득 찼습니다")
+
+        release.countDown()
+        awaitFinished(service, queued)
+
+        assertThat(service.submit(3).targetId).isEqualTo(3L)
+    }
+
+    @Test
+    @DisplayName("같은 지원서에 여러 인스턴스로 동시에 들어온 요청은 모두 같은 작업을 받고 LLM 분석은 한 번만 실행된다")
+    fun t2() {
+        blockAnalysis(1)
+        val instances = listOf(service(workers = 4, queueCapacity = 10), service(workers = 4, queueCapacity = 10))
+        val requests = 16
+        val start = CountDownLatch(1)
+        val pool = Executors.newFixedThreadPool(requests)
+
+        try {
+            val futures = (1..requests).map { i ->
+                pool.submit<AnalysisJob> {
+                    start.await()
+                    instances[i % 2].submit(1)
+                }
+            }
+            start.countDown()
+
+            val jobs = futures.map { it.get(5, TimeUnit.SECONDS) }
+
+            assertThat(jobs.map { it.id }.distinct()).hasSize(1)
+
+            // 등록하지 않은 인스턴스에서도 조회된다
+            instances.forEach { assertThat(it.getJob(jobs.first().id).jobId).isEqualTo(jobs.first().id) }
+
+            release.countDown()
+            awaitFinished(instances[0], jobs.first())
+        } finally {
+            pool.shutdownNow()
+        }
+
+        verify(analysisService, times(1)).createAnalysisResult(1)
+    }
+
+    @Test
+    @DisplayName("끝난 작업은 보관 시간 동안 조회되고, 같은 지원서를 다시 요청하면 새 작업이 만들어진다")
+    fun t3() {
+        blockAnalysis(1)
+        release.countDown()
+        val service = service(workers = 1, queueCapacity = 1, retentionMinutes = 30)
+
+        val first = service.submit(1)
+        awaitFinished(service, first)
+
+        val finished = service.getJob(first.id)
+        assertThat(finished.status).isEqualTo(AnalysisJobStatus.FAILED)
+        assertThat(finished.errorMessage).isEqualTo("테스트용 분석 실패")
+        assertThat(service.submit(1).id).isNotEqualTo(first.id)
+    }
+
+    @Test
+    @DisplayName("보관 시간이 지난 끝난 작업은 정리되어 더 이상 조회되지 않는다")
+    fun t4() {
+        blockAnalysis(1)
+        release.countDown()
+        val service = service(workers = 1, queueCapacity = 1, retentionMinutes = 0)
+
+        val first = service.submit(1)
+        awaitFinished(service, first)
+        Thread.sleep(5)
+
+        service.sweep()
+
+        assertThatThrownBy { service.getJob(first.id) }
+            .isInstanceOf(NoSuchElementException::class.java)
+    }
+
+    @Test
+    @DisplayName("실행하던 인스턴스가 중단되어 heartbeat가 끊긴 작업은 다른 인스턴스가 실패로 정리하고, 다시 요청할 수 있다")
+    fun t5() {
+        blockAnalysis(1)
+        val crashed = service(workers = 1, queueCapacity = 1)
+        val survivor = service(workers = 1, queueCapacity = 1, staleSeconds = 0)
+
+        // 워커가 분석을 기다리는 동안 heartbeat를 보내지 않아 중단된 인스턴스처럼 보이게 한다
+        val orphan = crashed.submit(1)
+        Thread.sleep(5)
+
+        survivor.sweep()
+
+        val swept = survivor.getJob(orphan.id)
+        assertThat(swept.status).isEqualTo(AnalysisJobStatus.FAILED)
+        assertThat(swept.errorMessage).contains("서버가 중단")
+
+        release.countDown()
+        assertThat(survivor.submit(1).id).isNotEqualTo(orphan.id)
+    }
+
+    private fun service(
+        workers: Int,
+        queueCapacity: Int,
+        retentionMinutes: Long = 30,
+        staleSeconds: Long = 60
+    ): AnalysisJobService =
+        AnalysisJobService(
+            analysisService, bulkAnalysisService, analysisJobRepository, analysisRepository, objectMapper,
+            SimpleMeterRegistry(), transactionManager, workers, queueCapacity, retentionMinutes, staleSeconds
+        ).also { services.add(it) }
+
+    // 결과 엔티티를 만들 필요가 없도록 래치가 풀리면 실패로 끝낸다
+    private fun blockAnalysis(vararg applicationIds: Long) {
+        applicationIds.forEach { applicationId ->
+            given(analysisService.createAnalysisResult(applicationId)).willAnswer {
+                release.await(5, TimeUnit.SECONDS)
+                throw IllegalStateException("테스트용 분석 실패")
+            }
+        }
+    }
+
+    private fun awaitFinished(service: AnalysisJobService, job: AnalysisJob) {
+        val deadline = System.currentTimeMillis() + 5_000
+
+        while (!service.getJob(job.id).status.isFinished && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10)
+        }
+
+        assertThat(service.getJob(job.id).status.isFinished).isTrue()
+    }
+
+    @Test
+    @DisplayName("일괄 분석 작업은 프로젝트당 하나만 진행되고, 끝나면 지원서별 결과를 작업으로 조회할 수 있다")
+    fun t6() {
+        val bulkResult = BulkAnalysisResponse.of(
+            10,
+            listOf(
+                BulkAnalysisResponse.Item(1, success = true, compatibilityScore = BigDecimal("80.00"), compatibilityReason = "좋음"),
+                BulkAnalysisResponse.Item(2, success = false, errorMessage = "timeout")
+            )
+        )
+        given(bulkAnalysisService.analyzePendingApplications(10)).willAnswer {
+            release.await(5, TimeUnit.SECONDS)
+            bulkResult
+        }
+        val service = service(workers = 2, queueCapacity = 2)
+
+        val first = service.submitBulk(10)
+        assertThat(service.submitBulk(10).id).isEqualTo(first.id)
+
+        // 같은 ID의 지원서 분석과는 대상이 달라 따로 진행된다
+        blockAnalysis(10)
+        assertThat(service.submit(10).id).isNotEqualTo(first.id)
+
+        release.countDown()
+        awaitFinished(service, first)
+
+        val finished = service.getJob(first.id)
+        assertThat(finished.status).isEqualTo(AnalysisJobStatus.COMPLETED)
+        assertThat(finished.projectId).isEqualTo(10L)
+        assertThat(finished.bulkResult).isEqualTo(bulkResult)
+        verify(bulkAnalysisService, times(1)).analyzePendingApplications(10)
+    }
+}
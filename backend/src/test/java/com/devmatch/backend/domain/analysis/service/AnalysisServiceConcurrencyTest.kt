@@ -0,0 +1,111 @@
+package com.devmatch.backend.domain.analysis.service
+
+import com.devmatch.backend.domain.analysis.repository.AnalysisRepository
+import com.devmatch.backend.domain.application.entity.Application
+import com.devmatch.backend.domain.application.repository.ApplicationRepository
+import com.devmatch.backend.domain.project.entity.Project
+import com.devmatch.backend.domain.project.repository.ProjectRepository
+import com.devmatch.backend.domain.user.entity.User
+import com.devmatch.backend.domain.user.repository.UserRepository
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.mockito.ArgumentMatchers.anyString
+import org.mockito.BDDMockito.given
+import org.springframework.ai.chat.model.ChatModel
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.context.SpringBootTest
+import org.springframework.test.context.ActiveProfiles
+import org.springframework.test.context.bean.override.mockito.MockitoBean
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.atomic.AtomicInteger
+
+// 같은 지원서의 분석이 동시에 저장되어도 결과가 하나만 남는지 검증
+// 각 요청이 자기 트랜잭션으로 커밋되어야 하므로 테스트 자체에는 @Transactional을 붙이지 않는다
+@ActiveProfiles("test")
+@SpringBootTest
+class AnalysisServiceConcurrencyTest {
+    @Autowired
+    private lateinit var analysisService: AnalysisService
+    @Autowired
+    private lateinit var analysisRepository: AnalysisRepository
+    @Autowired
+    private lateinit var applicationRepository: ApplicationRepository
+    @Autowired
+    private lateinit var projectRepository: ProjectRepository
+    @Autowired
+    private lateinit var userRepository: UserRepository
+
+    @MockitoBean
+    private lateinit var chatModel: ChatModel
+
+    private lateinit var creator: User
+    private lateinit var applicant: User
+    private lateinit var project: Project
+    private lateinit var application: Application
+
+    @BeforeEach
+    fun setup() {
+        creator = userRepository.save(User("analysis-concurrency-creator", "pwd", "creator", null))
+        applicant = userRepository.save(User("analysis-concurrency-applicant", "pwd", "applicant", null))
+        project = projectRepository.save(
+            Project(
+                title = "분석 동시성 테스트",
+                description = "분석 결과 중복 저장 방지",
+                techStack = "Java",
+                teamSize = 3,
+                creator = creator,
+                durationWeeks = 4
+            )
+        )
+        application = applicationRepository.save(Application(user = applicant, project = project))
+
+        // 모든 요청이 읽기 트랜잭션의 "아직 분석 안 됨" 확인을 통과한 뒤에 저장하도록 LLM 응답을 잠시 늦춘다
+        given(chatModel.call(anyString())).willAnswer {
+            Thread.sleep(200)
+            """{"score": 70.00, "reason": "동시성 테스트"}"""
+        }
+    }
+
+    @AfterEach
+    fun cleanup() {
+        applicationRepository.deleteById(application.id!!)
+        projectRepository.deleteById(project.id!!)
+        userRepository.deleteAll(listOf(applicant, creator))
+    }
+
+    @Test
+    @DisplayName("같은 지원서의 분석이 동시에 끝나도 결과는 하나만 저장되고 나머지는 거절된다")
+    fun t1() {
+        val before = analysisRepository.count()
+        val start = CountDownLatch(1)
+        val succeeded = AtomicInteger()
+        val rejected = AtomicInteger()
+
+        Executors.newFixedThreadPool(REQUESTS).use { executor ->
+            repeat(REQUESTS) {
+                executor.submit {
+                    start.await()
+                    try {
+                        analysisService.createAnalysisResult(application.id!!)
+                        succeeded.incrementAndGet()
+                    } catch (e: IllegalArgumentException) {
+                        rejected.incrementAndGet()
+                    }
+                }
+            }
+            start.countDown()
+        }
+
+        assertThat(succeeded.get()).isEqualTo(1)
+        assertThat(rejected.get()).isEqualTo(REQUESTS - 1)
+        assertThat(analysisRepository.count()).isEqualTo(before + 1)
+    }
+
+    companion object {
+        private const val REQUESTS = 5
+    }
+}
@@ -0,0 +1,68 @@
+package com.devmatch.backend.domain.analysis.service
+
+import com.devmatch.backend.domain.analysis.dto.PendingRoleAssignment
+import com.devmatch.backend.domain.analysis.service.AnalysisService.Companion.parseRoleAssignmentMembers
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+
+// LLM 역할 분배 응답의 각 줄을 승인된 팀원과 짝짓는 파싱 검증
+class AnalysisServiceRoleAssignmentTest {
+    private val members = listOf(
+        PendingRoleAssignment.Member(1, "김철수"),
+        PendingRoleAssignment.Member(2, "이영희"),
+        PendingRoleAssignment.Member(3, "정민호")
+    )
+
+    @Test
+    @DisplayName("번호, 글머리표, 굵게 표시된 줄을 모두 팀원과 짝짓는다")
+    fun t1() {
+        val content = """
+            역할 분배 결과입니다.
+            1. 김철수 - 백엔드 | Spring 7점으로 가장 높음
+            - 이영희 - 프론트엔드 | React 경험
+            * **정민호** - **PM** | 일정 관리 - 협업 경험이 많음
+        """.trimIndent()
+
+        val parsed = parseRoleAssignmentMembers(content, members)
+
+        assertThat(parsed.map { listOf(it.userId, it.nickname, it.role, it.reason) }).containsExactly(
+            listOf(1L, "김철수", "백엔드", "Spring 7점으로 가장 높음"),
+            listOf(2L, "이영희", "프론트엔드", "React 경험"),
+            listOf(3L, "정민호", "PM", "일정 관리 - 협업 경험이 많음")
+        )
+    }
+
+    @Test
+    @DisplayName("'팀원 N:' 접두사와 이름 뒤의 부가 설명은 떼고 팀원을 찾는다")
+    fun t2() {
+        val content = """
+            팀원 1: 김철수 - 백엔드 | 서버 경험
+            2. 팀원 2. 이영희(React 8점) - 프론트엔드 | 화면 구현
+        """.trimIndent()
+
+        val parsed = parseRoleAssignmentMembers(content, members)
+
+        assertThat(parsed.map { it.userId }).containsExactly(1L, 2L)
+        assertThat(parsed[1].nickname).isEqualTo("이영희")
+    }
+
+    @Test
+    @DisplayName("팀원이 아닌 이름, 형식을 벗어난 줄, 이미 짝지은 팀원의 중복 줄은 건너뛴다")
+    fun t3() {
+        val content = """
+            박민수 - 디자이너 | 팀원이 아님
+            김철수는 백엔드를 맡습니다
+            김철수 - 백엔드 | 첫 번째
+            김철수 - 인프라 | 중복
+        """.trimIndent()
+
+        val parsed = parseRoleAssignmentMembers(content, members)
+
+        assertThat(parsed).singleElement()
+            .satisfies({
+                assertThat(it.userId).isEqualTo(1L)
+                assertThat(it.role).isEqualTo("백엔드")
+            })
+    }
+}
@@ -143,4 +143,16 @@ class ApplicationRepositoryTest {
         assertThat(application[0].id).isEqualTo(application1.id)
         assertThat(application[0].status).isEqualTo(ApplicationStatus.PENDING)
     }
+
+    @Test
+    @DisplayName("findAllUnanalyzedByProjectIdAndStatus")
+    fun t4() {
+        val applications = applicationRepository.findAllUnanalyzedByProjectIdAndStatus(
+            project1.id!!,
+            ApplicationStatus.PENDING
+        )
+
+        assertThat(applications.map { it.id }).containsExactlyInAnyOrder(application1.id, application2.id)
+        assertThat(applications).allMatch { it.analysisResult == null }
+    }
 }
\ No newline at end of file
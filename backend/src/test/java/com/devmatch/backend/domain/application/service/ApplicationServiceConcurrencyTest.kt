@@ -0,0 +1,127 @@
+package com.devmatch.backend.domain.application.service
+
+import com.devmatch.backend.domain.application.dto.request.ApplicationStatusUpdateRequestDto
+import com.devmatch.backend.domain.application.entity.Application
+import com.devmatch.backend.domain.application.enums.ApplicationStatus
+import com.devmatch.backend.domain.application.repository.ApplicationRepository
+import com.devmatch.backend.domain.project.entity.Project
+import com.devmatch.backend.domain.project.entity.ProjectStatus
+import com.devmatch.backend.domain.project.repository.ProjectRepository
+import com.devmatch.backend.domain.user.entity.User
+import com.devmatch.backend.domain.user.repository.UserRepository
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.context.SpringBootTest
+import org.springframework.test.context.ActiveProfiles
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.atomic.AtomicInteger
+
+// 여러 요청이 동시에 지원서를 승인해도 정원을 넘지 않는지 검증
+// 각 요청이 자기 트랜잭션으로 커밋되어야 하므로 테스트 자체에는 @Transactional을 붙이지 않는다
+@ActiveProfiles("test")
+@SpringBootTest
+class ApplicationServiceConcurrencyTest {
+    @Autowired
+    private lateinit var applicationService: ApplicationService
+    @Autowired
+    private lateinit var applicationRepository: ApplicationRepository
+    @Autowired
+    private lateinit var projectRepository: ProjectRepository
+    @Autowired
+    private lateinit var userRepository: UserRepository
+
+    private lateinit var creator: User
+    private lateinit var project: Project
+    private val applicants = mutableListOf<User>()
+    private val applications = mutableListOf<Application>()
+
+    @BeforeEach
+    fun setup() {
+        creator = userRepository.save(User("concurrency-creator", "pwd", "creator", null))
+        project = projectRepository.save(
+            Project(
+                title = "동시성 테스트",
+                description = "정원 3명",
+                techStack = "Java",
+                teamSize = TEAM_SIZE,
+                creator = creator,
+                durationWeeks = 4
+            )
+        )
+
+        repeat(APPLICANTS) { index ->
+            val applicant = userRepository.save(User("concurrency-applicant-$index", "pwd", "applicant$index", null))
+            applicants.add(applicant)
+            applications.add(applicationRepository.save(Application(user = applicant, project = project)))
+        }
+    }
+
+    @AfterEach
+    fun cleanup() {
+        applicationRepository.deleteAllById(applications.map { it.id!! })
+        projectRepository.deleteById(project.id!!)
+        userRepository.deleteAll(applicants + creator)
+    }
+
+    @Test
+    @DisplayName("서로 다른 지원서를 동시에 승인해도 정원만큼만 승인된다")
+    fun t1() {
+        val succeeded = approveConcurrently(applications.map { it.id!! })
+
+        val updated = projectRepository.findById(project.id!!).orElseThrow()
+        val approved = applicationRepository.findAllByProjectId(project.id!!)
+            .count { it.status == ApplicationStatus.APPROVED }
+
+        assertThat(succeeded).isEqualTo(TEAM_SIZE)
+        assertThat(approved).isEqualTo(TEAM_SIZE)
+        assertThat(updated.currentTeamSize).isEqualTo(TEAM_SIZE)
+        assertThat(updated.status).isEqualTo(ProjectStatus.COMPLETED)
+    }
+
+    @Test
+    @DisplayName("같은 지원서를 동시에 승인해도 한 번만 반영된다")
+    fun t2() {
+        val applicationId = applications.first().id!!
+
+        val succeeded = approveConcurrently(List(APPLICANTS) { applicationId })
+
+        val updated = projectRepository.findById(project.id!!).orElseThrow()
+
+        assertThat(succeeded).isEqualTo(1)
+        assertThat(updated.currentTeamSize).isEqualTo(1)
+        assertThat(updated.status).isEqualTo(ProjectStatus.RECRUITING)
+    }
+
+    private fun approveConcurrently(applicationIds: List<Long>): Int {
+        val start = CountDownLatch(1)
+        val succeeded = AtomicInteger()
+
+        Executors.newFixedThreadPool(THREADS).use { executor ->
+            applicationIds.forEach { applicationId ->
+                executor.submit {
+                    start.await()
+                    runCatching {
+                        applicationService.updateApplicationStatus(
+                            applicationId,
+                            ApplicationStatusUpdateRequestDto(ApplicationStatus.APPROVED)
+                        )
+                    }.onSuccess { succeeded.incrementAndGet() }
+                }
+            }
+            start.countDown()
+        }
+
+        return succeeded.get()
+    }
+
+    companion object {
+        private const val TEAM_SIZE = 3
+        private const val APPLICANTS = 20
+        private const val THREADS = 10
+    }
+}
@@ -0,0 +1,110 @@
+package com.devmatch.backend.domain.application.service
+
+import com.devmatch.backend.domain.application.app.TestJpaConfig
+import com.devmatch.backend.domain.application.entity.Application
+import com.devmatch.backend.domain.application.entity.SkillScore
+import com.devmatch.backend.domain.project.entity.Project
+import com.devmatch.backend.domain.project.service.ProjectService
+import com.devmatch.backend.domain.user.entity.User
+import com.devmatch.backend.global.outbox.DomainEventPublisher
+import com.devmatch.backend.global.rq.Rq
+import com.devmatch.backend.global.web.ResourceVersions
+import jakarta.persistence.EntityManagerFactory
+import org.assertj.core.api.Assertions.assertThat
+import org.hibernate.SessionFactory
+import org.hibernate.stat.Statistics
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager
+import org.springframework.context.annotation.Import
+import org.springframework.test.context.bean.override.mockito.MockitoBean
+
+// 지원서 목록 조회가 지원서 수와 관계없이 일정한 수의 쿼리로 끝나는지 Hibernate 통계로 검증
+@Import(TestJpaConfig::class, ApplicationService::class)
+@DataJpaTest(properties = ["spring.jpa.properties.hibernate.generate_statistics=true"])
+class ApplicationServiceQueryCountTest {
+    @Autowired
+    private lateinit var applicationService: ApplicationService
+    @Autowired
+    private lateinit var entityManager: TestEntityManager
+    @Autowired
+    private lateinit var entityManagerFactory: EntityManagerFactory
+
+    @MockitoBean
+    private lateinit var projectService: ProjectService
+    @MockitoBean
+    private lateinit var rq: Rq
+    @MockitoBean
+    private lateinit var resourceVersions: ResourceVersions
+    @MockitoBean
+    private lateinit var domainEventPublisher: DomainEventPublisher
+
+    private lateinit var statistics: Statistics
+    private lateinit var project: Project
+    private lateinit var applicant: User
+
+    @BeforeEach
+    fun setup() {
+        val creator = entityManager.persist(User("creator@test.com", "pwd", "creator", "imgUrl"))
+        project = entityManager.persist(
+            Project(
+                title = "프로젝트",
+                description = "프로젝트입니다.",
+                techStack = "Java, Spring",
+                teamSize = 5,
+                creator = creator,
+                durationWeeks = 4
+            )
+        )
+        applicant = entityManager.persist(User("applicant@test.com", "pwd", "applicant", "imgUrl"))
+
+        // 지원자가 서로 달라야 지원자 EAGER 로딩의 N+1도 드러난다
+        repeat(10) { index ->
+            val user = if (index == 0) applicant else entityManager.persist(
+                User("user$index@test.com", "pwd", "user$index", "imgUrl")
+            )
+            val application = Application(user = user, project = project)
+            application.skillScore.add(SkillScore(application = application, techName = "Java", score = index % 10 + 1))
+            application.skillScore.add(SkillScore(application = application, techName = "Spring", score = 5))
+            entityManager.persist(application)
+        }
+
+        entityManager.flush()
+        entityManager.clear()
+
+        statistics = entityManagerFactory.unwrap(SessionFactory::class.java).statistics
+        statistics.clear()
+    }
+
+    @Test
+    @DisplayName("프로젝트 지원서 목록은 지원서 조회 1회 + 기술 점수 조회 1회로 끝난다")
+    fun t1() {
+        val responses = applicationService.getApplicationsByProjectId(project.id!!, 0, 100)
+
+        assertThat(responses).hasSize(10)
+        assertThat(responses).allMatch { it.techName == listOf("Java", "Spring") && it.score.size == 2 }
+        assertThat(statistics.prepareStatementCount).isEqualTo(2)
+    }
+
+    @Test
+    @DisplayName("프로젝트 지원서 목록은 페이지 크기만큼만 조회한다")
+    fun t2() {
+        val responses = applicationService.getApplicationsByProjectId(project.id!!, 1, 4)
+
+        assertThat(responses).hasSize(4)
+        assertThat(statistics.prepareStatementCount).isEqualTo(2)
+    }
+
+    @Test
+    @DisplayName("사용자 지원서 목록도 지원서 조회 1회 + 기술 점수 조회 1회로 끝난다")
+    fun t3() {
+        val responses = applicationService.getApplicationsByUserId(applicant.id!!, 0, 100)
+
+        assertThat(responses).hasSize(1)
+        assertThat(responses[0].nickname).isEqualTo("applicant")
+        assertThat(statistics.prepareStatementCount).isEqualTo(2)
+    }
+}
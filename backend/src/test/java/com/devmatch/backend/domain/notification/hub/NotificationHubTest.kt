@@ -0,0 +1,103 @@
+package com.devmatch.backend.domain.notification.hub
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.springframework.http.codec.ServerSentEvent
+import reactor.core.Disposable
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.RejectedExecutionException
+import java.util.concurrent.atomic.AtomicReference
+
+class NotificationHubTest {
+    private val meterRegistry = SimpleMeterRegistry()
+
+    private val hub = NotificationHub(meterRegistry, 2, 60, 600)
+
+    private fun event(data: String) = ServerSentEvent.builder(data).event("test").build()
+
+    private fun connections(): Double = meterRegistry.get("notification.connections").gauge().value()
+
+    @Test
+    @DisplayName("알림은 받는 사용자의 연결에만 전달된다")
+    fun t1() {
+        val received1 = CopyOnWriteArrayList<String>()
+        val received2 = CopyOnWriteArrayList<String>()
+
+        val subscription1 = hub.subscribe(1L).subscribe { it.data()?.let(received1::add) }
+        val subscription2 = hub.subscribe(2L).subscribe { it.data()?.let(received2::add) }
+
+        hub.send(1L, event("첫 번째"))
+        hub.send(3L, event("연결 없음"))
+
+        assertThat(received1).containsExactly("", "첫 번째")
+        assertThat(received2).containsExactly("")
+
+        subscription1.dispose()
+        subscription2.dispose()
+    }
+
+    @Test
+    @DisplayName("연결이 끊기면 연결 수가 줄고, 사용자당 연결 수 상한을 넘으면 구독이 거절된다")
+    fun t2() {
+        val first = connect(1L).getOrThrow()
+        val second = connect(1L).getOrThrow()
+
+        assertThat(connections()).isEqualTo(2.0)
+        assertThat(connect(1L).exceptionOrNull()).isInstanceOf(RejectedExecutionException::class.java)
+        assertThat(connections()).isEqualTo(2.0)
+
+        first.dispose()
+        second.dispose()
+
+        assertThat(connections()).isEqualTo(0.0)
+        connect(1L).getOrThrow().dispose()
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 연결이 동시에 몰려도 상한만큼만 열리고 나머지는 거절한다")
+    fun t3() {
+        val start = CountDownLatch(1)
+
+        val results = Executors.newVirtualThreadPerTaskExecutor().use { executor ->
+            val futures = (1..20).map {
+                executor.submit<Boolean> {
+                    start.await()
+                    connect(1L).isSuccess
+                }
+            }
+            start.countDown()
+            futures.map { it.get() }
+        }
+
+        assertThat(results.count { it }).isEqualTo(2)
+        assertThat(connections()).isEqualTo(2.0)
+    }
+
+    @Test
+    @DisplayName("구독하지 않은 Flux는 연결 자리를 차지하지 않는다")
+    fun t4() {
+        repeat(5) { hub.subscribe(1L) }
+
+        assertThat(connections()).isEqualTo(0.0)
+
+        val first = connect(1L).getOrThrow()
+        val second = connect(1L).getOrThrow()
+
+        assertThat(connections()).isEqualTo(2.0)
+
+        first.dispose()
+        second.dispose()
+    }
+
+    // 자리 확보는 구독하는 스레드에서 바로 일어나므로, 거절되면 subscribe가 돌아오기 전에 오류가 전달된다
+    private fun connect(userId: Long): Result<Disposable> {
+        val error = AtomicReference<Throwable>()
+        val subscription = hub.subscribe(userId).subscribe({}, error::set)
+
+        return error.get()?.let { Result.failure(it) } ?: Result.success(subscription)
+    }
+}
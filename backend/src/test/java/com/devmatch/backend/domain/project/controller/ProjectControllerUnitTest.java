@@ -13,21 +13,27 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.devmatch.backend.domain.application.dto.response.ApplicationDetailResponseDto;
 import com.devmatch.backend.domain.application.enums.ApplicationStatus;
 import com.devmatch.backend.domain.application.service.ApplicationService;
+import com.devmatch.backend.domain.project.cache.ProjectDetailCache;
 import com.devmatch.backend.domain.project.dto.ProjectApplyRequest;
 import com.devmatch.backend.domain.project.dto.ProjectCreateRequest;
 import com.devmatch.backend.domain.project.dto.ProjectDetailResponse;
+import com.devmatch.backend.domain.project.dto.ProjectPageResponse;
+import com.devmatch.backend.domain.project.dto.ProjectSearchRequest;
 import com.devmatch.backend.domain.project.dto.ProjectStatusUpdateRequest;
 import com.devmatch.backend.domain.project.entity.ProjectStatus;
 import com.devmatch.backend.domain.project.service.ProjectService;
 import com.devmatch.backend.domain.user.entity.User;
 import com.devmatch.backend.global.rq.Rq;
 import com.devmatch.backend.global.security.CustomAuthenticationFilter;
+import com.devmatch.backend.global.web.ResourceVersions;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.LocalDateTime;
 import java.util.Collections;
@@ -46,6 +52,8 @@ import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfi
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -61,6 +69,7 @@ import org.springframework.test.web.servlet.MockMvc;
         classes = CustomAuthenticationFilter.class
     )
 )
+@Import(ResourceVersions.class)
 class ProjectControllerUnitTest {
 
   @Autowired
@@ -131,37 +140,68 @@ class ProjectControllerUnitTest {
   void getAllProjects_shouldReturnProjectList_whenProjectsExist() throws Exception {
     ProjectDetailResponse project1 = createProjectDetailResponse(1L, "새 프로젝트1");
     ProjectDetailResponse project2 = createProjectDetailResponse(2L, "새 프로젝트2");
-    List<ProjectDetailResponse> projectList = List.of(project1, project2);
+    ProjectPageResponse page = new ProjectPageResponse(List.of(project1, project2), "next", true);
 
-    given(projectService.getProjects()).willReturn(projectList);
+    given(projectService.getProjects(any(ProjectSearchRequest.class))).willReturn(page);
 
     mockMvc.perform(get("/projects")
             .accept(MediaType.APPLICATION_JSON))
         .andExpect(status().isOk())
         .andExpect(jsonPath("$.msg").value("프로젝트 전체 조회 성공"))
-        .andExpect(jsonPath("$.data").isArray())
-        .andExpect(jsonPath("$.data", hasSize(2)))
-        .andExpect(jsonPath("$.data[0].id").value(project1.getId()))
-        .andExpect(jsonPath("$.data[0].title").value(project1.getTitle()))
-        .andExpect(jsonPath("$.data[1].id").value(project2.getId()))
-        .andExpect(jsonPath("$.data[1].title").value(project2.getTitle()));
-
-    verify(projectService, times(1)).getProjects();
+        .andExpect(jsonPath("$.data.content").isArray())
+        .andExpect(jsonPath("$.data.content", hasSize(2)))
+        .andExpect(jsonPath("$.data.content[0].id").value(project1.getId()))
+        .andExpect(jsonPath("$.data.content[0].title").value(project1.getTitle()))
+        .andExpect(jsonPath("$.data.content[1].id").value(project2.getId()))
+        .andExpect(jsonPath("$.data.content[1].title").value(project2.getTitle()))
+        .andExpect(jsonPath("$.data.nextCursor").value("next"))
+        .andExpect(jsonPath("$.data.hasNext").value(true));
+
+    verify(projectService, times(1)).getProjects(
+        new ProjectSearchRequest(null, 20, null, null, null, null));
   }
 
   @Test
   @DisplayName("성공: 프로젝트가 하나도 없을 때 200 OK와 빈 목록을 반환한다")
   void getAllProjects_shouldReturnEmptyList_whenNoProjectsExist() throws Exception {
-    given(projectService.getProjects()).willReturn(Collections.emptyList());
+    given(projectService.getProjects(any(ProjectSearchRequest.class)))
+        .willReturn(new ProjectPageResponse(Collections.emptyList(), null, false));
 
     mockMvc.perform(get("/projects")
+            .param("status", "RECRUITING")
+            .param("tech", "Java")
+            .param("size", "10")
             .accept(MediaType.APPLICATION_JSON))
         .andExpect(status().isOk())
         .andExpect(jsonPath("$.msg").value("프로젝트 전체 조회 성공"))
-        .andExpect(jsonPath("$.data").isArray())
-        .andExpect(jsonPath("$.data", hasSize(0)));
+        .andExpect(jsonPath("$.data.content").isArray())
+        .andExpect(jsonPath("$.data.content", hasSize(0)))
+        .andExpect(jsonPath("$.data.hasNext").value(false));
+
+    verify(projectService, times(1)).getProjects(
+        new ProjectSearchRequest(null, 10, ProjectStatus.RECRUITING, "Java", null, null));
+  }
+
+  @Test
+  @DisplayName("성공: 목록이 바뀌지 않았으면 같은 ETag로 다시 요청할 때 목록을 조회하지 않고 304를 반환한다")
+  void getAllProjects_shouldReturnNotModified_whenNothingChanged() throws Exception {
+    given(projectService.getProjects(any(ProjectSearchRequest.class)))
+        .willReturn(new ProjectPageResponse(Collections.emptyList(), null, false));
+
+    String etag = mockMvc.perform(get("/projects")
+            .accept(MediaType.APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andReturn()
+        .getResponse()
+        .getHeader(HttpHeaders.ETAG);
 
-    verify(projectService, times(1)).getProjects();
+    mockMvc.perform(get("/projects")
+            .header(HttpHeaders.IF_NONE_MATCH, etag)
+            .accept(MediaType.APPLICATION_JSON))
+        .andExpect(status().isNotModified())
+        .andExpect(content().string(""));
+
+    verify(projectService, times(1)).getProjects(any(ProjectSearchRequest.class));
   }
 
   @Test
@@ -169,16 +209,33 @@ class ProjectControllerUnitTest {
   void getProject_shouldReturnProject_whenIdExists() throws Exception {
     ProjectDetailResponse response = createProjectDetailResponse(1L, "새 프로젝트");
 
-    given(projectService.getProjectDetail(response.getId())).willReturn(response);
+    given(projectService.getCachedProjectDetail(response.getId()))
+        .willReturn(new ProjectDetailCache.Entry(response, "\"etag-1\""));
 
     mockMvc.perform(get("/projects/{id}", response.getId())
             .accept(MediaType.APPLICATION_JSON))
         .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, "\"etag-1\""))
         .andExpect(jsonPath("$.msg").value("프로젝트 단일 조회 성공"))
         .andExpect(jsonPath("$.data.id").value(response.getId()))
         .andExpect(jsonPath("$.data.title").value(response.getTitle()));
 
-    verify(projectService, times(1)).getProjectDetail(response.getId());
+    verify(projectService, times(1)).getCachedProjectDetail(response.getId());
+  }
+
+  @Test
+  @DisplayName("성공: If-None-Match가 현재 ETag와 같으면 본문 없이 304 Not Modified를 반환한다")
+  void getProject_shouldReturnNotModified_whenEtagMatches() throws Exception {
+    ProjectDetailResponse response = createProjectDetailResponse(1L, "새 프로젝트");
+
+    given(projectService.getCachedProjectDetail(response.getId()))
+        .willReturn(new ProjectDetailCache.Entry(response, "\"etag-1\""));
+
+    mockMvc.perform(get("/projects/{id}", response.getId())
+            .header(HttpHeaders.IF_NONE_MATCH, "\"etag-1\"")
+            .accept(MediaType.APPLICATION_JSON))
+        .andExpect(status().isNotModified())
+        .andExpect(content().string(""));
   }
 
   @Test
@@ -186,7 +243,7 @@ class ProjectControllerUnitTest {
   void getProject_shouldReturnNotFound_whenIdDoesNotExist() throws Exception {
     Long nonExistentId = 999L;
 
-    given(projectService.getProjectDetail(nonExistentId))
+    given(projectService.getCachedProjectDetail(nonExistentId))
         .willThrow(new NoSuchElementException("조회하려는 프로젝트가 없습니다"));
 
     mockMvc.perform(get("/projects/{id}", nonExistentId)
@@ -194,7 +251,7 @@ class ProjectControllerUnitTest {
         .andExpect(status().isNotFound())
         .andExpect(jsonPath("$.msg").value("조회하려는 프로젝트가 없습니다"));
 
-    verify(projectService, times(1)).getProjectDetail(nonExistentId);
+    verify(projectService, times(1)).getCachedProjectDetail(nonExistentId);
   }
 
   @Test
@@ -372,7 +429,7 @@ class ProjectControllerUnitTest {
     ApplicationDetailResponseDto application2 = createApplicationDetailResponseDto(2L, "지원자B");
     List<ApplicationDetailResponseDto> applicationList = List.of(application1, application2);
 
-    given(applicationService.getApplicationsByProjectId(projectId)).willReturn(applicationList);
+    given(applicationService.getApplicationsByProjectId(projectId, 0, 100)).willReturn(applicationList);
 
     mockMvc.perform(get("/projects/{id}/applications", projectId)
             .accept(MediaType.APPLICATION_JSON))
@@ -385,31 +442,33 @@ class ProjectControllerUnitTest {
         .andExpect(jsonPath("$.data[1].applicationId").value(application2.getApplicationId()))
         .andExpect(jsonPath("$.data[1].nickname").value(application2.getNickname()));
 
-    verify(applicationService, times(1)).getApplicationsByProjectId(projectId);
+    verify(applicationService, times(1)).getApplicationsByProjectId(projectId, 0, 100);
   }
 
   @Test
   @DisplayName("성공: 지원서가 없는 프로젝트 ID로 조회 요청 시 200 OK와 빈 목록을 반환한다")
   void getApplications_shouldReturnEmptyList_whenNoApplicationsExist() throws Exception {
     Long projectId = 2L;
-    given(applicationService.getApplicationsByProjectId(projectId)).willReturn(
+    given(applicationService.getApplicationsByProjectId(projectId, 1, 20)).willReturn(
         Collections.emptyList());
 
     mockMvc.perform(get("/projects/{id}/applications", projectId)
+            .param("page", "1")
+            .param("size", "20")
             .accept(MediaType.APPLICATION_JSON))
         .andExpect(status().isOk())
         .andExpect(jsonPath("$.msg").value("프로젝트의 지원서 전체 목록 조회 성공"))
         .andExpect(jsonPath("$.data").isArray())
         .andExpect(jsonPath("$.data", hasSize(0)));
 
-    verify(applicationService, times(1)).getApplicationsByProjectId(projectId);
+    verify(applicationService, times(1)).getApplicationsByProjectId(projectId, 1, 20);
   }
 
   @Test
   @DisplayName("실패: 존재하지 않는 프로젝트 ID로 지원서 목록 조회를 요청하면 404 Not Found를 반환한다")
   void getApplications_shouldReturnNotFound_whenProjectDoesNotExist() throws Exception {
     Long nonExistentProjectId = 999L;
-    given(applicationService.getApplicationsByProjectId(nonExistentProjectId))
+    given(applicationService.getApplicationsByProjectId(nonExistentProjectId, 0, 100))
         .willThrow(new NoSuchElementException("조회하려는 프로젝트가 없습니다"));
 
     mockMvc.perform(get("/projects/{id}/applications", nonExistentProjectId)
@@ -417,7 +476,7 @@ class ProjectControllerUnitTest {
         .andExpect(status().isNotFound())
         .andExpect(jsonPath("$.msg").value("조회하려는 프로젝트가 없습니다"));
 
-    verify(applicationService, times(1)).getApplicationsByProjectId(nonExistentProjectId);
+    verify(applicationService, times(1)).getApplicationsByProjectId(nonExistentProjectId, 0, 100);
   }
 
   @Test
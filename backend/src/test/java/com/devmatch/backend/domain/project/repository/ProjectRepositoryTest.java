@@ -2,14 +2,21 @@ package com.devmatch.backend.domain.project.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.devmatch.backend.domain.project.dto.ProjectListRow;
+import com.devmatch.backend.domain.project.dto.ProjectTechRow;
 import com.devmatch.backend.domain.project.entity.Project;
+import com.devmatch.backend.domain.project.entity.ProjectStatus;
+import com.devmatch.backend.domain.project.entity.ProjectTech;
 import com.devmatch.backend.domain.user.entity.User;
 import com.devmatch.backend.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
 import java.util.List;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 
 @DataJpaTest
 class ProjectRepositoryTest {
@@ -20,6 +27,9 @@ class ProjectRepositoryTest {
   @Autowired
   private UserRepository userRepository;
 
+  @Autowired
+  private EntityManager entityManager;
+
   @Test
   @DisplayName("성공: 사용자 ID로 프로젝트 목록을 조회하면, 해당 사용자의 프로젝트만 반환한다")
   void findAllByCreatorId_shouldReturnOnlyProjectsOfGivenUser_whenUserHasProjects() {
@@ -52,4 +62,56 @@ class ProjectRepositoryTest {
     assertThat(projects).isNotNull();
     assertThat(projects).isEmpty();
   }
-}
\ No newline at end of file
+
+  @Test
+  @DisplayName("성공: 키셋 페이지 조회를 하면, 필터에 맞는 프로젝트를 최신순으로 커서 이후부터 반환한다")
+  void findPage_shouldReturnFilteredProjectsAfterCursor() {
+    User user = userRepository.save(new User("user1@test.com", "pwd1", "user1", "imgUrl1"));
+
+    Project oldest = projectRepository.save(new Project("t1", "d1", "Java, Spring Boot", 4, user, 2));
+    projectRepository.save(new Project("t2", "d2", "JavaScript, React", 4, user, 2));
+    Project middle = projectRepository.save(new Project("t3", "d3", "Kotlin, Java", 5, user, 2));
+    projectRepository.save(new Project("t4", "d4", "Java", 10, user, 2));
+    Project newest = projectRepository.save(new Project("t5", "d5", "java, Docker", 3, user, 2));
+
+    List<ProjectListRow> firstPage = projectRepository.findPage(
+        ProjectStatus.RECRUITING, "java", 3, 5, null, null, PageRequest.of(0, 2));
+
+    assertThat(firstPage).extracting(ProjectListRow::getId)
+        .containsExactly(newest.getId(), middle.getId());
+    assertThat(firstPage.getFirst().getCreatorNickname()).isEqualTo("user1");
+
+    ProjectListRow last = firstPage.getLast();
+    List<ProjectListRow> secondPage = projectRepository.findPage(
+        ProjectStatus.RECRUITING, "java", 3, 5, last.getCreatedAt(), last.getId(),
+        PageRequest.of(0, 2));
+
+    assertThat(secondPage).extracting(ProjectListRow::getId).containsExactly(oldest.getId());
+  }
+
+  @Test
+  @DisplayName("성공: 기술 목록을 조회하면, 프로젝트별로 입력 순서대로 반환한다")
+  void findTechStacks_shouldReturnTechStacksInOrder() {
+    User user = userRepository.save(new User("user1@test.com", "pwd1", "user1", "imgUrl1"));
+    Project project = projectRepository.save(new Project("t1", "d1", "Spring Boot, Java, React", 4, user, 2));
+
+    List<ProjectTechRow> rows = projectRepository.findTechStacks(List.of(project.getId()));
+
+    assertThat(rows).extracting(ProjectTechRow::getName).containsExactly("Spring Boot", "Java", "React");
+    assertThat(project.getTechStacks()).extracting(ProjectTech::getNormalizedName)
+        .containsExactly("spring boot", "java", "react");
+  }
+
+  @Test
+  @DisplayName("성공: 단건 조회는 응답 변환에 필요한 생성자를 함께 가져온다 (open-in-view 없이 지연 로딩하지 않도록)")
+  void findById_shouldFetchCreator() {
+    User user = userRepository.save(new User("user1@test.com", "pwd1", "user1", "imgUrl1"));
+    Project saved = projectRepository.save(new Project("title1", "description1", "tech1", 5, user, 2));
+    entityManager.flush();
+    entityManager.clear();
+
+    Project project = projectRepository.findById(saved.getId()).orElseThrow();
+
+    assertThat(Hibernate.isInitialized(project.getCreator())).isTrue();
+  }
+}
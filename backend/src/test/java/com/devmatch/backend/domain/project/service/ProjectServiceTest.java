@@ -4,17 +4,30 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.devmatch.backend.domain.project.cache.ProjectDetailCache;
 import com.devmatch.backend.domain.project.dto.ProjectCreateRequest;
 import com.devmatch.backend.domain.project.dto.ProjectDetailResponse;
+import com.devmatch.backend.domain.project.dto.ProjectListRow;
+import com.devmatch.backend.domain.project.dto.ProjectPageResponse;
+import com.devmatch.backend.domain.project.dto.ProjectSearchRequest;
+import com.devmatch.backend.domain.project.dto.ProjectTechRow;
 import com.devmatch.backend.domain.project.entity.Project;
 import com.devmatch.backend.domain.project.entity.ProjectStatus;
+import com.devmatch.backend.domain.project.event.ProjectChangedEvent;
 import com.devmatch.backend.domain.project.repository.ProjectRepository;
 import com.devmatch.backend.domain.user.entity.User;
 import com.devmatch.backend.domain.user.service.UserService;
+import com.devmatch.backend.global.outbox.DomainEventPublisher;
+import com.devmatch.backend.global.web.ResourceVersions;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.function.Consumer;
 import org.junit.jupiter.api.DisplayName;
@@ -22,8 +35,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
 @ExtendWith(MockitoExtension.class)
 class ProjectServiceTest {
@@ -37,6 +53,19 @@ class ProjectServiceTest {
   @Mock
   ProjectRepository projectRepository;
 
+  @Mock
+  DomainEventPublisher domainEventPublisher;
+
+  @Spy
+  ProjectDetailCache projectDetailCache = new ProjectDetailCache(
+      new SimpleMeterRegistry(), new ObjectMapper().findAndRegisterModules(), 100, 60);
+
+  @Mock
+  ResourceVersions resourceVersions;
+
+  @Mock
+  PlatformTransactionManager transactionManager;
+
   @Test
   @DisplayName("성공: 유효한 프로젝트 생성 요청을 하면, 프로젝트 응답 DTO를 반환한다")
   void createProject_shouldReturnProjectResponse() {
@@ -78,44 +107,60 @@ class ProjectServiceTest {
   }
 
   @Test
-  @DisplayName("성공: 프로젝트 전체 조회를 하면, 사용자들이 만든 모든 프로젝트 응답 DTO를 반환한다")
+  @DisplayName("성공: 프로젝트 전체 조회를 하면, 첫 페이지의 프로젝트 응답 DTO와 다음 커서를 반환한다")
   void getProjects_shouldReturnProjectsResponse_whenProjectExists() {
-    User user1 = createUser(1L, "user1@test.com", "user1");
-    User user2 = createUser(2L, "user2@test.com", "user2");
-    Project project1 = createProject(1L, "title1", user1);
-    Project project2 = createProject(2L, "title2", user2);
+    ProjectListRow row1 = createProjectListRow(3L, "title3", LocalDateTime.of(2025, 7, 3, 10, 0));
+    ProjectListRow row2 = createProjectListRow(2L, "title2", LocalDateTime.of(2025, 7, 2, 10, 0));
+    ProjectListRow row3 = createProjectListRow(1L, "title1", LocalDateTime.of(2025, 7, 1, 10, 0));
+
+    when(projectRepository.findPage(isNull(), isNull(), isNull(), isNull(), isNull(), isNull(),
+        eq(PageRequest.of(0, 3)))).thenReturn(List.of(row1, row2, row3));
+    when(projectRepository.findTechStacks(List.of(3L, 2L))).thenReturn(List.of(
+        new ProjectTechRow(3L, "Java"), new ProjectTechRow(3L, "Spring Boot"),
+        new ProjectTechRow(2L, "Kotlin")));
+
+    ProjectPageResponse response = projectService.getProjects(
+        new ProjectSearchRequest(null, 2, null, null, null, null));
+
+    assertThat(response.getContent()).extracting(ProjectDetailResponse::getId)
+        .containsExactly(3L, 2L);
+    assertThat(response.getContent().getFirst().getCreator()).isEqualTo("user1");
+    assertThat(response.getContent().getFirst().getTechStacks()).containsExactly("Java", "Spring Boot");
+    assertThat(response.getContent().getLast().getTechStacks()).containsExactly("Kotlin");
+    assertThat(response.getHasNext()).isTrue();
+    assertThat(response.getNextCursor()).isNotNull();
+  }
 
-    List<Project> projects = List.of(project1, project2);
+  @Test
+  @DisplayName("성공: 다음 커서와 필터로 조회하면, 커서 위치와 정규화된 필터로 조회한다")
+  void getProjects_shouldQueryAfterCursor_whenCursorGiven() {
+    LocalDateTime createdAt = LocalDateTime.of(2025, 7, 2, 10, 0);
+    ProjectListRow row = createProjectListRow(2L, "title2", createdAt);
 
-    when(projectRepository.findAll()).thenReturn(projects);
+    when(projectRepository.findPage(any(), any(), any(), any(), any(), any(), any()))
+        .thenReturn(List.of(row, createProjectListRow(1L, "title1", createdAt.minusDays(1))));
 
-    List<ProjectDetailResponse> responses = projectService.getProjects();
+    String cursor = projectService.getProjects(new ProjectSearchRequest(null, 1, null, null, null, null))
+        .getNextCursor();
 
-    assertThat(responses).isNotNull();
-    assertThat(responses.size()).isEqualTo(2);
+    when(projectRepository.findPage(any(), any(), any(), any(), any(), any(), any()))
+        .thenReturn(Collections.emptyList());
 
-    ProjectDetailResponse response = responses.getFirst();
-    assertThat(response).isNotNull();
-    assertThat(response.getId()).isEqualTo(project1.getId());
-    assertThat(response.getTitle()).isEqualTo(project1.getTitle());
-    assertThat(response.getCreator()).isEqualTo(project1.getCreator().getNickname());
-    assertThat(response.getTechStacks()).isEqualTo(
-        Arrays.stream(project1.getTechStack().split(", ")).toList());
+    ProjectPageResponse response = projectService.getProjects(
+        new ProjectSearchRequest(cursor, 1, ProjectStatus.RECRUITING, " Java ", 2, 6));
 
-    verify(projectRepository, times(1)).findAll();
+    assertThat(response.getContent()).isEmpty();
+    assertThat(response.getHasNext()).isFalse();
+    assertThat(response.getNextCursor()).isNull();
+    verify(projectRepository).findPage(ProjectStatus.RECRUITING, "java", 2, 6, createdAt, 2L,
+        PageRequest.of(0, 2));
   }
 
   @Test
-  @DisplayName("성공: 프로젝트 없을 시 전체 조회를 하면, 빈 리스트를 반환한다")
-  void getProjects_shouldReturnEmptyList_whenProjectsDoNotExist() {
-    when(projectRepository.findAll()).thenReturn(Collections.emptyList());
-
-    List<ProjectDetailResponse> responses = projectService.getProjects();
-
-    assertThat(responses).isNotNull();
-    assertThat(responses).isEmpty();
-
-    verify(projectRepository, times(1)).findAll();
+  @DisplayName("실패: 잘못된 커서로 조회하면, IllegalArgumentException을 던진다")
+  void getProjects_shouldThrowException_whenCursorIsInvalid() {
+    assertThrows(IllegalArgumentException.class, () -> projectService.getProjects(
+        new ProjectSearchRequest("not-a-cursor", 20, null, null, null, null)));
   }
 
   @Test
@@ -180,6 +225,30 @@ class ProjectServiceTest {
     verify(projectRepository, times(1)).findById(project1.getId());
   }
 
+  @Test
+  @DisplayName("성공: 같은 프로젝트를 다시 조회하면 캐시에서 반환하고, 상태를 변경하면 다시 조회한다")
+  void getProjectDetail_shouldUseCacheUntilProjectIsModified() {
+    User user1 = createUser(1L, "user@test.com", "user");
+    Project project1 = createProject(1L, "title1", user1);
+
+    when(projectRepository.findById(project1.getId())).thenReturn(Optional.of(project1));
+
+    String etag = projectService.getCachedProjectDetail(project1.getId()).getEtag();
+    projectService.getProjectDetail(project1.getId());
+
+    // 응답이 gzip으로 압축되므로 약한(weak) ETag여야 한다
+    assertThat(etag).startsWith("W/\"");
+
+    verify(projectRepository, times(1)).findById(project1.getId());
+
+    projectService.modifyStatus(project1.getId(), ProjectStatus.COMPLETED);
+    ProjectDetailCache.Entry modified = projectService.getCachedProjectDetail(project1.getId());
+
+    assertThat(modified.getResponse().getStatus()).isEqualTo(ProjectStatus.COMPLETED.toString());
+    assertThat(modified.getEtag()).isNotEqualTo(etag);
+    verify(projectRepository, times(3)).findById(project1.getId());
+  }
+
   @Test
   @DisplayName("실패: 존재하지 않는 프로젝트를 상세 조회하면, NoSuchElementException을 던진다")
   void getProjectDetail_shouldThrowException_whenProjectDoesNotExist() {
@@ -252,6 +321,7 @@ class ProjectServiceTest {
 
     verify(projectRepository, times(1)).findById(project1.getId());
     verify(projectRepository, times(1)).deleteById(project1.getId());
+    verify(domainEventPublisher, times(1)).publish(new ProjectChangedEvent(project1.getId()));
   }
 
   @Test
@@ -286,6 +356,11 @@ class ProjectServiceTest {
     assertProjectNotFound(projectId -> projectService.getProject(projectId));
   }
 
+  private ProjectListRow createProjectListRow(Long id, String title, LocalDateTime createdAt) {
+    return new ProjectListRow(id, title, "description", 5, 0, "user1",
+        ProjectStatus.RECRUITING, "", 4, createdAt);
+  }
+
   private User createUser(Long id, String email, String nickName) {
     User user = new User(email, "testPassword", nickName, "testImgUrl");
     ReflectionTestUtils.setField(user, "id", id);
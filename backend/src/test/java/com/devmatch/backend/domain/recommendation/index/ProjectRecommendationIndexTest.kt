@@ -0,0 +1,46 @@
+package com.devmatch.backend.domain.recommendation.index
+
+import org.assertj.core.api.Assertions.assertThat
+import org.assertj.core.api.Assertions.within
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import kotlin.math.sqrt
+
+class ProjectRecommendationIndexTest {
+    private val index = ProjectRecommendationIndex().apply {
+        put(1L, listOf("java", "spring boot"))
+        put(2L, listOf("react", "typescript"))
+        put(3L, listOf("java", "react", "docker"))
+    }
+
+    @Test
+    @DisplayName("코사인 유사도가 높은 순으로 상위 K개를 돌려준다")
+    fun t1() {
+        val matches = index.topK(mapOf("java" to 0.8, "spring boot" to 0.6), 2)
+
+        assertThat(matches.map { it.projectId }).containsExactly(1L, 3L)
+        // (0.8 + 0.6) / (|u|=1.0 * sqrt(2))
+        assertThat(matches[0].score).isCloseTo(1.4 / sqrt(2.0), within(1e-9))
+        assertThat(matches[1].score).isCloseTo(0.8 / sqrt(3.0), within(1e-9))
+    }
+
+    @Test
+    @DisplayName("제외한 프로젝트와 겹치는 기술이 없는 프로젝트는 추천하지 않는다")
+    fun t2() {
+        val matches = index.topK(mapOf("java" to 1.0), 10, excluded = setOf(1L))
+
+        assertThat(matches.map { it.projectId }).containsExactly(3L)
+    }
+
+    @Test
+    @DisplayName("삭제한 프로젝트는 색인에서 빠지고, 다시 넣으면 새 기술 스택으로 반영된다")
+    fun t3() {
+        index.remove(1L)
+        assertThat(index.topK(mapOf("spring boot" to 1.0), 10)).isEmpty()
+
+        index.put(3L, listOf("spring boot"))
+        assertThat(index.topK(mapOf("spring boot" to 1.0), 10).map { it.projectId }).containsExactly(3L)
+        assertThat(index.topK(mapOf("docker" to 1.0), 10)).isEmpty()
+        assertThat(index.size).isEqualTo(2)
+    }
+}
@@ -2,9 +2,11 @@ package com.devmatch.backend.domain.user.controller
 
 import com.devmatch.backend.domain.application.service.ApplicationService
 import com.devmatch.backend.domain.project.service.ProjectService
+import com.devmatch.backend.domain.recommendation.service.ProjectRecommendationService
 import com.devmatch.backend.domain.user.service.UserService
 import com.devmatch.backend.global.rq.Rq
 import com.devmatch.backend.global.security.SecurityUser
+import com.devmatch.backend.global.web.ResourceVersions
 import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.DisplayName
 import org.mockito.BDDMockito.given
@@ -44,14 +46,23 @@ class UserControllerTest {
     @Autowired
     private lateinit var rq: Rq
 
+    @Autowired
+    private lateinit var projectRecommendationService: ProjectRecommendationService
+
+    @Autowired
+    private lateinit var resourceVersions: ResourceVersions
+
     @BeforeEach
     fun setUp() {
         rq = mock(Rq::class.java)
         projectService = mock(ProjectService::class.java)
         applicationService = mock(ApplicationService::class.java)
+        projectRecommendationService = mock(ProjectRecommendationService::class.java)
 
         mockMvc =
-            MockMvcBuilders.standaloneSetup(UserController(rq, projectService, applicationService))
+            MockMvcBuilders.standaloneSetup(
+                UserController(rq, projectService, applicationService, projectRecommendationService, resourceVersions)
+            )
                 .build()
     }
 
@@ -0,0 +1,118 @@
+package com.devmatch.backend.domain.user.service
+
+import com.devmatch.backend.domain.user.entity.User
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.atomic.AtomicInteger
+
+class ApiKeyCacheTest {
+    private val apiKeyCache = ApiKeyCache(SimpleMeterRegistry(), 100, 10, 100, 60)
+
+    private val user = User(1L, "user1", "유저1")
+
+    @Test
+    @DisplayName("존재하는 키는 한 번만 조회하고 이후에는 캐시에서 돌려준다")
+    fun t1() {
+        val loads = AtomicInteger()
+
+        repeat(3) {
+            val found = apiKeyCache.get("key") { loads.incrementAndGet(); user }
+            assertThat(found?.id).isEqualTo(1L)
+        }
+
+        assertThat(loads.get()).isEqualTo(1)
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 키도 기억해서 다시 조회하지 않는다")
+    fun t2() {
+        val loads = AtomicInteger()
+
+        repeat(3) {
+            assertThat(apiKeyCache.get("bogus") { loads.incrementAndGet(); null }).isNull()
+        }
+
+        assertThat(loads.get()).isEqualTo(1)
+    }
+
+    @Test
+    @DisplayName("evict 하면 다음 조회에서 다시 불러온다")
+    fun t3() {
+        val loads = AtomicInteger()
+
+        apiKeyCache.get("key") { loads.incrementAndGet(); null }
+        apiKeyCache.evict("key")
+        val found = apiKeyCache.get("key") { loads.incrementAndGet(); user }
+
+        assertThat(found?.username).isEqualTo("user1")
+        assertThat(loads.get()).isEqualTo(2)
+    }
+
+    @Test
+    @DisplayName("같은 키에 동시에 몰린 요청은 조회 한 번을 함께 기다린다")
+    fun t4() {
+        val loads = AtomicInteger()
+        val loading = CountDownLatch(1)
+        val release = CountDownLatch(1)
+
+        Executors.newVirtualThreadPerTaskExecutor().use { executor ->
+            val first = executor.submit<User?> {
+                apiKeyCache.get("key") {
+                    loads.incrementAndGet()
+                    loading.countDown()
+                    release.await()
+                    user
+                }
+            }
+            loading.await()
+
+            val others = (1..10).map { executor.submit<User?> { apiKeyCache.get("key") { loads.incrementAndGet(); user } } }
+            Thread.sleep(100)
+            release.countDown()
+
+            assertThat(first.get()?.id).isEqualTo(1L)
+            others.forEach { assertThat(it.get()?.id).isEqualTo(1L) }
+        }
+
+        assertThat(loads.get()).isEqualTo(1)
+    }
+
+    @Test
+    @DisplayName("조회 도중 evict 되면 그 조회 결과는 캐시하지 않고, 이후 요청은 새로 조회한다")
+    fun t5() {
+        val loads = AtomicInteger()
+        val loading = CountDownLatch(1)
+        val release = CountDownLatch(1)
+        val renamed = User(1L, "user1", "바뀐 닉네임")
+
+        Executors.newVirtualThreadPerTaskExecutor().use { executor ->
+            // 변경이 커밋되기 전의 값을 읽은 조회가 evict 이후에 끝나는 상황
+            val stale = executor.submit<User?> {
+                apiKeyCache.get("key") {
+                    loads.incrementAndGet()
+                    loading.countDown()
+                    release.await()
+                    user
+                }
+            }
+            loading.await()
+
+            apiKeyCache.evict("key")
+            val fresh = apiKeyCache.get("key") { loads.incrementAndGet(); renamed }
+
+            release.countDown()
+
+            assertThat(stale.get()?.nickname).isEqualTo("유저1")
+            assertThat(fresh?.nickname).isEqualTo("바뀐 닉네임")
+        }
+
+        val cached = apiKeyCache.get("key") { loads.incrementAndGet(); user }
+
+        assertThat(cached?.nickname).isEqualTo("바뀐 닉네임")
+        assertThat(loads.get()).isEqualTo(2)
+    }
+}
@@ -0,0 +1,42 @@
+package com.devmatch.backend.domain.user.service
+
+import com.devmatch.backend.domain.user.entity.User
+import com.devmatch.backend.standard.util.Ut
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+
+class AuthTokenServiceTest {
+    private val secret = "test-secret-key-for-auth-token-service-must-be-longer-than-256-bits"
+    private val meterRegistry = SimpleMeterRegistry()
+    private val authTokenService = AuthTokenService(secret, 60, 100, meterRegistry)
+
+    @Test
+    @DisplayName("발급한 토큰의 payload를 돌려주고, 두 번째 조회부터는 검증 캐시를 사용한다")
+    fun t1() {
+        val token = authTokenService.genAccessToken(User(1L, "user1", "유저1"))
+
+        val first = authTokenService.payload(token)
+        val second = authTokenService.payload(token)
+
+        assertThat(first).isEqualTo(mapOf("id" to 1, "username" to "user1", "name" to "유저1"))
+        assertThat(second).isEqualTo(first)
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "auth.token").tag("result", "hit").functionCounter().count())
+            .isEqualTo(1.0)
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명된 토큰이나 만료된 토큰은 null을 돌려준다")
+    fun t2() {
+        val forged = Ut.jwt.toString(
+            "another-secret-key-for-auth-token-service-must-be-longer-than-256-bits",
+            60,
+            mapOf("id" to 1, "username" to "user1", "name" to "유저1")
+        )
+        val expired = Ut.jwt.toString(secret, -1, mapOf("id" to 1, "username" to "user1", "name" to "유저1"))
+
+        assertThat(authTokenService.payload(forged)).isNull()
+        assertThat(authTokenService.payload(expired)).isNull()
+    }
+}
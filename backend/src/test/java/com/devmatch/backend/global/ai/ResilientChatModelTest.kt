@@ -0,0 +1,158 @@
+package com.devmatch.backend.global.ai
+
+import io.github.resilience4j.bulkhead.Bulkhead
+import io.github.resilience4j.bulkhead.BulkheadConfig
+import io.github.resilience4j.bulkhead.BulkheadFullException
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException
+import io.github.resilience4j.circuitbreaker.CircuitBreaker
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig
+import io.github.resilience4j.retry.Retry
+import io.github.resilience4j.retry.RetryConfig
+import io.github.resilience4j.timelimiter.TimeLimiter
+import io.github.resilience4j.timelimiter.TimeLimiterConfig
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import io.micrometer.observation.ObservationRegistry
+import org.assertj.core.api.Assertions.assertThat
+import org.assertj.core.api.Assertions.assertThatThrownBy
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.springframework.ai.chat.messages.AssistantMessage
+import org.springframework.ai.chat.model.ChatModel
+import org.springframework.ai.chat.model.ChatResponse
+import org.springframework.ai.chat.model.Generation
+import org.springframework.ai.chat.prompt.Prompt
+import org.springframework.ai.retry.NonTransientAiException
+import org.springframework.ai.retry.TransientAiException
+import java.time.Duration
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeoutException
+import java.util.concurrent.atomic.AtomicInteger
+
+class ResilientChatModelTest {
+    private val meterRegistry = SimpleMeterRegistry()
+
+    private val circuitBreaker = CircuitBreaker.of(
+        "llm", CircuitBreakerConfig.custom()
+            .slidingWindowSize(4)
+            .minimumNumberOfCalls(4)
+            .failureRateThreshold(50f)
+            .waitDurationInOpenState(Duration.ofMinutes(1))
+            .recordExceptions(TransientAiException::class.java, TimeoutException::class.java)
+            .build()
+    )
+
+    private val retry = Retry.of(
+        "llm", RetryConfig.custom<Any>()
+            .maxAttempts(3)
+            .waitDuration(Duration.ofMillis(1))
+            .retryExceptions(TransientAiException::class.java, TimeoutException::class.java)
+            .build()
+    )
+
+    private val bulkhead = Bulkhead.of(
+        "llm", BulkheadConfig.custom()
+            .maxConcurrentCalls(1)
+            .maxWaitDuration(Duration.ZERO)
+            .build()
+    )
+
+    private val timeLimiter = TimeLimiter.of(
+        TimeLimiterConfig.custom()
+            .timeoutDuration(Duration.ofMillis(200))
+            .cancelRunningFuture(true)
+            .build()
+    )
+
+    private fun resilient(delegate: ChatModel) = ResilientChatModel(
+        delegate, circuitBreaker, retry, bulkhead, timeLimiter, Executors.newVirtualThreadPerTaskExecutor(), meterRegistry,
+        ObservationRegistry.NOOP
+    )
+
+    private fun chatModel(answer: (Int) -> String): Pair<ChatModel, AtomicInteger> {
+        val calls = AtomicInteger()
+
+        val model = object : ChatModel {
+            override fun call(prompt: Prompt): ChatResponse =
+                ChatResponse(listOf(Generation(AssistantMessage(answer(calls.incrementAndGet())))))
+        }
+
+        return model to calls
+    }
+
+    private fun rejected(reason: String): Double =
+        meterRegistry.get("analysis.llm.rejected").tag("reason", reason).counter().count()
+
+    @Test
+    @DisplayName("일시적 오류는 재시도해서 성공한다")
+    fun t1() {
+        val (delegate, calls) = chatModel { if (it < 3) throw TransientAiException("503") else "80.00|좋음" }
+
+        assertThat(resilient(delegate).call("프롬프트")).isEqualTo("80.00|좋음")
+        assertThat(calls.get()).isEqualTo(3)
+    }
+
+    @Test
+    @DisplayName("재시도해도 소용없는 오류는 한 번만 호출하고 실패한다")
+    fun t2() {
+        val (delegate, calls) = chatModel { throw NonTransientAiException("400") }
+
+        assertThatThrownBy { resilient(delegate).call("프롬프트") }.isInstanceOf(NonTransientAiException::class.java)
+        assertThat(calls.get()).isEqualTo(1)
+    }
+
+    @Test
+    @DisplayName("제한 시간을 넘긴 호출은 TimeoutException으로 끊는다")
+    fun t3() {
+        val (delegate, calls) = chatModel { Thread.sleep(5_000); "늦은 응답" }
+
+        assertThatThrownBy { resilient(delegate).call("프롬프트") }.isInstanceOf(TimeoutException::class.java)
+        assertThat(calls.get()).isEqualTo(3)
+        assertThat(rejected("timeout")).isEqualTo(1.0)
+    }
+
+    @Test
+    @DisplayName("실패율이 임계치를 넘으면 서킷이 열려 LLM을 호출하지 않고 바로 실패한다")
+    fun t4() {
+        val (delegate, calls) = chatModel { throw TransientAiException("503") }
+        val model = resilient(delegate)
+
+        repeat(2) { runCatching { model.call("프롬프트") } }
+        val callsBeforeOpen = calls.get()
+        val rejectedBeforeOpen = rejected("circuit_open")
+
+        assertThatThrownBy { model.call("프롬프트") }.isInstanceOf(CallNotPermittedException::class.java)
+        assertThat(calls.get()).isEqualTo(callsBeforeOpen)
+        assertThat(circuitBreaker.state).isEqualTo(CircuitBreaker.State.OPEN)
+        assertThat(rejected("circuit_open")).isEqualTo(rejectedBeforeOpen + 1)
+    }
+
+    @Test
+    @DisplayName("동시 호출 수가 상한에 도달하면 추가 요청은 벌크헤드에서 거절된다")
+    fun t5() {
+        val started = CountDownLatch(1)
+        val release = CountDownLatch(1)
+        val (delegate, _) = chatModel { started.countDown(); release.await(); "80.00|좋음" }
+        val model = resilient(delegate)
+
+        val inFlight = Thread.ofVirtual().start { model.call("프롬프트") }
+        started.await()
+
+        assertThatThrownBy { model.call("프롬프트") }.isInstanceOf(BulkheadFullException::class.java)
+        assertThat(rejected("bulkhead_full")).isEqualTo(1.0)
+
+        release.countDown()
+        inFlight.join()
+    }
+
+    @Test
+    @DisplayName("호출마다 프롬프트와 응답 길이를 기록한다")
+    fun t6() {
+        val (delegate, _) = chatModel { "80.00|좋음" }
+
+        resilient(delegate).call("프롬프트")
+
+        assertThat(meterRegistry.get("analysis.llm.prompt.size").summary().totalAmount()).isEqualTo(4.0)
+        assertThat(meterRegistry.get("analysis.llm.response.size").summary().totalAmount()).isEqualTo(8.0)
+    }
+}
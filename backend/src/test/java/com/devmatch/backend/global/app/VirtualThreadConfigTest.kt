@@ -0,0 +1,69 @@
+package com.devmatch.backend.global.app
+
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import io.micrometer.java21.instrument.binder.jdk.VirtualThreadMetrics
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.springframework.boot.test.context.runner.ApplicationContextRunner
+import java.time.Duration
+
+class VirtualThreadConfigTest {
+    private val contextRunner = ApplicationContextRunner()
+        .withBean(MeterRegistry::class.java, { SimpleMeterRegistry() })
+        .withUserConfiguration(VirtualThreadConfig::class.java)
+
+    @Test
+    @DisplayName("가상 스레드를 켜면 고정 지표와 고정 감지기가 모두 등록된다")
+    fun t1() {
+        contextRunner
+            .withPropertyValues("spring.threads.virtual.enabled=true")
+            .run { context ->
+                assertThat(context).hasSingleBean(VirtualThreadMetrics::class.java)
+                assertThat(context).hasSingleBean(VirtualThreadPinningDetector::class.java)
+            }
+    }
+
+    @Test
+    @DisplayName("가상 스레드를 끄거나 설정하지 않으면 JFR 스트림을 여는 빈을 등록하지 않는다")
+    fun t2() {
+        contextRunner
+            .withPropertyValues("spring.threads.virtual.enabled=false")
+            .run { context ->
+                assertThat(context).doesNotHaveBean(VirtualThreadMetrics::class.java)
+                assertThat(context).doesNotHaveBean(VirtualThreadPinningDetector::class.java)
+            }
+
+        contextRunner.run { context ->
+            assertThat(context).doesNotHaveBean(VirtualThreadMetrics::class.java)
+            assertThat(context).doesNotHaveBean(VirtualThreadPinningDetector::class.java)
+        }
+    }
+
+    @Test
+    @DisplayName("애플리케이션 코드의 synchronized 안에서 블로킹하면 원인 위치와 함께 고정이 기록된다")
+    fun t3() {
+        val meterRegistry = SimpleMeterRegistry()
+
+        VirtualThreadPinningDetector(meterRegistry, Duration.ofMillis(10)).use {
+            val lock = Any()
+            Thread.ofVirtual().start {
+                synchronized(lock) { Thread.sleep(50) }
+            }.join()
+
+            // JFR 스트림은 이벤트를 주기적으로 내보내므로 기다린다
+            val deadline = System.currentTimeMillis() + 10_000
+            while (pinnedCount(meterRegistry) == 0.0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(100)
+            }
+        }
+
+        assertThat(pinnedCount(meterRegistry)).isGreaterThanOrEqualTo(1.0)
+        assertThat(meterRegistry.find("jvm.threads.virtual.pinned.app").counters().map { it.id.getTag("frame") })
+            .allMatch { it!!.startsWith(VirtualThreadConfigTest::class.java.name) }
+    }
+
+    private fun pinnedCount(meterRegistry: MeterRegistry): Double =
+        meterRegistry.find("jvm.threads.virtual.pinned.app").counters().sumOf { it.count() }
+}
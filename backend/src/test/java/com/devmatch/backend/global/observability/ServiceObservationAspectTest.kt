@@ -0,0 +1,70 @@
+package com.devmatch.backend.global.observability
+
+import com.devmatch.backend.domain.user.entity.User
+import com.devmatch.backend.domain.user.repository.UserRepository
+import com.devmatch.backend.domain.user.service.ApiKeyCache
+import com.devmatch.backend.domain.user.service.AuthTokenService
+import com.devmatch.backend.domain.user.service.UserService
+import com.devmatch.backend.global.web.ResourceVersions
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import io.micrometer.observation.ObservationRegistry
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.mockito.BDDMockito.given
+import org.mockito.Mockito.mock
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory
+import org.springframework.security.crypto.password.PasswordEncoder
+
+class ServiceObservationAspectTest {
+    private val meterRegistry = SimpleMeterRegistry()
+
+    private val observationRegistry = ObservationRegistry.create().apply {
+        observationConfig().observationHandler(DefaultMeterObservationHandler(meterRegistry))
+    }
+
+    private val authTokenService = AuthTokenService(
+        "test-secret-key-for-auth-token-service-must-be-longer-than-256-bits", 60, 100, SimpleMeterRegistry()
+    )
+    private val apiKeyCache: ApiKeyCache = mock(ApiKeyCache::class.java)
+    private val userRepository: UserRepository = mock(UserRepository::class.java)
+
+    private val userService: UserService = proxy(
+        UserService(
+            authTokenService, apiKeyCache, userRepository,
+            mock(PasswordEncoder::class.java), mock(ResourceVersions::class.java)
+        )
+    )
+
+    @Test
+    @DisplayName("서비스 메서드는 클래스와 메서드 이름으로 service.method에 기록된다")
+    fun t1() {
+        given(userRepository.count()).willReturn(3)
+
+        assertThat(userService.count()).isEqualTo(3L)
+
+        assertThat(meterRegistry.get("service.method").tag("class", "UserService").tag("method", "count").timer().count())
+            .isEqualTo(1L)
+    }
+
+    @Test
+    @DisplayName("인증 필터가 요청마다 부르는 API 키/토큰 조회는 기록하지 않는다")
+    fun t2() {
+        val user = User(1L, "user1", "유저1")
+        val proxiedAuthTokenService = proxy(authTokenService)
+
+        val token = userService.genAccessToken(user)
+        userService.payload(token)
+        userService.findByApiKey("api-key")
+        proxiedAuthTokenService.payload(proxiedAuthTokenService.genAccessToken(user))
+
+        assertThat(meterRegistry.find("service.method").timers()).isEmpty()
+    }
+
+    private inline fun <reified T : Any> proxy(target: T): T =
+        AspectJProxyFactory(target).apply {
+            isProxyTargetClass = true
+            addAspect(ServiceObservationAspect(observationRegistry))
+        }.getProxy()
+}
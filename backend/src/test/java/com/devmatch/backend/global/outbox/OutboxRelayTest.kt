@@ -0,0 +1,161 @@
+package com.devmatch.backend.global.outbox
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.context.SpringBootTest
+import org.springframework.context.ApplicationEventPublisher
+import org.springframework.context.annotation.Import
+import org.springframework.context.event.EventListener
+import org.springframework.stereotype.Component
+import org.springframework.transaction.PlatformTransactionManager
+import org.springframework.transaction.support.TransactionTemplate
+import org.springframework.test.context.ActiveProfiles
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.atomic.AtomicInteger
+
+// 이벤트가 트랜잭션과 함께 저장되고, 커밋된 것만 모든 인스턴스의 리스너에 전달되며, 리스너가 실패하면 다시 전달되는지 검증
+@ActiveProfiles("test")
+@SpringBootTest
+@Import(OutboxRelayTest.Recorder::class)
+class OutboxRelayTest {
+    data class TestEvent(val id: Long, val name: String)
+
+    @Component
+    class Recorder {
+        val received = CopyOnWriteArrayList<TestEvent>()
+        val failuresLeft = AtomicInteger()
+
+        @EventListener
+        fun on(event: TestEvent) {
+            if (failuresLeft.getAndUpdate { maxOf(it - 1, 0) } > 0) throw IllegalStateException("일시적 실패")
+            received.add(event)
+        }
+    }
+
+    @Autowired
+    private lateinit var domainEventPublisher: DomainEventPublisher
+    @Autowired
+    private lateinit var outboxRelay: OutboxRelay
+    @Autowired
+    private lateinit var outboxEventRepository: OutboxEventRepository
+    @Autowired
+    private lateinit var recorder: Recorder
+    @Autowired
+    private lateinit var transactionManager: PlatformTransactionManager
+    @Autowired
+    private lateinit var objectMapper: ObjectMapper
+
+    private val transaction by lazy { TransactionTemplate(transactionManager) }
+
+    @AfterEach
+    fun cleanup() {
+        recorder.received.clear()
+        recorder.failuresLeft.set(0)
+        outboxEventRepository.deleteAll()
+    }
+
+    @Test
+    @DisplayName("커밋된 이벤트만 리스너에 한 번 전달된다")
+    fun t1() {
+        transaction.execute { domainEventPublisher.publish(TestEvent(1, "커밋")) }
+        transaction.execute { status ->
+            domainEventPublisher.publish(TestEvent(2, "롤백"))
+            status.setRollbackOnly()
+        }
+
+        awaitUntil { recorder.received.isNotEmpty() }
+        outboxRelay.poll()
+
+        assertThat(recorder.received).containsExactly(TestEvent(1, "커밋"))
+        assertThat(outboxEventRepository.count()).isEqualTo(1)
+    }
+
+    @Test
+    @DisplayName("리스너가 실패한 이벤트는 다음 폴링에서 다시 전달된다")
+    fun t2() {
+        recorder.failuresLeft.set(1)
+
+        transaction.execute { domainEventPublisher.publish(TestEvent(3, "재시도")) }
+
+        awaitUntil { recorder.received.isNotEmpty() }
+
+        assertThat(recorder.received).containsExactly(TestEvent(3, "재시도"))
+        assertThat(recorder.failuresLeft.get()).isZero()
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서 발행하면 이벤트가 유실되지 않도록 거절한다")
+    fun t3() {
+        runCatching { domainEventPublisher.publish(TestEvent(4, "트랜잭션 없음")) }
+            .also { assertThat(it.exceptionOrNull()).isInstanceOf(IllegalStateException::class.java) }
+
+        assertThat(outboxEventRepository.count()).isZero()
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 릴레이도 같은 이벤트를 받는다 (인스턴스 메모리의 캐시/알림을 모두 갱신해야 하므로)")
+    fun t4() {
+        val otherInstance = CopyOnWriteArrayList<Any>()
+        val otherRelay = OutboxRelay(
+            outboxEventRepository, ApplicationEventPublisher { otherInstance.add(it) }, objectMapper,
+            SimpleMeterRegistry(), transactionManager, 100, 10, 72, 300
+        )
+
+        try {
+            transaction.execute { domainEventPublisher.publish(TestEvent(5, "fan-out")) }
+
+            awaitUntil { recorder.received.isNotEmpty() }
+            otherRelay.poll()
+            otherRelay.poll()
+
+            assertThat(recorder.received).containsExactly(TestEvent(5, "fan-out"))
+            assertThat(otherInstance).containsExactly(TestEvent(5, "fan-out"))
+        } finally {
+            otherRelay.shutdown()
+        }
+    }
+
+    @Test
+    @DisplayName("id가 먼저 정해졌지만 나중에 커밋된 이벤트도 커서가 건너뛴 id를 다시 확인해 전달한다")
+    fun t5() {
+        val saved = CountDownLatch(1)
+        val commit = CountDownLatch(1)
+
+        // 먼저 저장해 작은 id를 받은 트랜잭션이 늦게 커밋되는 상황
+        val slow = Thread.ofVirtual().start {
+            transaction.execute {
+                domainEventPublisher.publish(TestEvent(6, "늦은 커밋"))
+                saved.countDown()
+                commit.await()
+            }
+        }
+        saved.await()
+
+        transaction.execute { domainEventPublisher.publish(TestEvent(7, "먼저 커밋")) }
+        awaitUntil { recorder.received.isNotEmpty() }
+
+        assertThat(recorder.received).containsExactly(TestEvent(7, "먼저 커밋"))
+
+        commit.countDown()
+        slow.join()
+        awaitUntil { recorder.received.size == 2 }
+
+        assertThat(recorder.received).containsExactly(TestEvent(7, "먼저 커밋"), TestEvent(6, "늦은 커밋"))
+    }
+
+    // 커밋 직후 깨우기와 주기적 폴링이 비동기로 전달하므로, 직접 폴링하면서 기다린다
+    private fun awaitUntil(condition: () -> Boolean) {
+        val deadline = System.currentTimeMillis() + 5_000
+
+        while (!condition() && System.currentTimeMillis() < deadline) {
+            outboxRelay.poll()
+            Thread.sleep(50)
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.devmatch.backend.global.security
+
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc
+import org.springframework.boot.test.context.SpringBootTest
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user
+import org.springframework.test.context.ActiveProfiles
+import org.springframework.test.web.servlet.MockMvc
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers.status
+
+// 헬스 체크만 공개되고 지표, resilience4j 상태는 관리자만 조회할 수 있는지 검증
+@ActiveProfiles("test")
+@SpringBootTest
+@AutoConfigureMockMvc
+class ActuatorSecurityTest {
+    @Autowired
+    private lateinit var mockMvc: MockMvc
+
+    @Test
+    @DisplayName("헬스 체크는 로그인 없이 조회할 수 있다")
+    fun t1() {
+        mockMvc.perform(get("/actuator/health"))
+            .andExpect(status().isOk)
+    }
+
+    @Test
+    @DisplayName("지표는 로그인하지 않으면 401, 일반 사용자는 403을 받는다")
+    fun t2() {
+        mockMvc.perform(get("/actuator/metrics"))
+            .andExpect(status().isUnauthorized)
+
+        mockMvc.perform(get("/actuator/metrics").with(user("user1").roles("USER")))
+            .andExpect(status().isForbidden)
+
+        mockMvc.perform(get("/actuator/circuitbreakers").with(user("user1").roles("USER")))
+            .andExpect(status().isForbidden)
+    }
+
+    @Test
+    @DisplayName("관리자는 지표를 조회할 수 있다")
+    fun t3() {
+        mockMvc.perform(get("/actuator/metrics").with(user("admin").roles("ADMIN")))
+            .andExpect(status().isOk)
+    }
+}
@@ -0,0 +1,32 @@
+package com.devmatch.backend.global.security
+
+import com.devmatch.backend.exception.ServiceException
+import org.assertj.core.api.Assertions.assertThat
+import org.assertj.core.api.Assertions.assertThatThrownBy
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+
+// Authorization 헤더 파싱이 기존 split(" ", limit = 3) 방식과 같은 결과를 내는지 검증
+class CustomAuthenticationFilterTest {
+    private val noCookies = { "cookie-api-key" to "cookie-access-token" }
+
+    @Test
+    @DisplayName("Bearer 헤더에서 API 키와 액세스 토큰을 꺼낸다")
+    fun t1() {
+        assertThat(CustomAuthenticationFilter.extractTokens("Bearer key token", noCookies)).isEqualTo("key" to "token")
+        assertThat(CustomAuthenticationFilter.extractTokens("Bearer key", noCookies)).isEqualTo("key" to "")
+        assertThat(CustomAuthenticationFilter.extractTokens("Bearer ", noCookies)).isEqualTo("" to "")
+        assertThat(CustomAuthenticationFilter.extractTokens("Bearer key token extra", noCookies))
+            .isEqualTo("key" to "token extra")
+    }
+
+    @Test
+    @DisplayName("헤더가 없으면 쿠키에서 꺼내고, Bearer 형식이 아니면 거절한다")
+    fun t2() {
+        assertThat(CustomAuthenticationFilter.extractTokens("", noCookies))
+            .isEqualTo("cookie-api-key" to "cookie-access-token")
+
+        assertThatThrownBy { CustomAuthenticationFilter.extractTokens("Basic abc", noCookies) }
+            .isInstanceOf(ServiceException::class.java)
+    }
+}
@@ -36,8 +36,8 @@ export default function HomePage() {
   const fetchProjects = useCallback(async () => {
     try {
       setDataLoading(true);
-      const allProjects = await projectApi.getAllProjects();
-      setProjects(allProjects);
+      const page = await projectApi.getAllProjects({ size: 50 });
+      setProjects(page.content);
     } catch (err) {
       console.error('프로젝트 목록 조회 실패:', err);
       setError('프로젝트 목록을 불러오는데 실패했습니다.');
@@ -461,7 +461,8 @@ export default function ProjectDetailPage() {
       
       // 1. AI 팀 역할 분배 분석 실행
       toast.loading('AI가 팀 역할을 분석하고 있습니다...', { id: 'ai-analysis' });
-      const roleAssignmentResult = await analysisApi.createTeamRoleAssignment(project.id);
+      const roleAssignment = await analysisApi.createTeamRoleAssignment(project.id);
+      const roleAssignmentResult = roleAssignment.content;
       
       // 🎯 분석 결과 콘솔 출력
       console.log('=' .repeat(60));
@@ -5,6 +5,7 @@ import { Button } from '@/components/ui/button';
 import { Card, CardContent, CardHeader, CardTitle } from '@/components/ui/card';
 import { Dialog, DialogContent, DialogDescription, DialogHeader, DialogTitle } from '@/components/ui/dialog';
 import { AnalysisResultResponse } from '@/types';
+import * as analysisApi from '@/lib/api/analysis';
 
 interface ApplicationAnalysisModalProps {
   applicationId: number;
@@ -28,74 +29,27 @@ export function ApplicationAnalysisModal({
   const [error, setError] = useState<string | null>(null);
 
   const fetchAnalysisData = useCallback(async () => {
-    const apiUrl = process.env.NEXT_PUBLIC_API_BASE_URL || 'https://devmatch-production-cf16.up.railway.app';
-    
     try {
       setLoading(true);
       setError(null);
       
-      // AI 분석 결과 조회 - 실제 백엔드 API 호출
+      // AI 분석 결과 조회, 없으면 분석 작업을 등록하고 완료될 때까지 기다린다 (폴링은 analysisApi가 담당)
+      let analysisData: AnalysisResultResponse;
       try {
-        const response = await fetch(`${apiUrl}/analysis/application/${applicationId}`, {
-          method: 'GET',
-          credentials: 'include',
-          headers: {
-            'Content-Type': 'application/json',
-          },
-        });
-
-        if (!response.ok) {
-          throw new Error(`HTTP ${response.status}`);
-        }
-
-        const result = await response.json();
-        const analysisData = result.data;
-        
-        // 백엔드 응답을 프론트엔드 구조로 변환
-        const transformedAnalysis: AnalysisResultResponse = {
-          id: analysisData.id,
-          applicationId: analysisData.applicationId,
-          compatibilityScore: Number(analysisData.compatibilityScore),
-          compatibilityReason: analysisData.compatibilityReason
-        };
-        
-        setAnalysis(transformedAnalysis);
-        
+        analysisData = await analysisApi.getAnalysisResult(applicationId);
       } catch (analysisError) {
         console.warn('AI 분석 결과 조회 실패, 분석 생성 시도:', analysisError);
-        
-        // 분석 결과가 없으면 생성 시도
-        try {
-          const createResponse = await fetch(`${apiUrl}/analysis/application/${applicationId}`, {
-            method: 'POST',
-            credentials: 'include',
-            headers: {
-              'Content-Type': 'application/json',
-            },
-          });
-          
-          if (!createResponse.ok) {
-            throw new Error(`HTTP ${createResponse.status}`);
-          }
-          
-          const createResult = await createResponse.json();
-          const newAnalysisData = createResult.data;
-          
-          const transformedAnalysis: AnalysisResultResponse = {
-            id: newAnalysisData.id,
-            applicationId: newAnalysisData.applicationId,
-            compatibilityScore: Number(newAnalysisData.compatibilityScore),
-            compatibilityReason: newAnalysisData.compatibilityReason
-          };
-          
-          setAnalysis(transformedAnalysis);
-          
-        } catch (createError) {
-          console.error('AI 분석 생성 실패:', createError);
-          throw createError; // 외부 catch로 전달
-        }
+        analysisData = await analysisApi.createAnalysisResult(applicationId);
       }
       
+      // 백엔드 응답을 프론트엔드 구조로 변환
+      setAnalysis({
+        id: analysisData.id,
+        applicationId: analysisData.applicationId,
+        compatibilityScore: Number(analysisData.compatibilityScore),
+        compatibilityReason: analysisData.compatibilityReason
+      });
+      
     } catch (err) {
       console.error('분석 데이터 조회/생성 실패:', err);
       setError('AI 분석 결과를 불러오는데 실패했습니다. 잠시 후 다시 시도해주세요.');
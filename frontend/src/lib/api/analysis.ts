@@ -4,7 +4,8 @@
 
 import { apiClient } from './index';
 import { 
-  AnalysisResultResponse
+  AnalysisResultResponse,
+  RoleAssignmentResponse
 } from '@/types';
 
 // ============================================
@@ -13,6 +14,12 @@ import {
 
 const ANALYSIS_ENDPOINT = '/analysis';
 
+// 분석 작업 폴링: 처음엔 짧게, 이후 점점 길게 묻고 최대 대기 시간이 지나면 포기한다
+const JOB_POLL_INITIAL_DELAY_MS = 500;
+const JOB_POLL_MAX_DELAY_MS = 5000;
+const JOB_POLL_BACKOFF = 1.5;
+const JOB_MAX_WAIT_MS = 120_000;
+
 // ============================================
 // 📡 분석 API 함수들 (백엔드 컨트롤러와 1:1 매칭)
 // ============================================
@@ -43,20 +50,36 @@ export const getAnalysisResult = async (applicationId: number): Promise<Analysis
 /**
  * 📊 지원서 분석 결과 생성
  * 
- * 📡 백엔드 API: POST /analysis/application/{applicationId}
- * 🏠 컨트롤러: AnalysisController.createAnalysisResult()
- * 📦 응답: ApiResponse<AnalysisResultResponse>
+ * 📡 백엔드 API: POST /analysis/application/{applicationId} → GET /analysis/jobs/{jobId}
+ * 🏠 컨트롤러: AnalysisController.createAnalysisResult(), AnalysisController.getAnalysisJob()
+ * 📦 응답: ApiResponse<AnalysisJobResponse> (202 Accepted, 완료될 때까지 폴링)
+ *
+ * 작업 상태는 점점 긴 간격(최대 5초)으로 조회하고, 2분 안에 끝나지 않으면 에러를 던진다
  */
 export const createAnalysisResult = async (applicationId: number): Promise<AnalysisResultResponse> => {
   try {
     const response = await apiClient.post(`${ANALYSIS_ENDPOINT}/application/${applicationId}`);
-    console.log(`📤 [Analysis API] 지원서 분석 결과 생성 요청 (Application ID: ${applicationId})`);
-    
-    // 백엔드가 ApiResponse<AnalysisResultResponse>로 응답
-    if (response.data.msg && response.data.data) {
-      return response.data.data;
+    console.log(`📤 [Analysis API] 지원서 분석 작업 등록 요청 (Application ID: ${applicationId})`);
+
+    const jobId = response.data.data.jobId;
+    const deadline = Date.now() + JOB_MAX_WAIT_MS;
+    let delay = JOB_POLL_INITIAL_DELAY_MS;
+
+    while (Date.now() < deadline) {
+      await new Promise((resolve) => setTimeout(resolve, delay));
+      delay = Math.min(delay * JOB_POLL_BACKOFF, JOB_POLL_MAX_DELAY_MS);
+
+      const job = (await apiClient.get(`${ANALYSIS_ENDPOINT}/jobs/${jobId}`)).data.data;
+
+      if (job.status === 'COMPLETED') {
+        return job.result;
+      }
+      if (job.status === 'FAILED') {
+        throw new Error(job.errorMessage);
+      }
     }
-    return response.data;
+
+    throw new Error('분석이 오래 걸리고 있습니다. 잠시 후 다시 시도해주세요.');
   } catch (error) {
     console.error(`❌ [Analysis API] 지원서 분석 결과 생성 실패 (Application ID: ${applicationId}):`, error);
     throw error;
@@ -66,20 +89,25 @@ export const createAnalysisResult = async (applicationId: number): Promise<Analy
 /**
  * 👥 팀 역할 분배 생성
  * 
- * 📡 백엔드 API: POST /analysis/project/{projectId}/role-assignment
+ * 📡 백엔드 API: POST /analysis/project/{projectId}/role-assignment?regenerate={regenerate}
  * 🏠 컨트롤러: AnalysisController.createTeamRoleAssignment()
- * 📦 응답: ApiResponse<string> (역할 분배 문자열)
+ * 📦 응답: ApiResponse<RoleAssignmentResponse>
+ * 
+ * 팀 구성이 바뀌지 않았으면 저장된 결과를 돌려준다 (reused: true). regenerate가 true면 항상 새로 생성
  */
-export const createTeamRoleAssignment = async (projectId: number): Promise<string> => {
+export const createTeamRoleAssignment = async (
+  projectId: number,
+  regenerate = false
+): Promise<RoleAssignmentResponse> => {
   try {
-    const response = await apiClient.post(`${ANALYSIS_ENDPOINT}/project/${projectId}/role-assignment`);
-    console.log(`📤 [Analysis API] 팀 역할 분배 생성 요청 (Project ID: ${projectId})`);
+    const response = await apiClient.post(
+      `${ANALYSIS_ENDPOINT}/project/${projectId}/role-assignment`,
+      null,
+      { params: { regenerate } }
+    );
+    console.log(`📤 [Analysis API] 팀 역할 분배 생성 요청 (Project ID: ${projectId}, regenerate: ${regenerate})`);
     
-    // 백엔드가 ApiResponse<string>로 응답 (역할 분배 문자열)
-    if (response.data.msg && response.data.data) {
-      return response.data.data;
-    }
-    return response.data;
+    return response.data.data;
   } catch (error) {
     console.error(`❌ [Analysis API] 팀 역할 분배 생성 실패 (Project ID: ${projectId}):`, error);
     throw error;
@@ -5,6 +5,8 @@
 import { apiClient } from './index';
 import { 
   ProjectDetailResponse, 
+  ProjectPageResponse,
+  ProjectSearchParams,
   ProjectCreateRequest,
   ProjectStatusUpdateRequest,
   ProjectContentUpdateRequest,
@@ -28,23 +30,22 @@ const PROJECTS_ENDPOINT = '/projects';
  * 
  * 📡 백엔드 API: GET /projects
  * 🏠 컨트롤러: ProjectController.getAll()
- * 📦 응답: List<ProjectDetailResponse>
+ * 📦 응답: ProjectPageResponse (커서 기반 페이지)
  */
-export const getAllProjects = async (): Promise<ProjectDetailResponse[]> => {
+export const getAllProjects = async (params: ProjectSearchParams = {}): Promise<ProjectPageResponse> => {
   try {
-    const response = await apiClient.get(PROJECTS_ENDPOINT);
-    console.log('📤 [Project API] 전체 프로젝트 조회 요청');
+    const response = await apiClient.get(PROJECTS_ENDPOINT, { params });
+    console.log('📤 [Project API] 전체 프로젝트 조회 요청:', params);
     console.log('📥 [Project API] 전체 프로젝트 조회 응답:', response.data);
     
-    // 백엔드가 ApiResponse 래퍼로 응답: { msg: string, data: ProjectDetailResponse[] }
+    // 백엔드가 ApiResponse 래퍼로 응답: { msg: string, data: ProjectPageResponse }
     if (response.data.msg && response.data.data) {
       return response.data.data;
     }
-    // 직접 배열로 응답하는 경우 (fallback)
-    return response.data || [];
+    return { content: [], nextCursor: null, hasNext: false };
   } catch (error) {
     console.error('❌ [Project API] 전체 프로젝트 조회 실패:', error);
-    return []; // 에러 시 빈 배열 반환
+    return { content: [], nextCursor: null, hasNext: false }; // 에러 시 빈 페이지 반환
   }
 };
 
@@ -67,6 +67,28 @@ export interface ProjectDetailResponse {
   createdAt: string;           // LocalDateTime이 ISO 문자열로 변환
 }
 
+/**
+ * 프로젝트 목록 페이지 응답 (커서 기반)
+ * 위치: backend/src/main/java/com/devmatch/backend/domain/project/dto/ProjectPageResponse.kt
+ */
+export interface ProjectPageResponse {
+  content: ProjectDetailResponse[];
+  nextCursor: string | null;   // 다음 페이지 요청 시 cursor로 전달
+  hasNext: boolean;
+}
+
+/**
+ * 프로젝트 목록 조회 조건 (GET /projects 쿼리 파라미터)
+ */
+export interface ProjectSearchParams {
+  cursor?: string;
+  size?: number;               // 최대 50
+  status?: ProjectStatus;
+  tech?: string;
+  minTeamSize?: number;
+  maxTeamSize?: number;
+}
+
 /**
  * 프로젝트 생성 요청 (백엔드 실제 구조)
  * 위치: backend/src/main/java/com/devmatch/backend/domain/project/dto/ProjectCreateRequest.java
@@ -155,6 +177,26 @@ export interface AnalysisResultResponse {
   compatibilityReason: string;  // ✅ 적합도 이유/설명
 }
 
+/**
+ * 👥 팀 역할 분배 응답
+ * 
+ * 📍 위치: backend/src/main/java/com/devmatch/backend/domain/analysis/dto/RoleAssignmentResponse.kt
+ * 🎯 목적: 팀 역할 분배 생성/조회 시 사용
+ * 📡 연관 API: POST /analysis/project/{projectId}/role-assignment
+ */
+export interface RoleAssignmentResponse {
+  projectId: number;            // ✅ 프로젝트 ID
+  content: string;              // ✅ AI 역할 분배 원문
+  members: {
+    userId: number;             // ✅ 팀원 사용자 ID
+    nickname: string;           // ✅ 팀원 닉네임
+    role: string;               // ✅ 배정된 역할
+    reason: string;             // ✅ 배정 이유
+  }[];
+  createdAt: string;            // ✅ 생성 시각 (ISO 8601)
+  reused: boolean;              // ✅ 팀 구성이 그대로라 저장된 결과를 돌려줬는지 여부
+}
+
 
 // ============================================
 // 📦 사용자 정의 타입들